@@ -0,0 +1,289 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.hateoas.Link;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.StringUtils;
+
+/**
+ * Cache for the responses of the intermediate requests ({@link Hop}s) issued during a {@link Traverson} traversal and
+ * the {@link Link}s discovered in them. Responses are keyed by request URI and request headers (including
+ * {@code Accept}) and only cached if they allow it via their {@code Cache-Control} header. A cached response is used
+ * without a request as long as the {@code max-age} it was served with has not expired. Stale responses exposing an
+ * {@code ETag} are revalidated with an {@code If-None-Match} request. Responses with {@code no-store} are never cached.
+ * <p>
+ * A single instance can be shared between multiple {@link Traverson} instances.
+ *
+ * @author Oliver Drotbohm
+ * @since 1.1
+ * @see Traverson#setHopCache(HopCache)
+ */
+public class HopCache {
+
+	private final Map<CacheKey, CachedResponse> responses = new ConcurrentReferenceHashMap<>();
+	private final Clock clock;
+
+	/**
+	 * Creates a new, empty {@link HopCache}.
+	 */
+	public HopCache() {
+		this(Clock.systemUTC());
+	}
+
+	/**
+	 * Creates a new, empty {@link HopCache} using the given {@link Clock} to determine the freshness of cached responses.
+	 *
+	 * @param clock must not be {@literal null}.
+	 */
+	HopCache(Clock clock) {
+
+		Assert.notNull(clock, "Clock must not be null!");
+
+		this.clock = clock;
+	}
+
+	/**
+	 * Removes all cached responses.
+	 */
+	public void clear() {
+		responses.clear();
+	}
+
+	/**
+	 * Returns the {@link Link} with the given relation from the response for the given URI and request headers. Uses a
+	 * fresh cached response if available, revalidates a stale one or issues a new request using the given exchange
+	 * function.
+	 *
+	 * @param uri must not be {@literal null}.
+	 * @param headers must not be {@literal null}.
+	 * @param rel must not be {@literal null} or empty.
+	 * @param exchange the function to issue a {@code GET} request with the given {@link HttpHeaders}, must not be
+	 *          {@literal null}.
+	 * @param extractor the function to extract the {@link Link} from a response, must not be {@literal null}.
+	 * @return
+	 */
+	Link getLink(URI uri, HttpHeaders headers, String rel, Function<HttpHeaders, ResponseEntity<byte[]>> exchange,
+			Function<ResponseEntity<byte[]>, Link> extractor) {
+		return lookup(uri, headers, exchange).getLink(rel, extractor);
+	}
+
+	/**
+	 * Returns the response for the given URI and request headers. Uses a fresh cached response if available,
+	 * revalidates a stale one or issues a new request using the given exchange function.
+	 *
+	 * @param uri must not be {@literal null}.
+	 * @param headers must not be {@literal null}.
+	 * @param exchange the function to issue a {@code GET} request with the given {@link HttpHeaders}, must not be
+	 *          {@literal null}.
+	 * @return
+	 */
+	ResponseEntity<byte[]> getResponse(URI uri, HttpHeaders headers,
+			Function<HttpHeaders, ResponseEntity<byte[]>> exchange) {
+		return lookup(uri, headers, exchange).response;
+	}
+
+	private CachedResponse lookup(URI uri, HttpHeaders headers, Function<HttpHeaders, ResponseEntity<byte[]>> exchange) {
+
+		CacheKey key = new CacheKey(uri, headers);
+		CachedResponse cached = responses.get(key);
+		Instant now = clock.instant();
+
+		if (cached != null && cached.isFreshAt(now)) {
+			return cached;
+		}
+
+		HttpHeaders toSend = headers;
+
+		if (cached != null && cached.etag != null) {
+
+			toSend = new HttpHeaders();
+			toSend.putAll(headers);
+			toSend.setIfNoneMatch(cached.etag);
+		}
+
+		ResponseEntity<byte[]> response = exchange.apply(toSend);
+
+		if (cached != null && response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+
+			CachedResponse revalidated = cached.revalidate(response.getHeaders(), now);
+			responses.put(key, revalidated);
+
+			return revalidated;
+		}
+
+		CachedResponse fresh = CachedResponse.of(response, now);
+
+		if (fresh == null) {
+
+			responses.remove(key);
+
+			return CachedResponse.uncached(response);
+		}
+
+		responses.put(key, fresh);
+
+		return fresh;
+	}
+
+	@EqualsAndHashCode
+	@RequiredArgsConstructor
+	private static class CacheKey {
+
+		private final URI uri;
+		private final HttpHeaders headers;
+	}
+
+	/**
+	 * A cached response along with the {@link Link}s already discovered in it.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	@RequiredArgsConstructor
+	private static class CachedResponse {
+
+		private final ResponseEntity<byte[]> response;
+		private final @Nullable String etag;
+		private final Duration maxAge;
+		private final Instant expires;
+		private final Map<String, Link> links;
+
+		/**
+		 * Creates a new {@link CachedResponse} for the given {@link ResponseEntity} received at the given point in time.
+		 * Returns {@literal null} if the response must not or cannot be cached.
+		 *
+		 * @param response must not be {@literal null}.
+		 * @param now must not be {@literal null}.
+		 * @return
+		 */
+		@Nullable
+		static CachedResponse of(ResponseEntity<byte[]> response, Instant now) {
+
+			HttpHeaders headers = response.getHeaders();
+			CacheDirectives directives = CacheDirectives.of(headers);
+			String etag = StringUtils.hasText(headers.getETag()) ? headers.getETag() : null;
+
+			if (!response.getStatusCode().is2xxSuccessful() || directives.noStore
+					|| (directives.maxAge.isZero() && etag == null)) {
+				return null;
+			}
+
+			return new CachedResponse(response, etag, directives.maxAge, now.plus(directives.maxAge),
+					new ConcurrentHashMap<>());
+		}
+
+		/**
+		 * Creates a {@link CachedResponse} for the given {@link ResponseEntity} that is not supposed to be kept in the
+		 * cache but only used for the current lookup.
+		 *
+		 * @param response must not be {@literal null}.
+		 * @return
+		 */
+		static CachedResponse uncached(ResponseEntity<byte[]> response) {
+			return new CachedResponse(response, null, Duration.ZERO, Instant.MIN, new HashMap<>());
+		}
+
+		boolean isFreshAt(Instant instant) {
+			return instant.isBefore(expires);
+		}
+
+		/**
+		 * Returns a new {@link CachedResponse} for the given {@link HttpHeaders} of a {@code 304 Not Modified} response
+		 * received at the given point in time. Links already discovered are retained.
+		 *
+		 * @param headers must not be {@literal null}.
+		 * @param now must not be {@literal null}.
+		 * @return
+		 */
+		CachedResponse revalidate(HttpHeaders headers, Instant now) {
+
+			Duration maxAge = headers.getCacheControl() == null ? this.maxAge : CacheDirectives.of(headers).maxAge;
+			String etag = StringUtils.hasText(headers.getETag()) ? headers.getETag() : this.etag;
+
+			return new CachedResponse(response, etag, maxAge, now.plus(maxAge), links);
+		}
+
+		Link getLink(String rel, Function<ResponseEntity<byte[]>, Link> extractor) {
+			return links.computeIfAbsent(rel, it -> extractor.apply(response));
+		}
+	}
+
+	/**
+	 * The caching related directives of a {@code Cache-Control} response header.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	@RequiredArgsConstructor
+	private static class CacheDirectives {
+
+		private final boolean noStore;
+		private final Duration maxAge;
+
+		static CacheDirectives of(HttpHeaders headers) {
+
+			String header = headers.getCacheControl();
+
+			if (!StringUtils.hasText(header)) {
+				return new CacheDirectives(false, Duration.ZERO);
+			}
+
+			boolean noStore = false;
+			boolean noCache = false;
+			Duration maxAge = Duration.ZERO;
+
+			for (String directive : StringUtils.commaDelimitedListToStringArray(header)) {
+
+				String normalized = directive.trim().toLowerCase();
+
+				if (normalized.equals("no-store")) {
+					noStore = true;
+				} else if (normalized.equals("no-cache")) {
+					noCache = true;
+				} else if (normalized.startsWith("max-age=")) {
+					maxAge = parseSeconds(normalized.substring("max-age=".length()));
+				}
+			}
+
+			return new CacheDirectives(noStore, noCache ? Duration.ZERO : maxAge);
+		}
+
+		private static Duration parseSeconds(String source) {
+
+			try {
+				return Duration.ofSeconds(Math.max(0, Long.parseLong(StringUtils.trimTrailingCharacter(source, '"'))));
+			} catch (NumberFormatException o_O) {
+				return Duration.ZERO;
+			}
+		}
+	}
+}
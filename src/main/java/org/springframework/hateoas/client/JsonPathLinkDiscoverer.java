@@ -24,9 +24,11 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.Links;
@@ -34,6 +36,7 @@ import org.springframework.http.MediaType;
 import org.springframework.lang.NonNull;
 import org.springframework.util.Assert;
 
+import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.PathNotFoundException;
@@ -46,8 +49,16 @@ import com.jayway.jsonpath.PathNotFoundException;
  */
 public class JsonPathLinkDiscoverer implements LinkDiscoverer {
 
+	private static final List<LinkRelation> PRECOMPILED_RELATIONS = Arrays.asList(IanaLinkRelations.SELF,
+			IanaLinkRelations.NEXT, IanaLinkRelations.PREV, IanaLinkRelations.FIRST, IanaLinkRelations.LAST,
+			IanaLinkRelations.ITEM, IanaLinkRelations.COLLECTION, IanaLinkRelations.UP, IanaLinkRelations.EDIT,
+			IanaLinkRelations.SEARCH, IanaLinkRelations.PROFILE, IanaLinkRelations.DESCRIBED_BY);
+	private static final Configuration CONFIGURATION = Configuration.defaultConfiguration();
+	private static final int MAX_EXPRESSIONS = 256;
+
 	private final String pathTemplate;
 	private final List<MediaType> mediaTypes;
+	private final Map<String, JsonPath> expressions;
 
 	/**
 	 * Creates a new {@link JsonPathLinkDiscoverer} using the given path template supporting the given {@link MediaType}.
@@ -63,6 +74,16 @@ public class JsonPathLinkDiscoverer implements LinkDiscoverer {
 
 		this.pathTemplate = pathTemplate;
 		this.mediaTypes = Arrays.asList(mediaTypes);
+		this.expressions = new ConcurrentHashMap<>(PRECOMPILED_RELATIONS.size());
+
+		PRECOMPILED_RELATIONS.forEach(it -> {
+
+			try {
+				getExpression(it);
+			} catch (InvalidPathException o_O) {
+				// Will be reported on lookup
+			}
+		});
 	}
 
 	/*
@@ -93,7 +114,7 @@ public class JsonPathLinkDiscoverer implements LinkDiscoverer {
 		Assert.notNull(relation, "LinkRelation must not be null!");
 
 		try {
-			Object parseResult = getExpression(relation).read(representation);
+			Object parseResult = getExpression(relation).read(representation, CONFIGURATION);
 			return createLinksFrom(parseResult, relation);
 		} catch (InvalidPathException e) {
 			return Links.NONE;
@@ -111,7 +132,7 @@ public class JsonPathLinkDiscoverer implements LinkDiscoverer {
 
 		try {
 
-			Object parseResult = getExpression(relation).read(representation);
+			Object parseResult = getExpression(relation).read(representation, CONFIGURATION);
 			return createLinksFrom(parseResult, relation);
 
 		} catch (IOException o_O) {
@@ -144,13 +165,28 @@ public class JsonPathLinkDiscoverer implements LinkDiscoverer {
 	}
 
 	/**
-	 * Returns the {@link JsonPath} to find links with the given relation type.
+	 * Returns the {@link JsonPath} to find links with the given relation type. Compiled expressions are cached per
+	 * relation for up to {@value #MAX_EXPRESSIONS} relations.
 	 *
 	 * @param rel
 	 * @return
 	 */
 	private JsonPath getExpression(LinkRelation rel) {
-		return JsonPath.compile(String.format(pathTemplate, rel.value()));
+
+		String value = rel.value();
+		JsonPath expression = expressions.get(value);
+
+		if (expression != null) {
+			return expression;
+		}
+
+		expression = JsonPath.compile(String.format(pathTemplate, value));
+
+		if (expressions.size() < MAX_EXPRESSIONS) {
+			expressions.putIfAbsent(value, expression);
+		}
+
+		return expression;
 	}
 
 	/**
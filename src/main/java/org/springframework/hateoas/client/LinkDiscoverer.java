@@ -139,4 +139,34 @@ public interface LinkDiscoverer extends Plugin<MediaType> {
 	 * @return will never be {@literal null}.
 	 */
 	Links findLinksWithRel(LinkRelation relation, InputStream representation);
+
+	/**
+	 * Returns all links found in the given {@link String} representation. Prefer this method over multiple
+	 * {@code find…WithRel(…)} calls if links for multiple relations are to be looked up from the same representation, as
+	 * the representation is only parsed once.
+	 *
+	 * @param representation must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @throws UnsupportedOperationException in case the implementation does not support looking up all links.
+	 * @since 1.1
+	 */
+	default Links findLinks(String representation) {
+		throw new UnsupportedOperationException(
+				String.format("%s does not support discovering all links!", getClass().getName()));
+	}
+
+	/**
+	 * Returns all links found in the given {@link InputStream} representation. Prefer this method over multiple
+	 * {@code find…WithRel(…)} calls if links for multiple relations are to be looked up from the same representation, as
+	 * the representation is only parsed once.
+	 *
+	 * @param representation must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @throws UnsupportedOperationException in case the implementation does not support looking up all links.
+	 * @since 1.1
+	 */
+	default Links findLinks(InputStream representation) {
+		throw new UnsupportedOperationException(
+				String.format("%s does not support discovering all links!", getClass().getName()));
+	}
 }
@@ -15,22 +15,35 @@
  */
 package org.springframework.hateoas.client;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.instrumentation.HypermediaInstrumentation.Cache;
+import org.springframework.hateoas.instrumentation.Instrumentation;
 import org.springframework.http.MediaType;
 import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * Value object to wrap a {@link PluginRegistry} for {@link LinkDiscoverer} so that it's easier to inject them into
- * clients wanting to lookup a {@link LinkDiscoverer} for a given {@link MediaTypes}.
+ * clients wanting to lookup a {@link LinkDiscoverer} for a given {@link MediaTypes}. Lookup results are cached per media
+ * type (including its parameters) and per media type {@link String}, so that repeated lookups for the same content type
+ * neither have to consult the {@link PluginRegistry} nor parse the media type again. Up to {@value #MAX_ENTRIES}
+ * entries are cached per key type as content types are usually controlled by the server a representation was obtained
+ * from.
  *
  * @author Oliver Gierke
  */
 public class LinkDiscoverers {
 
+	private static final int MAX_ENTRIES = 256;
+
 	private final PluginRegistry<LinkDiscoverer, MediaType> discoverers;
+	private final Map<MediaType, Optional<LinkDiscoverer>> byMediaType = new ConcurrentReferenceHashMap<>();
+	private final Map<String, Optional<LinkDiscoverer>> byMediaTypeString = new ConcurrentReferenceHashMap<>();
 
 	/**
 	 * Creates a new {@link LinkDiscoverers} instance with the given {@link PluginRegistry}.
@@ -50,7 +63,10 @@ public class LinkDiscoverers {
 	 * @return will never be {@literal null}.
 	 */
 	public Optional<LinkDiscoverer> getLinkDiscovererFor(MediaType mediaType) {
-		return discoverers.getPluginFor(mediaType);
+
+		Assert.notNull(mediaType, "MediaType must not be null!");
+
+		return lookup(byMediaType, mediaType, discoverers::getPluginFor);
 	}
 
 	/**
@@ -60,7 +76,10 @@ public class LinkDiscoverers {
 	 * @return
 	 */
 	public Optional<LinkDiscoverer> getLinkDiscovererFor(String mediaType) {
-		return getLinkDiscovererFor(MediaType.valueOf(mediaType));
+
+		Assert.hasText(mediaType, "Media type must not be null or empty!");
+
+		return lookup(byMediaTypeString, mediaType, it -> discoverers.getPluginFor(MediaType.valueOf(it)));
 	}
 
 	/**
@@ -70,7 +89,7 @@ public class LinkDiscoverers {
 	 * @return will never be {@literal null}.
 	 */
 	public LinkDiscoverer getRequiredLinkDiscovererFor(MediaType mediaType) {
-		return discoverers.getRequiredPluginFor(mediaType);
+		return getLinkDiscovererFor(mediaType).orElseGet(() -> discoverers.getRequiredPluginFor(mediaType));
 	}
 
 	/**
@@ -80,6 +99,28 @@ public class LinkDiscoverers {
 	 * @return
 	 */
 	public LinkDiscoverer getRequiredLinkDiscovererFor(String mediaType) {
-		return getRequiredLinkDiscovererFor(MediaType.valueOf(mediaType));
+
+		return getLinkDiscovererFor(mediaType) //
+				.orElseGet(() -> discoverers.getRequiredPluginFor(MediaType.valueOf(mediaType)));
+	}
+
+	private static <K> Optional<LinkDiscoverer> lookup(Map<K, Optional<LinkDiscoverer>> cache, K key,
+			Function<K, Optional<LinkDiscoverer>> resolver) {
+
+		Optional<LinkDiscoverer> discoverer = cache.get(key);
+
+		Instrumentation.recordCacheAccess(Cache.LINK_DISCOVERERS, discoverer != null);
+
+		if (discoverer != null) {
+			return discoverer;
+		}
+
+		discoverer = resolver.apply(key);
+
+		if (cache.size() < MAX_ENTRIES) {
+			cache.putIfAbsent(key, discoverer);
+		}
+
+		return discoverer;
 	}
 }
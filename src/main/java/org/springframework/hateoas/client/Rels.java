@@ -15,13 +15,22 @@
  */
 package org.springframework.hateoas.client;
 
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Optional;
 
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Links;
+import org.springframework.hateoas.instrumentation.HypermediaInstrumentation.Operation;
+import org.springframework.hateoas.instrumentation.Instrumentation;
 import org.springframework.http.MediaType;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 
 /**
@@ -62,6 +71,26 @@ class Rels {
 		 * @return
 		 */
 		Optional<Link> findInResponse(String representation, MediaType mediaType);
+
+		/**
+		 * Returns the link contained in the given representation of the given {@link MediaType}.
+		 *
+		 * @param representation will never be {@literal null}.
+		 * @param mediaType will never be {@literal null}.
+		 * @return
+		 * @since 1.1
+		 */
+		Optional<Link> findInResponse(InputStream representation, MediaType mediaType);
+
+		/**
+		 * Returns all links contained in the given representation of the given {@link MediaType}.
+		 *
+		 * @param representation will never be {@literal null}.
+		 * @param mediaType will never be {@literal null}.
+		 * @return
+		 * @since 1.1
+		 */
+		Links findAllInResponse(InputStream representation, MediaType mediaType);
 	}
 
 	/**
@@ -96,9 +125,33 @@ class Rels {
 		@Override
 		public Optional<Link> findInResponse(String response, MediaType mediaType) {
 
-			return discoverers //
+			return Instrumentation.time(Operation.LINK_DISCOVERY, rel, () -> discoverers //
+					.getRequiredLinkDiscovererFor(mediaType) //
+					.findLinkWithRel(rel, response));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.client.Rels.Rel#findInResponse(java.io.InputStream, org.springframework.http.MediaType)
+		 */
+		@Override
+		public Optional<Link> findInResponse(InputStream response, MediaType mediaType) {
+
+			return Instrumentation.time(Operation.LINK_DISCOVERY, rel, () -> discoverers //
 					.getRequiredLinkDiscovererFor(mediaType) //
-					.findLinkWithRel(rel, response);
+					.findLinkWithRel(rel, response));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.client.Rels.Rel#findAllInResponse(java.io.InputStream, org.springframework.http.MediaType)
+		 */
+		@Override
+		public Links findAllInResponse(InputStream response, MediaType mediaType) {
+
+			return Instrumentation.time(Operation.LINK_DISCOVERY, rel, () -> discoverers //
+					.getRequiredLinkDiscovererFor(mediaType) //
+					.findLinksWithRel(rel, response));
 		}
 
 		/*
@@ -119,6 +172,8 @@ class Rels {
 	 */
 	private static class JsonPathRel implements Rel {
 
+		private static final Configuration CONFIGURATION = Configuration.defaultConfiguration();
+
 		private final String jsonPath;
 		private final String rel;
 
@@ -145,5 +200,48 @@ class Rels {
 		public Optional<Link> findInResponse(@Nullable String representation, @Nullable MediaType mediaType) {
 			return Optional.of(Link.of(JsonPath.read(representation, jsonPath).toString(), rel));
 		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.client.Rels.Rel#findInResponse(java.io.InputStream, org.springframework.http.MediaType)
+		 */
+		@Override
+		public Optional<Link> findInResponse(InputStream representation, @Nullable MediaType mediaType) {
+			return Optional.of(Link.of(parse(representation, mediaType).read(jsonPath).toString(), rel));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.client.Rels.Rel#findAllInResponse(java.io.InputStream, org.springframework.http.MediaType)
+		 */
+		@Override
+		public Links findAllInResponse(InputStream representation, @Nullable MediaType mediaType) {
+
+			Object result = parse(representation, mediaType).read(jsonPath);
+
+			if (!(result instanceof Collection)) {
+				return Links.of(Link.of(result.toString(), rel));
+			}
+
+			return ((Collection<?>) result).stream() //
+					.map(it -> Link.of(it.toString(), rel)) //
+					.collect(Links.collector());
+		}
+
+		/**
+		 * Parses the given representation using the charset of the given {@link MediaType}, defaulting to UTF-8.
+		 *
+		 * @param representation must not be {@literal null}.
+		 * @param mediaType can be {@literal null}.
+		 * @return
+		 */
+		private static DocumentContext parse(InputStream representation, @Nullable MediaType mediaType) {
+
+			Charset charset = mediaType == null || mediaType.getCharset() == null //
+					? StandardCharsets.UTF_8 //
+					: mediaType.getCharset();
+
+			return JsonPath.using(CONFIGURATION).parse(representation, charset.name());
+		}
 	}
 }
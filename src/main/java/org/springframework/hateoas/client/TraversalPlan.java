@@ -0,0 +1,232 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * A fixed sequence of {@link Hop}s that remembers the (potentially templated) URI of the resource the sequence
+ * resolves to. Subsequent traversals using the plan skip the requests for the intermediate resources as long as the
+ * resolved route is younger than the plan's time to live. A route is invalidated if the request for the resource it
+ * points to results in a {@code 404 Not Found} or {@code 410 Gone}, and the traversal is retried once from the root.
+ * <p>
+ * Routes are kept per base URI, media types and request headers. If any of the {@link Hop}s carries template
+ * parameters, the global template parameters of a traversal also become part of the lookup, as they might influence
+ * intermediate URIs. Otherwise, the global template parameters are only used to expand the final URI.
+ * <p>
+ * A plan can be shared between multiple {@link Traverson} instances.
+ *
+ * @author Oliver Drotbohm
+ * @since 1.1
+ * @see Traverson#follow(TraversalPlan)
+ */
+public class TraversalPlan {
+
+	private static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(5);
+
+	private final List<Hop> hops;
+	private final boolean parameterized;
+	private final Duration timeToLive;
+	private final Clock clock;
+	private final Map<RouteKey, Route> routes;
+
+	private TraversalPlan(List<Hop> hops, Duration timeToLive, Clock clock) {
+
+		this.hops = Collections.unmodifiableList(hops);
+		this.parameterized = hops.stream().anyMatch(Hop::hasParameters);
+		this.timeToLive = timeToLive;
+		this.clock = clock;
+		this.routes = new ConcurrentReferenceHashMap<>();
+	}
+
+	/**
+	 * Creates a new {@link TraversalPlan} to follow the given relations one by one.
+	 *
+	 * @param rels must not be {@literal null} or empty.
+	 * @return
+	 */
+	public static TraversalPlan of(String... rels) {
+
+		Assert.notEmpty(rels, "Relations must not be null or empty!");
+
+		return new TraversalPlan(Arrays.stream(rels).map(Hop::rel).collect(Collectors.toList()), DEFAULT_TIME_TO_LIVE,
+				Clock.systemUTC());
+	}
+
+	/**
+	 * Creates a new {@link TraversalPlan} to follow the given {@link Hop}s one by one.
+	 *
+	 * @param hops must not be {@literal null} or empty.
+	 * @return
+	 */
+	public static TraversalPlan of(Hop... hops) {
+
+		Assert.notEmpty(hops, "Hops must not be null or empty!");
+		Assert.noNullElements(hops, "Hops must not contain null elements!");
+
+		return new TraversalPlan(Arrays.asList(hops), DEFAULT_TIME_TO_LIVE, Clock.systemUTC());
+	}
+
+	/**
+	 * Returns a new {@link TraversalPlan} for the same {@link Hop}s that keeps resolved routes for the given
+	 * {@link Duration}. Defaults to five minutes.
+	 *
+	 * @param timeToLive must not be {@literal null} or negative.
+	 * @return
+	 */
+	public TraversalPlan withTimeToLive(Duration timeToLive) {
+
+		Assert.notNull(timeToLive, "Time to live must not be null!");
+		Assert.isTrue(!timeToLive.isNegative(), "Time to live must not be negative!");
+
+		return new TraversalPlan(hops, timeToLive, clock);
+	}
+
+	/**
+	 * Returns a new {@link TraversalPlan} for the same {@link Hop}s using the given {@link Clock} to determine the age of
+	 * resolved routes.
+	 *
+	 * @param clock must not be {@literal null}.
+	 * @return
+	 */
+	TraversalPlan withClock(Clock clock) {
+
+		Assert.notNull(clock, "Clock must not be null!");
+
+		return new TraversalPlan(hops, timeToLive, clock);
+	}
+
+	/**
+	 * Removes all resolved routes.
+	 */
+	public void clear() {
+		routes.clear();
+	}
+
+	List<Hop> getHops() {
+		return hops;
+	}
+
+	/**
+	 * Creates the lookup key for a route resolved from the given base {@link URI} using the given {@link MediaType}s,
+	 * request headers and global template parameters.
+	 *
+	 * @param baseUri must not be {@literal null}.
+	 * @param mediaTypes must not be {@literal null}.
+	 * @param headers must not be {@literal null}.
+	 * @param parameters must not be {@literal null}.
+	 * @return
+	 */
+	RouteKey getKey(URI baseUri, List<MediaType> mediaTypes, HttpHeaders headers, Map<String, Object> parameters) {
+
+		HttpHeaders headersCopy = new HttpHeaders();
+		headersCopy.putAll(headers);
+
+		return new RouteKey(baseUri, mediaTypes, headersCopy,
+				parameterized ? new HashMap<>(parameters) : Collections.emptyMap());
+	}
+
+	/**
+	 * Returns the route resolved for the given {@link RouteKey} if it has not expired yet.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return
+	 */
+	@Nullable
+	Route getRoute(RouteKey key) {
+
+		Route route = routes.get(key);
+
+		if (route == null) {
+			return null;
+		}
+
+		if (!clock.instant().isBefore(route.getExpires())) {
+
+			routes.remove(key, route);
+
+			return null;
+		}
+
+		return route;
+	}
+
+	/**
+	 * Registers the given (potentially templated) URI and headers as resolved route for the given {@link RouteKey}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param uri must not be {@literal null}.
+	 * @param headers must not be {@literal null}.
+	 */
+	void putRoute(RouteKey key, String uri, HttpHeaders headers) {
+
+		if (!timeToLive.isZero()) {
+			routes.put(key, new Route(uri, headers, clock.instant().plus(timeToLive)));
+		}
+	}
+
+	/**
+	 * Removes the route resolved for the given {@link RouteKey}.
+	 *
+	 * @param key must not be {@literal null}.
+	 */
+	void invalidate(RouteKey key) {
+		routes.remove(key);
+	}
+
+	@EqualsAndHashCode
+	@RequiredArgsConstructor
+	static class RouteKey {
+
+		private final URI baseUri;
+		private final List<MediaType> mediaTypes;
+		private final HttpHeaders headers;
+		private final Map<String, Object> parameters;
+	}
+
+	/**
+	 * A resolved route, i.e. the (potentially templated) URI the {@link Hop}s of the plan lead to, along with the headers
+	 * to be used for the request to it.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	@Value
+	static class Route {
+
+		String uri;
+		HttpHeaders headers;
+		Instant expires;
+	}
+}
@@ -20,33 +20,64 @@ import static org.springframework.http.HttpMethod.*;
 import lombok.RequiredArgsConstructor;
 import lombok.Value;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.core.io.support.SpringFactoriesLoader;
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Links;
+import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.UriTemplate;
 import org.springframework.hateoas.client.Rels.Rel;
+import org.springframework.hateoas.client.TraversalPlan.Route;
+import org.springframework.hateoas.client.TraversalPlan.RouteKey;
+import org.springframework.hateoas.instrumentation.HypermediaInstrumentation.Operation;
+import org.springframework.hateoas.instrumentation.HypermediaInstrumentation.Sample;
+import org.springframework.hateoas.instrumentation.Instrumentation;
 import org.springframework.hateoas.mediatype.hal.HalLinkDiscoverer;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.lang.Nullable;
 import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.HttpMessageConverterExtractor;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestOperations;
 import org.springframework.web.client.RestTemplate;
 
+import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.spi.json.JsonProvider;
 
 /**
  * Component to ease traversing hypermedia APIs by following links with relation types. Highly inspired by the equally
@@ -64,6 +95,7 @@ import com.jayway.jsonpath.JsonPath;
 public class Traverson {
 
 	private static final TraversonDefaults DEFAULTS;
+	private static final Configuration JSON_PATH_CONFIGURATION = Configuration.defaultConfiguration();
 
 	static {
 
@@ -85,6 +117,7 @@ public class Traverson {
 
 	private RestOperations operations;
 	private LinkDiscoverers discoverers;
+	private @Nullable HopCache hopCache;
 
 	/**
 	 * Creates a new {@link Traverson} interacting with the given base URI and using the given {@link MediaType}s to
@@ -126,6 +159,16 @@ public class Traverson {
 		return DEFAULTS.getHttpMessageConverters(Arrays.asList(mediaTypes));
 	}
 
+	/**
+	 * Returns the {@link LinkDiscoverer}s that will be registered for the given {@link MediaType}s by default.
+	 *
+	 * @param mediaTypes must not be {@literal null}.
+	 * @return
+	 */
+	static List<LinkDiscoverer> getDefaultLinkDiscoverers(List<MediaType> mediaTypes) {
+		return DEFAULTS.getLinkDiscoverers(mediaTypes);
+	}
+
 	private static RestOperations createDefaultTemplate(List<MediaType> mediaTypes) {
 
 		RestTemplate template = new RestTemplate();
@@ -168,6 +211,22 @@ public class Traverson {
 		return this;
 	}
 
+	/**
+	 * Configures the {@link HopCache} to use for the requests issued to discover the links to follow. The request for
+	 * the final representation of a traversal is never cached. If {@literal null} is provided, no caching is applied,
+	 * which is the default.
+	 *
+	 * @param cache can be {@literal null}.
+	 * @return
+	 * @since 1.1
+	 */
+	public Traverson setHopCache(@Nullable HopCache cache) {
+
+		this.hopCache = cache;
+
+		return this;
+	}
+
 	/**
 	 * Sets up a {@link TraversalBuilder} to follow the given rels.
 	 *
@@ -189,6 +248,48 @@ public class Traverson {
 		return new TraversalBuilder().follow(hop);
 	}
 
+	/**
+	 * Sets up a {@link TraversalBuilder} to follow the {@link Hop}s of the given {@link TraversalPlan}. The plan remembers
+	 * the route resolved by the traversal so that subsequent traversals using it only issue the request for the final
+	 * resource.
+	 *
+	 * @param plan must not be {@literal null}.
+	 * @return
+	 * @since 1.1
+	 * @see TraversalPlan
+	 */
+	public TraversalBuilder follow(TraversalPlan plan) {
+
+		Assert.notNull(plan, "Traversal plan must not be null!");
+
+		return new TraversalBuilder(plan);
+	}
+
+	private static RequestCallback toRequestCallback(HttpHeaders headers) {
+		return request -> request.getHeaders().putAll(headers);
+	}
+
+	private static ResponseEntity<byte[]> toBufferedResponse(ClientHttpResponse response) throws IOException {
+		return new ResponseEntity<>(StreamUtils.copyToByteArray(response.getBody()), response.getHeaders(),
+				response.getStatusCode());
+	}
+
+	private static Charset getCharset(HttpHeaders headers) {
+
+		MediaType contentType = headers.getContentType();
+
+		return contentType == null || contentType.getCharset() == null //
+				? StandardCharsets.UTF_8 //
+				: contentType.getCharset();
+	}
+
+	private List<HttpMessageConverter<?>> getMessageConverters() {
+
+		return operations instanceof RestTemplate //
+				? ((RestTemplate) operations).getMessageConverters() //
+				: DEFAULTS.getHttpMessageConverters(mediaTypes);
+	}
+
 	private HttpEntity<?> prepareRequest(HttpHeaders headers) {
 
 		HttpHeaders toSend = new HttpHeaders();
@@ -209,13 +310,26 @@ public class Traverson {
 	public class TraversalBuilder {
 
 		private static final String MEDIA_TYPE_HEADER_NOT_FOUND = "Response for request to %s did not expose a content type! Unable to identify links!";
-		private static final String LINK_NOT_FOUND = "Expected to find link with rel '%s' in response %s!";
+		private static final String LINK_NOT_FOUND = "Expected to find link with rel '%s' in response for request to %s: %s!";
+		private static final String EMBEDDED_NOT_READABLE = "Could not read resource embedded for rel '%s' in response for request to %s!";
+
+		private static final String PLANNED_TRAVERSAL = "Cannot add hops to a traversal following a TraversalPlan!";
 
 		private final List<Hop> rels = new ArrayList<>();
+		private final @Nullable TraversalPlan plan;
 		private Map<String, Object> templateParameters = new HashMap<>();
 		private HttpHeaders headers = new HttpHeaders();
+		private boolean preferEmbedded = false;
+
+		private TraversalBuilder() {
+			this.plan = null;
+		}
 
-		private TraversalBuilder() {}
+		private TraversalBuilder(TraversalPlan plan) {
+
+			this.plan = plan;
+			this.rels.addAll(plan.getHops());
+		}
 
 		/**
 		 * Follows the given rels one by one, which means a request per rel to discover the next resource with the rel in
@@ -227,6 +341,7 @@ public class Traverson {
 		public TraversalBuilder follow(String... rels) {
 
 			Assert.notNull(rels, "Rels must not be null!");
+			Assert.state(plan == null, PLANNED_TRAVERSAL);
 
 			Arrays.stream(rels) //
 					.map(Hop::rel) //
@@ -246,6 +361,7 @@ public class Traverson {
 		public TraversalBuilder follow(Hop hop) {
 
 			Assert.notNull(hop, "Hop must not be null!");
+			Assert.state(plan == null, PLANNED_TRAVERSAL);
 
 			this.rels.add(hop);
 
@@ -281,6 +397,22 @@ public class Traverson {
 			return this;
 		}
 
+		/**
+		 * Uses resources embedded into HAL representations ({@code _embedded}) under the relation to follow instead of
+		 * requesting them via their links. Falls back to following the link if no single resource is embedded for the
+		 * relation. {@link Hop}s carrying parameters are always followed via their links. Only applies to the
+		 * {@code toObject(…)} methods and is not applied to traversals following a {@link TraversalPlan}.
+		 *
+		 * @return
+		 * @since 1.1
+		 */
+		public TraversalBuilder preferEmbedded() {
+
+			this.preferEmbedded = true;
+
+			return this;
+		}
+
 		/**
 		 * Executes the traversal and marshals the final response into an object of the given type.
 		 *
@@ -292,10 +424,15 @@ public class Traverson {
 
 			Assert.notNull(type, "Target type must not be null!");
 
-			URIAndHeaders uriAndHeaders = traverseToExpandedFinalUrl();
-			HttpEntity<?> requestEntity = prepareRequest(mergeHeaders(this.headers, uriAndHeaders.getHttpHeaders()));
+			HttpMessageConverterExtractor<T> extractor = new HttpMessageConverterExtractor<>(type, getMessageConverters());
+
+			return traverseAndExecute(uriAndHeaders -> {
+
+				HttpEntity<?> requestEntity = prepareRequest(mergeHeaders(this.headers, uriAndHeaders.getHttpHeaders()));
 
-			return operations.exchange(uriAndHeaders.getUri(), GET, requestEntity, type).getBody();
+				return operations.exchange(uriAndHeaders.getUri(), GET, requestEntity, type);
+
+			}, embedded -> ResponseEntity.ok(extractor.extractData(embedded))).getBody();
 		}
 
 		/**
@@ -310,10 +447,16 @@ public class Traverson {
 
 			Assert.notNull(type, "Target type must not be null!");
 
-			URIAndHeaders uriAndHeaders = traverseToExpandedFinalUrl();
-			HttpEntity<?> requestEntity = prepareRequest(mergeHeaders(this.headers, uriAndHeaders.getHttpHeaders()));
+			HttpMessageConverterExtractor<T> extractor = new HttpMessageConverterExtractor<>(type.getType(),
+					getMessageConverters());
+
+			return traverseAndExecute(uriAndHeaders -> {
 
-			return operations.exchange(uriAndHeaders.getUri(), GET, requestEntity, type).getBody();
+				HttpEntity<?> requestEntity = prepareRequest(mergeHeaders(this.headers, uriAndHeaders.getHttpHeaders()));
+
+				return operations.exchange(uriAndHeaders.getUri(), GET, requestEntity, type);
+
+			}, embedded -> ResponseEntity.ok(extractor.extractData(embedded))).getBody();
 		}
 
 		/**
@@ -327,12 +470,18 @@ public class Traverson {
 
 			Assert.hasText(jsonPath, "JSON path must not be null or empty!");
 
-			URIAndHeaders uriAndHeaders = traverseToExpandedFinalUrl();
-			HttpEntity<?> requestEntity = prepareRequest(mergeHeaders(this.headers, uriAndHeaders.getHttpHeaders()));
+			ResponseExtractor<T> extractor = response -> JsonPath.using(JSON_PATH_CONFIGURATION) //
+					.parse(response.getBody(), getCharset(response.getHeaders()).name()) //
+					.read(jsonPath);
+
+			return traverseAndExecute(uriAndHeaders -> {
+
+				HttpEntity<?> requestEntity = prepareRequest(mergeHeaders(this.headers, uriAndHeaders.getHttpHeaders()));
 
-			String forObject = operations.exchange(uriAndHeaders.getUri(), GET, requestEntity, String.class).getBody();
+				return operations.execute(uriAndHeaders.getUri(), GET, toRequestCallback(requestEntity.getHeaders()),
+						extractor);
 
-			return JsonPath.read(forObject, jsonPath);
+			}, extractor);
 		}
 
 		/**
@@ -345,10 +494,12 @@ public class Traverson {
 
 			Assert.notNull(type, "Target type must not be null!");
 
-			URIAndHeaders uriAndHeaders = traverseToExpandedFinalUrl();
-			HttpEntity<?> requestEntity = prepareRequest(mergeHeaders(this.headers, uriAndHeaders.getHttpHeaders()));
+			return traverseAndExecute(uriAndHeaders -> {
 
-			return operations.exchange(uriAndHeaders.getUri(), GET, requestEntity, type);
+				HttpEntity<?> requestEntity = prepareRequest(mergeHeaders(this.headers, uriAndHeaders.getHttpHeaders()));
+
+				return operations.exchange(uriAndHeaders.getUri(), GET, requestEntity, type);
+			});
 		}
 
 		/**
@@ -373,6 +524,36 @@ public class Traverson {
 			return traverseToLink(false);
 		}
 
+		/**
+		 * Follows all links with the given relation found in the final representation of the traversal so far. The
+		 * resources these links point to are fetched individually, concurrently if an {@link Executor} is configured on the
+		 * returned {@link FanOutBuilder}.
+		 *
+		 * @param rel must not be {@literal null} or empty.
+		 * @return
+		 * @since 1.1
+		 */
+		public FanOutBuilder followAll(String rel) {
+			return followAll(Hop.rel(rel));
+		}
+
+		/**
+		 * Follows all links with the relation of the given {@link Hop} found in the final representation of the traversal
+		 * so far. The {@link Hop}'s parameters are used to expand the links discovered, its headers are added to the
+		 * requests for the individual resources.
+		 *
+		 * @param hop must not be {@literal null}.
+		 * @return
+		 * @since 1.1
+		 * @see #followAll(String)
+		 */
+		public FanOutBuilder followAll(Hop hop) {
+
+			Assert.notNull(hop, "Hop must not be null!");
+
+			return new FanOutBuilder(hop);
+		}
+
 		private Link traverseToLink(boolean expandFinalUrl) {
 
 			Assert.isTrue(rels.size() > 0, "At least one rel needs to be provided!");
@@ -383,48 +564,286 @@ public class Traverson {
 
 		private UriStringAndHeaders traverseToFinalUrl() {
 
-			UriStringAndHeaders uriAndHeaders = getAndFindLinkWithRel(baseUri.toString(), rels.iterator(), HttpHeaders.EMPTY);
+			UriStringAndHeaders uriAndHeaders = resolveFinalUrl();
 
 			return new UriStringAndHeaders(UriTemplate.of(uriAndHeaders.getUri()).toString(), uriAndHeaders.getHttpHeaders());
 		}
 
 		private URIAndHeaders traverseToExpandedFinalUrl() {
+			return expand(resolveFinalUrl());
+		}
 
-			UriStringAndHeaders uriAndHeaders = getAndFindLinkWithRel(baseUri.toString(), rels.iterator(), HttpHeaders.EMPTY);
+		private URIAndHeaders expand(UriStringAndHeaders uriAndHeaders) {
 
 			return new URIAndHeaders(UriTemplate.of(uriAndHeaders.getUri()).expand(templateParameters),
 					uriAndHeaders.getHttpHeaders());
 		}
 
+		/**
+		 * Resolves the (potentially templated) URI of the final resource of the traversal. Uses the route remembered by the
+		 * {@link TraversalPlan} if present and registers newly resolved ones with it.
+		 *
+		 * @return
+		 */
+		private UriStringAndHeaders resolveFinalUrl() {
+
+			TraversalPlan plan = this.plan;
+
+			if (plan == null) {
+				return getAndFindLinkWithRel(baseUri.toString(), rels.iterator(), HttpHeaders.EMPTY);
+			}
+
+			RouteKey key = plan.getKey(baseUri, mediaTypes, headers, templateParameters);
+			Route route = plan.getRoute(key);
+
+			return route == null //
+					? resolveRoute(plan, key) //
+					: new UriStringAndHeaders(route.getUri(), route.getHeaders());
+		}
+
+		private UriStringAndHeaders resolveRoute(TraversalPlan plan, RouteKey key) {
+
+			UriStringAndHeaders uriAndHeaders = getAndFindLinkWithRel(baseUri.toString(), rels.iterator(), HttpHeaders.EMPTY);
+
+			plan.putRoute(key, uriAndHeaders.getUri(), uriAndHeaders.getHttpHeaders());
+
+			return uriAndHeaders;
+		}
+
+		/**
+		 * Applies the given request function to the expanded URI of the final resource of the traversal. If the URI was
+		 * taken from a route remembered by the {@link TraversalPlan} and the request results in a {@code 404 Not Found} or
+		 * {@code 410 Gone}, the route is invalidated and the request is retried once after resolving the route again.
+		 *
+		 * @param request must not be {@literal null}.
+		 * @return
+		 */
+		private <T> T traverseAndExecute(Function<URIAndHeaders, T> request) {
+
+			TraversalPlan plan = this.plan;
+
+			if (plan == null) {
+				return request.apply(traverseToExpandedFinalUrl());
+			}
+
+			RouteKey key = plan.getKey(baseUri, mediaTypes, headers, templateParameters);
+			Route route = plan.getRoute(key);
+
+			if (route != null) {
+
+				try {
+
+					T result = request.apply(expand(new UriStringAndHeaders(route.getUri(), route.getHeaders())));
+
+					if (!isGone(result)) {
+						return result;
+					}
+
+				} catch (HttpStatusCodeException o_O) {
+
+					if (!isGone(o_O.getStatusCode())) {
+						throw o_O;
+					}
+				}
+
+				plan.invalidate(key);
+			}
+
+			T result = request.apply(expand(resolveRoute(plan, key)));
+
+			if (isGone(result)) {
+				plan.invalidate(key);
+			}
+
+			return result;
+		}
+
+		/**
+		 * Applies the given request function to the expanded URI of the final resource of the traversal unless the final
+		 * resource is embedded in the representation of the previous one and embedded resources are preferred. In that
+		 * case, the given {@link ResponseExtractor} is applied to the embedded representation.
+		 *
+		 * @param request must not be {@literal null}.
+		 * @param embeddedExtractor must not be {@literal null}.
+		 * @return
+		 * @see #preferEmbedded()
+		 */
+		private <T> T traverseAndExecute(Function<URIAndHeaders, T> request, ResponseExtractor<T> embeddedExtractor) {
+
+			if (!preferEmbedded || plan != null) {
+				return traverseAndExecute(request);
+			}
+
+			String uri = baseUri.toString();
+			HttpHeaders extraHeaders = HttpHeaders.EMPTY;
+			URI source = baseUri;
+			ResponseEntity<byte[]> current = null;
+
+			for (Hop hop : rels) {
+
+				Sample sample = Instrumentation.get().start(Operation.TRAVERSON_HOP, hop.getRel());
+
+				try {
+
+					if (current == null) {
+						source = UriTemplate.of(uri).expand();
+						current = fetchBuffered(source, extraHeaders);
+					}
+
+					ResponseEntity<byte[]> embedded = hop.hasParameters() ? null : findEmbedded(current, hop.getRel());
+
+					if (embedded != null) {
+						current = embedded;
+						continue;
+					}
+
+					Rel rel = Rels.getRelFor(hop.getRel(), discoverers);
+					Link link = findLink(source, current.getHeaders(), new ByteArrayInputStream(current.getBody()), rel);
+
+					uri = hop.hasParameters() //
+							? link.expand(hop.getMergedParameters(templateParameters)).getHref() //
+							: link.getHref();
+					extraHeaders = hop.getHeaders();
+					current = null;
+
+				} finally {
+					sample.stop();
+				}
+			}
+
+			if (current == null) {
+				return request.apply(expand(new UriStringAndHeaders(uri, extraHeaders)));
+			}
+
+			try {
+				return embeddedExtractor.extractData(new BufferedResponse(current));
+			} catch (IOException o_O) {
+				throw new RestClientException(String.format(EMBEDDED_NOT_READABLE, rels.get(rels.size() - 1).getRel(), source),
+						o_O);
+			}
+		}
+
+		private ResponseEntity<byte[]> fetchBuffered(URI target, HttpHeaders extraHeaders) {
+
+			HttpEntity<?> request = prepareRequest(mergeHeaders(this.headers, extraHeaders));
+			HopCache cache = hopCache;
+
+			return cache == null //
+					? operations.execute(target, GET, toRequestCallback(request.getHeaders()), Traverson::toBufferedResponse) //
+					: cache.getResponse(target, request.getHeaders(),
+							headers -> operations.execute(target, GET, toRequestCallback(headers), Traverson::toBufferedResponse));
+		}
+
+		/**
+		 * Returns the single resource embedded under the given relation in the given HAL response or {@literal null} if
+		 * the response is not a HAL one or doesn't embed a single resource for the relation.
+		 *
+		 * @param response must not be {@literal null}.
+		 * @param rel must not be {@literal null} or empty.
+		 * @return
+		 */
+		@Nullable
+		private ResponseEntity<byte[]> findEmbedded(ResponseEntity<byte[]> response, String rel) {
+
+			MediaType contentType = response.getHeaders().getContentType();
+			byte[] body = response.getBody();
+
+			if (contentType == null || !contentType.isCompatibleWith(MediaTypes.HAL_JSON) || body == null
+					|| rel.startsWith("$")) {
+				return null;
+			}
+
+			Charset charset = getCharset(response.getHeaders());
+			JsonProvider provider = JSON_PATH_CONFIGURATION.jsonProvider();
+			Object document = provider.parse(new ByteArrayInputStream(body), charset.name());
+
+			if (!provider.isMap(document)) {
+				return null;
+			}
+
+			Object embeddeds = provider.getMapValue(document, "_embedded");
+
+			if (!provider.isMap(embeddeds)) {
+				return null;
+			}
+
+			Object embedded = provider.getMapValue(embeddeds, rel);
+
+			if (!provider.isMap(embedded)) {
+				return null;
+			}
+
+			HttpHeaders headers = new HttpHeaders();
+			headers.setContentType(contentType);
+
+			return new ResponseEntity<>(provider.toJson(embedded).getBytes(charset), headers, HttpStatus.OK);
+		}
+
+		private boolean isGone(@Nullable Object result) {
+			return result instanceof ResponseEntity && isGone(((ResponseEntity<?>) result).getStatusCode());
+		}
+
+		private boolean isGone(HttpStatus status) {
+			return HttpStatus.NOT_FOUND.equals(status) || HttpStatus.GONE.equals(status);
+		}
+
 		private UriStringAndHeaders getAndFindLinkWithRel(String uri, Iterator<Hop> rels, HttpHeaders extraHeaders) {
 
 			if (!rels.hasNext()) {
 				return new UriStringAndHeaders(uri, extraHeaders);
 			}
 
+			Hop thisHop = rels.next();
+			String linkTarget = Instrumentation.time(Operation.TRAVERSON_HOP, thisHop.getRel(),
+					() -> followHop(uri, thisHop, extraHeaders));
+
+			return getAndFindLinkWithRel(linkTarget, rels, thisHop.getHeaders());
+		}
+
+		private String followHop(String uri, Hop hop, HttpHeaders extraHeaders) {
+
 			HttpEntity<?> request = prepareRequest(mergeHeaders(this.headers, extraHeaders));
 			URI target = UriTemplate.of(uri).expand();
+			Rel rel = Rels.getRelFor(hop.getRel(), discoverers);
+
+			HopCache cache = hopCache;
+
+			Link link = cache == null //
+					? operations.execute(target, GET, toRequestCallback(request.getHeaders()),
+							response -> findLink(target, response.getHeaders(), response.getBody(), rel)) //
+					: cache.getLink(target, request.getHeaders(), hop.getRel(),
+							headers -> operations.execute(target, GET, toRequestCallback(headers), Traverson::toBufferedResponse),
+							it -> findLink(target, it.getHeaders(), new ByteArrayInputStream(it.getBody()), rel));
+
+			return hop.hasParameters() //
+					? link.expand(hop.getMergedParameters(templateParameters)).getHref() //
+					: link.getHref();
+		}
+
+		private Link findLink(URI target, HttpHeaders headers, InputStream body, Rel rel) {
 
-			ResponseEntity<String> responseEntity = operations.exchange(target, GET, request, String.class);
-			MediaType contentType = responseEntity.getHeaders().getContentType();
+			MediaType contentType = headers.getContentType();
 
 			if (contentType == null) {
 				throw new IllegalStateException(String.format(MEDIA_TYPE_HEADER_NOT_FOUND, target));
 			}
 
-			String responseBody = responseEntity.getBody();
+			RecordingInputStream recording = new RecordingInputStream(body);
 
-			Hop thisHop = rels.next();
-			Rel rel = Rels.getRelFor(thisHop.getRel(), discoverers);
+			return rel.findInResponse(recording, contentType) //
+					.orElseThrow(() -> new IllegalStateException(
+							String.format(LINK_NOT_FOUND, rel, target, recording.getContent(getCharset(headers)))));
+		}
 
-			Link link = rel.findInResponse(responseBody == null ? "" : responseBody, contentType) //
-					.orElseThrow(() -> new IllegalStateException(String.format(LINK_NOT_FOUND, rel, responseBody)));
+		private Links findLinks(URI target, HttpHeaders headers, InputStream body, Rel rel) {
 
-			String linkTarget = thisHop.hasParameters() //
-					? link.expand(thisHop.getMergedParameters(templateParameters)).getHref() //
-					: link.getHref();
+			MediaType contentType = headers.getContentType();
 
-			return getAndFindLinkWithRel(linkTarget, rels, thisHop.getHeaders());
+			if (contentType == null) {
+				throw new IllegalStateException(String.format(MEDIA_TYPE_HEADER_NOT_FOUND, target));
+			}
+
+			return rel.findAllInResponse(body, contentType);
 		}
 
 		/**
@@ -443,6 +862,194 @@ public class Traverson {
 
 			return mergedHeaders;
 		}
+
+		/**
+		 * Builder API to customize the fetching of all resources linked with a particular relation. The resources are
+		 * fetched in the calling thread by default. Configure an {@link Executor} to fetch them concurrently. The results
+		 * are always returned in the order the links were discovered in.
+		 *
+		 * @author Oliver Drotbohm
+		 * @since 1.1
+		 * @see TraversalBuilder#followAll(String)
+		 */
+		public class FanOutBuilder {
+
+			private final Hop hop;
+			private @Nullable Executor executor;
+			private int parallelism = Integer.MAX_VALUE;
+
+			private FanOutBuilder(Hop hop) {
+				this.hop = hop;
+			}
+
+			/**
+			 * Configures the {@link Executor} to fetch the linked resources on. If {@literal null} is provided, the resources
+			 * are fetched one after another in the calling thread, which is the default.
+			 *
+			 * @param executor can be {@literal null}.
+			 * @return
+			 */
+			public FanOutBuilder withExecutor(@Nullable Executor executor) {
+
+				this.executor = executor;
+
+				return this;
+			}
+
+			/**
+			 * Configures the maximum number of resources to be fetched concurrently on the configured {@link Executor}. By
+			 * default, the parallelism is only limited by the {@link Executor} itself.
+			 *
+			 * @param parallelism must be greater than zero.
+			 * @return
+			 */
+			public FanOutBuilder withParallelism(int parallelism) {
+
+				Assert.isTrue(parallelism > 0, "Parallelism must be greater than zero!");
+
+				this.parallelism = parallelism;
+
+				return this;
+			}
+
+			/**
+			 * Fetches all linked resources and marshals them into objects of the given type.
+			 *
+			 * @param type must not be {@literal null}.
+			 * @return
+			 */
+			public <T> List<T> toObject(Class<T> type) {
+
+				Assert.notNull(type, "Target type must not be null!");
+
+				return fetchAll(it -> operations.exchange(it, GET, prepareFanOutRequest(), type).getBody());
+			}
+
+			/**
+			 * Fetches all linked resources and marshals them into objects of the given {@link ParameterizedTypeReference}.
+			 *
+			 * @param type must not be {@literal null}.
+			 * @return
+			 */
+			public <T> List<T> toObject(ParameterizedTypeReference<T> type) {
+
+				Assert.notNull(type, "Target type must not be null!");
+
+				return fetchAll(it -> operations.exchange(it, GET, prepareFanOutRequest(), type).getBody());
+			}
+
+			/**
+			 * Fetches all linked resources and returns the results of the given JSON Path expression evaluated against their
+			 * representations.
+			 *
+			 * @param jsonPath must not be {@literal null} or empty.
+			 * @return
+			 */
+			public <T> List<T> toObject(String jsonPath) {
+
+				Assert.hasText(jsonPath, "JSON path must not be null or empty!");
+
+				return fetchAll(it -> operations.execute(it, GET, toRequestCallback(prepareFanOutRequest().getHeaders()),
+						response -> JsonPath.using(JSON_PATH_CONFIGURATION) //
+								.parse(response.getBody(), getCharset(response.getHeaders()).name()) //
+								.<T> read(jsonPath)));
+			}
+
+			/**
+			 * Returns all expanded {@link Link}s found for the relation to follow without fetching the resources they point
+			 * to.
+			 *
+			 * @return
+			 */
+			public List<Link> asLinks() {
+
+				return getTargets().stream() //
+						.map(it -> Link.of(it.toString(), hop.getRel())) //
+						.collect(Collectors.toList());
+			}
+
+			private List<URI> getTargets() {
+
+				Rel rel = Rels.getRelFor(hop.getRel(), discoverers);
+				Map<String, Object> parameters = hop.getMergedParameters(templateParameters);
+
+				Links links = traverseAndExecute(uriAndHeaders -> {
+
+					URI source = uriAndHeaders.getUri();
+					HttpEntity<?> request = prepareRequest(mergeHeaders(headers, uriAndHeaders.getHttpHeaders()));
+
+					return operations.execute(source, GET, toRequestCallback(request.getHeaders()),
+							response -> findLinks(source, response.getHeaders(), response.getBody(), rel));
+				});
+
+				return links == null //
+						? Collections.emptyList() //
+						: links.stream() //
+								.map(it -> UriTemplate.of(it.getHref()).expand(parameters)) //
+								.collect(Collectors.toList());
+			}
+
+			private HttpEntity<?> prepareFanOutRequest() {
+				return prepareRequest(mergeHeaders(headers, hop.getHeaders()));
+			}
+
+			/**
+			 * Applies the given function to all target {@link URI}s, using at most {@link #parallelism} concurrent tasks on
+			 * the configured {@link Executor}. Results are kept in discovery order, the first failure aborts the fetching of
+			 * the remaining resources and is rethrown.
+			 *
+			 * @param function must not be {@literal null}.
+			 * @return
+			 */
+			@SuppressWarnings("unchecked")
+			private <T> List<T> fetchAll(Function<URI, T> function) {
+
+				List<URI> targets = getTargets();
+				Object[] results = new Object[targets.size()];
+				Executor executor = this.executor;
+
+				if (executor == null || targets.size() < 2) {
+
+					for (int i = 0; i < targets.size(); i++) {
+						results[i] = function.apply(targets.get(i));
+					}
+
+					return (List<T>) Arrays.asList(results);
+				}
+
+				AtomicInteger next = new AtomicInteger();
+
+				Runnable worker = () -> {
+
+					int index;
+
+					while ((index = next.getAndIncrement()) < targets.size()) {
+
+						try {
+							results[index] = function.apply(targets.get(index));
+						} catch (RuntimeException o_O) {
+							next.set(targets.size());
+							throw o_O;
+						}
+					}
+				};
+
+				CompletableFuture<?>[] workers = IntStream.range(0, Math.min(parallelism, targets.size())) //
+						.mapToObj(it -> CompletableFuture.runAsync(worker, executor)) //
+						.toArray(CompletableFuture[]::new);
+
+				try {
+					CompletableFuture.allOf(workers).join();
+				} catch (CompletionException o_O) {
+
+					Throwable cause = o_O.getCause();
+
+					throw cause instanceof RuntimeException ? (RuntimeException) cause : o_O;
+				}
+
+				return (List<T>) Arrays.asList(results);
+			}
+		}
 	}
 
 	/**
@@ -456,6 +1063,148 @@ public class Traverson {
 		private final HttpHeaders httpHeaders;
 	}
 
+	/**
+	 * A {@link ClientHttpResponse} backed by an already buffered {@link ResponseEntity}.
+	 */
+	@RequiredArgsConstructor
+	private static class BufferedResponse implements ClientHttpResponse {
+
+		private final ResponseEntity<byte[]> response;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.http.client.ClientHttpResponse#getStatusCode()
+		 */
+		@Override
+		public HttpStatus getStatusCode() {
+			return response.getStatusCode();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.http.client.ClientHttpResponse#getRawStatusCode()
+		 */
+		@Override
+		public int getRawStatusCode() {
+			return response.getStatusCodeValue();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.http.client.ClientHttpResponse#getStatusText()
+		 */
+		@Override
+		public String getStatusText() {
+			return response.getStatusCode().getReasonPhrase();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.http.HttpInputMessage#getBody()
+		 */
+		@Override
+		public InputStream getBody() {
+
+			byte[] body = response.getBody();
+
+			return new ByteArrayInputStream(body == null ? new byte[0] : body);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.http.HttpMessage#getHeaders()
+		 */
+		@Override
+		public HttpHeaders getHeaders() {
+			return response.getHeaders();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.http.client.ClientHttpResponse#close()
+		 */
+		@Override
+		public void close() {}
+	}
+
+	/**
+	 * An {@link InputStream} recording the first bytes read from the delegate so that the beginning of a response body
+	 * can be reported in case no link could be found in it.
+	 */
+	private static class RecordingInputStream extends FilterInputStream {
+
+		private static final int LIMIT = 1024;
+
+		private final ByteArrayOutputStream recorded = new ByteArrayOutputStream();
+
+		RecordingInputStream(InputStream delegate) {
+			super(delegate);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.FilterInputStream#read()
+		 */
+		@Override
+		public int read() throws IOException {
+
+			int result = super.read();
+
+			if (result != -1 && recorded.size() < LIMIT) {
+				recorded.write(result);
+			}
+
+			return result;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.FilterInputStream#read(byte[], int, int)
+		 */
+		@Override
+		public int read(byte[] buffer, int offset, int length) throws IOException {
+
+			int result = super.read(buffer, offset, length);
+			int remaining = LIMIT - recorded.size();
+
+			if (result > 0 && remaining > 0) {
+				recorded.write(buffer, offset, Math.min(result, remaining));
+			}
+
+			return result;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.FilterInputStream#markSupported()
+		 */
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+
+		/**
+		 * Returns the beginning of the content of the underlying stream, reading the parts not consumed yet if necessary.
+		 *
+		 * @param charset must not be {@literal null}.
+		 * @return
+		 */
+		String getContent(Charset charset) {
+
+			byte[] buffer = new byte[256];
+
+			try {
+				while (recorded.size() < LIMIT && read(buffer) != -1) {}
+			} catch (IOException o_O) {
+				// Stream already closed, report what was read so far
+			}
+
+			String content = new String(recorded.toByteArray(), charset);
+
+			return recorded.size() < LIMIT ? content : content.concat("…");
+		}
+	}
+
 	/**
 	 * Temporary container for a {@link URI}-based {@literal URI} and {@link HttpHeaders}.
 	 */
@@ -0,0 +1,394 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import lombok.Value;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.UriTemplate;
+import org.springframework.hateoas.client.Rels.Rel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.plugin.core.PluginRegistry;
+import org.springframework.util.Assert;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Non-blocking variant of {@link Traverson} using a {@link WebClient} to follow links with relation types. Every
+ * request of a traversal is issued via the {@link WebClient} and the traversal results are exposed as {@link Mono}s.
+ * The {@link WebClient} given has to be able to decode the hypermedia types the final representations are to be read
+ * with, i.e. it should have been set up using
+ * {@link org.springframework.hateoas.config.HypermediaWebClientConfigurer}.
+ *
+ * @author Oliver Drotbohm
+ * @since 1.1
+ * @see Traverson
+ */
+public class WebClientTraverson {
+
+	private static final String MEDIA_TYPE_HEADER_NOT_FOUND = "Response for request to %s did not expose a content type! Unable to identify links!";
+	private static final String LINK_NOT_FOUND = "Expected to find link with rel '%s' in response %s!";
+	private static final ParameterizedTypeReference<String> STRING = ParameterizedTypeReference.forType(String.class);
+
+	private final WebClient webClient;
+	private final URI baseUri;
+	private final List<MediaType> mediaTypes;
+
+	private LinkDiscoverers discoverers;
+
+	/**
+	 * Creates a new {@link WebClientTraverson} using the given {@link WebClient} to interact with the given base URI
+	 * using the given {@link MediaType}s.
+	 *
+	 * @param webClient must not be {@literal null}.
+	 * @param baseUri must not be {@literal null}.
+	 * @param mediaTypes must not be {@literal null} or empty.
+	 */
+	public WebClientTraverson(WebClient webClient, URI baseUri, MediaType... mediaTypes) {
+		this(webClient, baseUri, Arrays.asList(mediaTypes));
+	}
+
+	/**
+	 * Creates a new {@link WebClientTraverson} using the given {@link WebClient} to interact with the given base URI
+	 * using the given {@link MediaType}s.
+	 *
+	 * @param webClient must not be {@literal null}.
+	 * @param baseUri must not be {@literal null}.
+	 * @param mediaTypes must not be {@literal null} or empty.
+	 */
+	public WebClientTraverson(WebClient webClient, URI baseUri, List<MediaType> mediaTypes) {
+
+		Assert.notNull(webClient, "WebClient must not be null!");
+		Assert.notNull(baseUri, "Base URI must not be null!");
+		Assert.notEmpty(mediaTypes, "At least one media type must be given!");
+
+		this.webClient = webClient;
+		this.baseUri = baseUri;
+		this.mediaTypes = mediaTypes;
+
+		setLinkDiscoverers(null);
+	}
+
+	/**
+	 * Sets the {@link LinkDiscoverer}s to use. By default the same {@link LinkDiscoverer}s as for {@link Traverson} are
+	 * registered. If {@literal null} is provided the default is reapplied.
+	 *
+	 * @param discoverers can be {@literal null}.
+	 * @return
+	 */
+	public WebClientTraverson setLinkDiscoverers(@Nullable List<? extends LinkDiscoverer> discoverers) {
+
+		List<? extends LinkDiscoverer> defaultedDiscoverers = discoverers == null //
+				? Traverson.getDefaultLinkDiscoverers(mediaTypes) //
+				: discoverers;
+
+		this.discoverers = new LinkDiscoverers(PluginRegistry.of(defaultedDiscoverers));
+
+		return this;
+	}
+
+	/**
+	 * Sets up a {@link TraversalBuilder} to follow the given rels.
+	 *
+	 * @param rels must not be {@literal null} or empty.
+	 * @return
+	 * @see TraversalBuilder
+	 */
+	public TraversalBuilder follow(String... rels) {
+		return new TraversalBuilder().follow(rels);
+	}
+
+	/**
+	 * Sets up a {@link TraversalBuilder} for a single rel with customized details.
+	 *
+	 * @param hop must not be {@literal null}
+	 * @return
+	 */
+	public TraversalBuilder follow(Hop hop) {
+		return new TraversalBuilder().follow(hop);
+	}
+
+	/**
+	 * Issues a {@code GET} request to the given {@link URI} and reads the response into a {@link ResponseEntity} of the
+	 * given type.
+	 *
+	 * @param uri must not be {@literal null}.
+	 * @param headers must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	private <T> Mono<ResponseEntity<T>> get(URI uri, HttpHeaders headers, ParameterizedTypeReference<T> type) {
+
+		return webClient.get() //
+				.uri(uri) //
+				.headers(it -> {
+
+					it.putAll(headers);
+
+					if (headers.getAccept().isEmpty()) {
+						it.setAccept(mediaTypes);
+					}
+				}) //
+				.retrieve() //
+				.toEntity(type);
+	}
+
+	/**
+	 * Builder API to customize traversals.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	public class TraversalBuilder {
+
+		private final List<Hop> rels = new ArrayList<>();
+		private Map<String, Object> templateParameters = new HashMap<>();
+		private HttpHeaders headers = new HttpHeaders();
+
+		private TraversalBuilder() {}
+
+		/**
+		 * Follows the given rels one by one, which means a request per rel to discover the next resource with the rel in
+		 * line.
+		 *
+		 * @param rels must not be {@literal null}.
+		 * @return
+		 */
+		public TraversalBuilder follow(String... rels) {
+
+			Assert.notNull(rels, "Rels must not be null!");
+
+			Arrays.stream(rels) //
+					.map(Hop::rel) //
+					.forEach(this.rels::add);
+
+			return this;
+		}
+
+		/**
+		 * Follows the given {@link Hop}, which means a request to discover the next resource with the rel in line.
+		 *
+		 * @param hop must not be {@literal null}.
+		 * @return
+		 * @see Hop#rel(String)
+		 */
+		public TraversalBuilder follow(Hop hop) {
+
+			Assert.notNull(hop, "Hop must not be null!");
+
+			this.rels.add(hop);
+
+			return this;
+		}
+
+		/**
+		 * Adds the given operations parameters to the traversal. If a link discovered by the traversal is templated, the
+		 * given parameters will be used to expand the operations into a resolvable URI.
+		 *
+		 * @param parameters must not be {@literal null}.
+		 * @return
+		 */
+		public TraversalBuilder withTemplateParameters(Map<String, Object> parameters) {
+
+			Assert.notNull(parameters, "Parameters must not be null!");
+
+			this.templateParameters = parameters;
+			return this;
+		}
+
+		/**
+		 * The {@link HttpHeaders} that shall be used for the requests of the traversal.
+		 *
+		 * @param headers must not be {@literal null}.
+		 * @return
+		 */
+		public TraversalBuilder withHeaders(HttpHeaders headers) {
+
+			Assert.notNull(headers, "Headers must not be null!");
+
+			this.headers = headers;
+			return this;
+		}
+
+		/**
+		 * Executes the traversal and marshals the final response into an object of the given type.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @return
+		 */
+		public <T> Mono<T> toObject(Class<T> type) {
+
+			Assert.notNull(type, "Target type must not be null!");
+
+			return toObject(ParameterizedTypeReference.forType(type));
+		}
+
+		/**
+		 * Executes the traversal and marshals the final response into an object of the given
+		 * {@link ParameterizedTypeReference}.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @return
+		 */
+		public <T> Mono<T> toObject(ParameterizedTypeReference<T> type) {
+
+			Assert.notNull(type, "Target type must not be null!");
+
+			return toEntity(type).flatMap(it -> Mono.justOrEmpty(it.getBody()));
+		}
+
+		/**
+		 * Executes the traversal and returns the result of the given JSON Path expression evaluated against the final
+		 * representation.
+		 *
+		 * @param jsonPath must not be {@literal null} or empty.
+		 * @return
+		 */
+		public <T> Mono<T> toObject(String jsonPath) {
+
+			Assert.hasText(jsonPath, "JSON path must not be null or empty!");
+
+			return toObject(String.class).flatMap(it -> Mono.justOrEmpty(JsonPath.<T> read(it, jsonPath)));
+		}
+
+		/**
+		 * Returns the raw {@link ResponseEntity} with the representation unmarshalled into an instance of the given type.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @return
+		 */
+		public <T> Mono<ResponseEntity<T>> toEntity(Class<T> type) {
+
+			Assert.notNull(type, "Target type must not be null!");
+
+			return toEntity(ParameterizedTypeReference.forType(type));
+		}
+
+		/**
+		 * Returns the {@link Link} found for the last rel in the rels configured to follow. Will expand the final
+		 * {@link Link} using the template parameters configured.
+		 *
+		 * @return
+		 * @see #withTemplateParameters(Map)
+		 */
+		public Mono<Link> asLink() {
+			return traverseToLink(true);
+		}
+
+		/**
+		 * Returns the templated {@link Link} found for the last relation in the rels configured to follow.
+		 *
+		 * @return
+		 */
+		public Mono<Link> asTemplatedLink() {
+			return traverseToLink(false);
+		}
+
+		private <T> Mono<ResponseEntity<T>> toEntity(ParameterizedTypeReference<T> type) {
+
+			return traverse().flatMap(it -> get(UriTemplate.of(it.getUri()).expand(templateParameters),
+					mergeHeaders(this.headers, it.getHeaders()), type));
+		}
+
+		private Mono<Link> traverseToLink(boolean expandFinalUrl) {
+
+			Assert.isTrue(rels.size() > 0, "At least one rel needs to be provided!");
+
+			String rel = rels.get(rels.size() - 1).getRel();
+
+			return traverse().map(it -> expandFinalUrl //
+					? Link.of(UriTemplate.of(it.getUri()).expand(templateParameters).toString(), rel) //
+					: Link.of(UriTemplate.of(it.getUri()).toString(), rel));
+		}
+
+		private Mono<UriAndHeaders> traverse() {
+			return Mono.defer(() -> getAndFindLinkWithRel(baseUri.toString(), rels.iterator(), HttpHeaders.EMPTY));
+		}
+
+		private Mono<UriAndHeaders> getAndFindLinkWithRel(String uri, Iterator<Hop> rels, HttpHeaders extraHeaders) {
+
+			if (!rels.hasNext()) {
+				return Mono.just(new UriAndHeaders(uri, extraHeaders));
+			}
+
+			URI target = UriTemplate.of(uri).expand();
+			Hop thisHop = rels.next();
+
+			return get(target, mergeHeaders(this.headers, extraHeaders), STRING) //
+					.flatMap(response -> {
+
+						MediaType contentType = response.getHeaders().getContentType();
+
+						if (contentType == null) {
+							return Mono.error(new IllegalStateException(String.format(MEDIA_TYPE_HEADER_NOT_FOUND, target)));
+						}
+
+						String body = response.getBody();
+						String responseBody = body == null ? "" : body;
+						Rel rel = Rels.getRelFor(thisHop.getRel(), discoverers);
+
+						Link link = rel.findInResponse(responseBody, contentType) //
+								.orElseThrow(() -> new IllegalStateException(String.format(LINK_NOT_FOUND, rel, responseBody)));
+
+						String linkTarget = thisHop.hasParameters() //
+								? link.expand(thisHop.getMergedParameters(templateParameters)).getHref() //
+								: link.getHref();
+
+						return getAndFindLinkWithRel(linkTarget, rels, thisHop.getHeaders());
+					});
+		}
+
+		/**
+		 * Combine two sets of {@link HttpHeaders} into one.
+		 *
+		 * @param headersA
+		 * @param headersB
+		 * @return
+		 */
+		private HttpHeaders mergeHeaders(HttpHeaders headersA, HttpHeaders headersB) {
+
+			HttpHeaders mergedHeaders = new HttpHeaders();
+
+			mergedHeaders.addAll(headersA);
+			mergedHeaders.addAll(headersB);
+
+			return mergedHeaders;
+		}
+	}
+
+	/**
+	 * Temporary container for a string-based {@literal URI} and {@link HttpHeaders}.
+	 */
+	@Value
+	private static class UriAndHeaders {
+
+		private final String uri;
+		private final HttpHeaders headers;
+	}
+}
@@ -35,10 +35,12 @@ import org.springframework.context.support.ReloadableResourceBundleMessageSource
 import org.springframework.core.io.Resource;
 import org.springframework.hateoas.client.LinkDiscoverer;
 import org.springframework.hateoas.client.LinkDiscoverers;
+import org.springframework.hateoas.instrumentation.HypermediaInstrumentation;
 import org.springframework.hateoas.mediatype.MessageResolver;
 import org.springframework.hateoas.server.LinkRelationProvider;
 import org.springframework.hateoas.server.LinkRelationProvider.LookupContext;
 import org.springframework.hateoas.server.core.AnnotationLinkRelationProvider;
+import org.springframework.hateoas.server.core.CachingLinkRelationProvider;
 import org.springframework.hateoas.server.core.DefaultLinkRelationProvider;
 import org.springframework.hateoas.server.core.DelegatingLinkRelationProvider;
 import org.springframework.hateoas.server.core.EvoInflectorLinkRelationProvider;
@@ -70,13 +72,24 @@ public class HateoasConfiguration {
 
 	@Bean
 	public MessageResolver messageResolver() {
-		return MessageResolver.of(lookupMessageSource());
+		return MessageResolver.cached(lookupMessageSource());
 	}
 
 	@Bean
-	WebConverters hypermediaWebMvcConverters(ObjectProvider<ObjectMapper> mapper,
+	HypermediaObjectMappers hypermediaObjectMappers(ObjectProvider<ObjectMapper> mapper,
 			List<HypermediaMappingInformation> information) {
-		return WebConverters.of(mapper.getIfUnique(ObjectMapper::new), information);
+		return HypermediaObjectMappers.of(mapper.getIfUnique(ObjectMapper::new), information);
+	}
+
+	@Bean
+	WebConverters hypermediaWebMvcConverters(HypermediaObjectMappers mappers) {
+		return WebConverters.of(mappers);
+	}
+
+	@Bean
+	HypermediaInstrumentationInstaller hypermediaInstrumentationInstaller(
+			ObjectProvider<HypermediaInstrumentation> instrumentation) {
+		return new HypermediaInstrumentationInstaller(instrumentation.getIfUnique());
 	}
 
 	// RelProvider
@@ -94,20 +107,25 @@ public class HateoasConfiguration {
 		return new AnnotationLinkRelationProvider();
 	}
 
-	@Primary
 	@Bean
-	DelegatingLinkRelationProvider _relProvider(
+	DelegatingLinkRelationProvider delegatingRelProvider(
 			PluginRegistry<LinkRelationProvider, LookupContext> relProviderPluginRegistry) {
 		return new DelegatingLinkRelationProvider(relProviderPluginRegistry);
 	}
 
+	@Primary
+	@Bean
+	CachingLinkRelationProvider _relProvider(DelegatingLinkRelationProvider delegatingRelProvider) {
+		return new CachingLinkRelationProvider(delegatingRelProvider);
+	}
+
 	@Bean
 	PluginRegistryFactoryBean<LinkRelationProvider, LookupContext> relProviderPluginRegistry() {
 
 		PluginRegistryFactoryBean<LinkRelationProvider, LookupContext> factory = new PluginRegistryFactoryBean<>();
 
 		factory.setType(LinkRelationProvider.class);
-		factory.setExclusions(new Class[] { DelegatingLinkRelationProvider.class });
+		factory.setExclusions(new Class[] { DelegatingLinkRelationProvider.class, CachingLinkRelationProvider.class });
 
 		return factory;
 	}
@@ -138,6 +156,7 @@ public class HateoasConfiguration {
 		messageSource.setResourceLoader(context);
 		messageSource.setBasename("classpath:".concat(I18N_BASE_NAME));
 		messageSource.setDefaultEncoding(StandardCharsets.UTF_8.toString());
+		messageSource.setCacheSeconds(-1); // never reload, as resolved messages are cached in messageResolver()
 
 		if (!candidates.isEmpty()) {
 			messageSource.setCommonMessages(loadProperties(candidates));
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.config;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.mediatype.PropertyUtils;
+import org.springframework.hateoas.server.core.DummyInvocationUtils;
+import org.springframework.hateoas.server.core.MethodParameters;
+import org.springframework.hateoas.server.core.WebHandler;
+import org.springframework.http.HttpEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils.MethodFilter;
+import org.springframework.util.StopWatch;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * Opt-in component to populate the caches used for link building and hypermedia rendering at application startup
+ * instead of on the first requests. Register it as Spring bean to scan all controllers of the application context for
+ * request mapping methods and to eagerly
+ * <ul>
+ * <li>resolve their mappings, URI templates and parameter metadata,</li>
+ * <li>inspect the types of their request bodies for the metadata exposed in affordances,</li>
+ * <li>create the proxy classes used by {@code methodOn(…)} for the controllers and</li>
+ * <li>register the {@link RepresentationModel}s they return with {@link HypermediaObjectMappers} to have the Jackson
+ * serializers created eagerly.</li>
+ * </ul>
+ * The time spent in each phase is logged on {@code INFO} level. Failures to prepare an individual handler method are
+ * logged on {@code DEBUG} level and don't prevent the application from starting.
+ *
+ * @author Oliver Drotbohm
+ * @since 1.1
+ */
+public class HypermediaCacheWarmer implements SmartInitializingSingleton, ApplicationContextAware {
+
+	private static final Log LOG = LogFactory.getLog(HypermediaCacheWarmer.class);
+
+	private @Nullable ApplicationContext context;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.ApplicationContextAware#setApplicationContext(org.springframework.context.ApplicationContext)
+	 */
+	@Override
+	public void setApplicationContext(ApplicationContext context) throws BeansException {
+		this.context = context;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.SmartInitializingSingleton#afterSingletonsInstantiated()
+	 */
+	@Override
+	public void afterSingletonsInstantiated() {
+
+		ApplicationContext context = this.context;
+
+		Assert.state(context != null, "ApplicationContext must not be null!");
+
+		StopWatch watch = new StopWatch("Hypermedia cache warm-up");
+
+		watch.start("handler method detection");
+		Map<Class<?>, Set<Method>> handlers = detectHandlerMethods(context);
+		watch.stop();
+
+		watch.start("mappings, URI templates and parameter metadata");
+		forEachHandlerMethod(handlers, WebHandler::prepare);
+		watch.stop();
+
+		watch.start("request body metadata");
+		forEachHandlerMethod(handlers, (type, method) -> MethodParameters.of(method) //
+				.getParametersWith(RequestBody.class) //
+				.forEach(it -> PropertyUtils.getExposedProperties(ResolvableType.forMethodParameter(it))));
+		watch.stop();
+
+		watch.start("controller proxies");
+		handlers.keySet().forEach(HypermediaCacheWarmer::createProxy);
+		watch.stop();
+
+		watch.start("serializers");
+		context.getBeanProvider(HypermediaObjectMappers.class).ifAvailable(mappers -> forEachHandlerMethod(handlers,
+				(type, method) -> registerModelType(mappers, ResolvableType.forMethodReturnType(method, type))));
+		watch.stop();
+
+		if (LOG.isInfoEnabled()) {
+			LOG.info(String.format("Prepared hypermedia caches for %s handler methods of %s controllers.%n%s",
+					handlers.values().stream().mapToInt(Set::size).sum(), handlers.size(), watch.prettyPrint()));
+		}
+	}
+
+	private static Map<Class<?>, Set<Method>> detectHandlerMethods(ApplicationContext context) {
+
+		Map<Class<?>, Set<Method>> handlers = new LinkedHashMap<>();
+
+		for (String name : context.getBeanNamesForAnnotation(Controller.class)) {
+
+			Class<?> type = context.getType(name);
+
+			if (type == null) {
+				continue;
+			}
+
+			Class<?> userType = ClassUtils.getUserClass(type);
+			Set<Method> methods = MethodIntrospector.selectMethods(userType,
+					(MethodFilter) method -> AnnotatedElementUtils.hasAnnotation(method, RequestMapping.class));
+
+			if (!methods.isEmpty()) {
+				handlers.put(userType, methods);
+			}
+		}
+
+		return handlers;
+	}
+
+	private static void forEachHandlerMethod(Map<Class<?>, Set<Method>> handlers,
+			BiConsumer<Class<?>, Method> callback) {
+
+		handlers.forEach((type, methods) -> methods.forEach(method -> {
+
+			try {
+				callback.accept(type, method);
+			} catch (RuntimeException o_O) {
+
+				if (LOG.isDebugEnabled()) {
+					LOG.debug(String.format("Could not prepare hypermedia caches for %s!", method), o_O);
+				}
+			}
+		}));
+	}
+
+	private static void createProxy(Class<?> type) {
+
+		try {
+			DummyInvocationUtils.methodOn(type);
+		} catch (RuntimeException o_O) {
+
+			if (LOG.isDebugEnabled()) {
+				LOG.debug(String.format("Could not create proxy for %s!", type), o_O);
+			}
+		}
+	}
+
+	private static void registerModelType(HypermediaObjectMappers mappers, ResolvableType type) {
+
+		ResolvableType modelType = HttpEntity.class.isAssignableFrom(type.resolve(Object.class)) //
+				? type.as(HttpEntity.class).getGeneric(0) //
+				: type;
+
+		if (RepresentationModel.class.isAssignableFrom(modelType.resolve(Object.class))) {
+			mappers.registerModelTypes(modelType);
+		}
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.config;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.hateoas.instrumentation.HypermediaInstrumentation;
+import org.springframework.hateoas.instrumentation.Instrumentation;
+import org.springframework.lang.Nullable;
+
+/**
+ * Installs the {@link HypermediaInstrumentation} declared as Spring bean for the lifetime of the application context,
+ * reinstating the previously installed one once the context is closed. Leaves the currently installed one untouched if
+ * no such bean is declared.
+ *
+ * @author Oliver Drotbohm
+ * @since 1.1
+ */
+@RequiredArgsConstructor
+class HypermediaInstrumentationInstaller implements InitializingBean, DisposableBean {
+
+	private final @Nullable HypermediaInstrumentation instrumentation;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.InitializingBean#afterPropertiesSet()
+	 */
+	@Override
+	public void afterPropertiesSet() {
+
+		if (instrumentation != null) {
+			Instrumentation.install(instrumentation);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() {
+
+		if (instrumentation != null) {
+			Instrumentation.uninstall(instrumentation);
+		}
+	}
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.config;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Registry of the {@link ObjectMapper}s configured for the enabled hypermedia types. Each {@link ObjectMapper} is
+ * created once and shared by the Spring MVC converters, the Spring WebFlux codecs as well as the {@code RestTemplate}
+ * and {@code WebClient} configuration, so that the serializers and deserializers Jackson builds are cached once per
+ * hypermedia type. Model types registered via {@link #registerModelTypes(ResolvableType...)} get their serializers
+ * and deserializers created eagerly once all singletons of the application context have been instantiated.
+ *
+ * @author Oliver Drotbohm
+ * @since 1.1
+ */
+public class HypermediaObjectMappers implements SmartInitializingSingleton {
+
+	private final Map<HypermediaMappingInformation, ObjectMapper> mappers;
+	private final Set<Type> modelTypes = new CopyOnWriteArraySet<>();
+	private volatile boolean initialized = false;
+
+	/**
+	 * Creates a new {@link HypermediaObjectMappers} configuring a copy of the given {@link ObjectMapper} for each of the
+	 * given {@link HypermediaMappingInformation}s.
+	 *
+	 * @param mapper must not be {@literal null}.
+	 * @param mappingInformation must not be {@literal null}.
+	 */
+	private HypermediaObjectMappers(ObjectMapper mapper, List<HypermediaMappingInformation> mappingInformation) {
+
+		Map<HypermediaMappingInformation, ObjectMapper> mappers = new LinkedHashMap<>();
+
+		mappingInformation.forEach(it -> mappers.put(it, it.configureObjectMapper(mapper.copy())));
+
+		this.mappers = Collections.unmodifiableMap(mappers);
+	}
+
+	/**
+	 * Creates a new {@link HypermediaObjectMappers} from the given {@link ObjectMapper} and
+	 * {@link HypermediaMappingInformation}s.
+	 *
+	 * @param mapper must not be {@literal null}.
+	 * @param mappingInformation must not be {@literal null}.
+	 * @return
+	 */
+	public static HypermediaObjectMappers of(ObjectMapper mapper, List<HypermediaMappingInformation> mappingInformation) {
+
+		Assert.notNull(mapper, "ObjectMapper must not be null!");
+		Assert.notNull(mappingInformation, "Mapping information must not be null!");
+
+		return new HypermediaObjectMappers(mapper, mappingInformation);
+	}
+
+	/**
+	 * Returns the {@link ObjectMapper} configured for the given {@link HypermediaMappingInformation}.
+	 *
+	 * @param mappingInformation must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @throws IllegalArgumentException in case the given {@link HypermediaMappingInformation} is not registered.
+	 */
+	public ObjectMapper getObjectMapper(HypermediaMappingInformation mappingInformation) {
+
+		Assert.notNull(mappingInformation, "Mapping information must not be null!");
+
+		ObjectMapper mapper = mappers.get(mappingInformation);
+
+		Assert.notNull(mapper, () -> String.format("No ObjectMapper registered for %s!", mappingInformation));
+
+		return mapper;
+	}
+
+	/**
+	 * Returns all registered {@link HypermediaMappingInformation}s in the order they were registered in.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public List<HypermediaMappingInformation> getMappingInformation() {
+		return Collections.unmodifiableList(new ArrayList<>(mappers.keySet()));
+	}
+
+	/**
+	 * Creates a component per registered hypermedia type using the given factory.
+	 *
+	 * @param factory must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	<T> List<T> map(BiFunction<HypermediaMappingInformation, ObjectMapper, T> factory) {
+
+		Assert.notNull(factory, "Factory must not be null!");
+
+		return mappers.entrySet().stream() //
+				.map(it -> factory.apply(it.getKey(), it.getValue())) //
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Registers the given model types to eagerly create the serializers and deserializers for in all
+	 * {@link ObjectMapper}s. Types registered after the application context has been started are handled immediately.
+	 *
+	 * @param types must not be {@literal null}.
+	 * @return the current instance.
+	 */
+	public HypermediaObjectMappers registerModelTypes(Class<?>... types) {
+
+		Assert.notNull(types, "Types must not be null!");
+
+		return registerModelTypes(Arrays.stream(types).map(ResolvableType::forClass).toArray(ResolvableType[]::new));
+	}
+
+	/**
+	 * Registers the given model types, e.g. {@code ResolvableType.forClassWithGenerics(EntityModel.class, Order.class)},
+	 * to eagerly create the serializers and deserializers for in all {@link ObjectMapper}s. Types registered after the
+	 * application context has been started are handled immediately.
+	 *
+	 * @param types must not be {@literal null}.
+	 * @return the current instance.
+	 */
+	public HypermediaObjectMappers registerModelTypes(ResolvableType... types) {
+
+		Assert.notNull(types, "Types must not be null!");
+
+		for (ResolvableType type : types) {
+			if (modelTypes.add(type.getType()) && initialized) {
+				warmUp(type.getType());
+			}
+		}
+
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.SmartInitializingSingleton#afterSingletonsInstantiated()
+	 */
+	@Override
+	public void afterSingletonsInstantiated() {
+
+		this.initialized = true;
+
+		modelTypes.forEach(this::warmUp);
+	}
+
+	/**
+	 * Creates the root serializer and deserializer for the given type in all {@link ObjectMapper}s. Jackson caches them
+	 * with the {@link ObjectMapper} so that they're reused for subsequent requests.
+	 *
+	 * @param type must not be {@literal null}.
+	 */
+	private void warmUp(Type type) {
+
+		mappers.values().forEach(it -> {
+
+			JavaType javaType = it.constructType(type);
+
+			it.writerFor(javaType);
+			it.readerFor(javaType);
+		});
+	}
+}
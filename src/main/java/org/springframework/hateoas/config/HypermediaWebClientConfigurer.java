@@ -18,6 +18,8 @@ package org.springframework.hateoas.config;
 import java.util.List;
 import java.util.function.Consumer;
 
+import org.springframework.core.codec.Decoder;
+import org.springframework.core.codec.Encoder;
 import org.springframework.http.codec.ClientCodecConfigurer;
 import org.springframework.http.codec.json.Jackson2JsonDecoder;
 import org.springframework.http.codec.json.Jackson2JsonEncoder;
@@ -47,18 +49,28 @@ public class HypermediaWebClientConfigurer {
 	 * @param hypermediaTypes must not be {@literal null}.
 	 */
 	HypermediaWebClientConfigurer(ObjectMapper mapper, List<HypermediaMappingInformation> hypermediaTypes) {
+		this(HypermediaObjectMappers.of(mapper, hypermediaTypes));
+	}
 
-		Assert.notNull(mapper, "ObjectMapper must not be null!");
-		Assert.notNull(hypermediaTypes, "HypermediaMappingInformations must not be null!");
+	/**
+	 * Creates a new {@link HypermediaWebClientConfigurer} using the {@link ObjectMapper}s of the given
+	 * {@link HypermediaObjectMappers}.
+	 *
+	 * @param mappers must not be {@literal null}.
+	 */
+	HypermediaWebClientConfigurer(HypermediaObjectMappers mappers) {
 
-		this.configurer = clientCodecConfigurer -> hypermediaTypes.forEach(hypermediaType -> {
+		Assert.notNull(mappers, "HypermediaObjectMappers must not be null!");
 
-			ObjectMapper objectMapper = hypermediaType.configureObjectMapper(mapper.copy());
-			MimeType[] mimeTypes = hypermediaType.getMediaTypes().toArray(new MimeType[0]);
+		List<Encoder<?>> encoders = mappers
+				.map((information, mapper) -> new Jackson2JsonEncoder(mapper, getMimeTypes(information)));
+		List<Decoder<?>> decoders = mappers
+				.map((information, mapper) -> new Jackson2JsonDecoder(mapper, getMimeTypes(information)));
 
-			clientCodecConfigurer.customCodecs().registerWithDefaultConfig(new Jackson2JsonEncoder(objectMapper, mimeTypes));
-			clientCodecConfigurer.customCodecs().registerWithDefaultConfig(new Jackson2JsonDecoder(objectMapper, mimeTypes));
-		});
+		this.configurer = clientCodecConfigurer -> {
+			encoders.forEach(clientCodecConfigurer.customCodecs()::registerWithDefaultConfig);
+			decoders.forEach(clientCodecConfigurer.customCodecs()::registerWithDefaultConfig);
+		};
 	}
 
 	/**
@@ -70,4 +82,8 @@ public class HypermediaWebClientConfigurer {
 	public WebClient.Builder registerHypermediaTypes(WebClient.Builder builder) {
 		return builder.codecs(this.configurer);
 	}
+
+	private static MimeType[] getMimeTypes(HypermediaMappingInformation information) {
+		return information.getMediaTypes().toArray(new MimeType[0]);
+	}
 }
@@ -18,6 +18,8 @@ package org.springframework.hateoas.config;
 import java.util.List;
 import java.util.function.Consumer;
 
+import org.springframework.core.codec.Decoder;
+import org.springframework.core.codec.Encoder;
 import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.http.codec.ClientCodecConfigurer;
 import org.springframework.http.codec.json.Jackson2JsonDecoder;
@@ -50,18 +52,28 @@ public class HypermediaWebTestClientConfigurer implements WebTestClientConfigure
 	 * @param hypermediaTypes must not be {@literal null}.
 	 */
 	HypermediaWebTestClientConfigurer(ObjectMapper mapper, List<HypermediaMappingInformation> hypermediaTypes) {
+		this(HypermediaObjectMappers.of(mapper, hypermediaTypes));
+	}
 
-		Assert.notNull(mapper, "mapper must not be null!");
-		Assert.notNull(hypermediaTypes, "hypermediaTypes must not be null!");
+	/**
+	 * Creates a new {@link HypermediaWebTestClientConfigurer} using the {@link ObjectMapper}s of the given
+	 * {@link HypermediaObjectMappers}.
+	 *
+	 * @param mappers must not be {@literal null}.
+	 */
+	HypermediaWebTestClientConfigurer(HypermediaObjectMappers mappers) {
 
-		this.configurer = clientCodecConfigurer -> hypermediaTypes.forEach(hypermediaType -> {
+		Assert.notNull(mappers, "HypermediaObjectMappers must not be null!");
 
-			ObjectMapper objectMapper = hypermediaType.configureObjectMapper(mapper.copy());
-			MimeType[] mimeTypes = hypermediaType.getMediaTypes().toArray(new MimeType[0]);
+		List<Encoder<?>> encoders = mappers
+				.map((information, mapper) -> new Jackson2JsonEncoder(mapper, getMimeTypes(information)));
+		List<Decoder<?>> decoders = mappers
+				.map((information, mapper) -> new Jackson2JsonDecoder(mapper, getMimeTypes(information)));
 
-			clientCodecConfigurer.customCodecs().registerWithDefaultConfig(new Jackson2JsonEncoder(objectMapper, mimeTypes));
-			clientCodecConfigurer.customCodecs().registerWithDefaultConfig(new Jackson2JsonDecoder(objectMapper, mimeTypes));
-		});
+		this.configurer = clientCodecConfigurer -> {
+			encoders.forEach(clientCodecConfigurer.customCodecs()::registerWithDefaultConfig);
+			decoders.forEach(clientCodecConfigurer.customCodecs()::registerWithDefaultConfig);
+		};
 	}
 
 	/**
@@ -74,4 +86,8 @@ public class HypermediaWebTestClientConfigurer implements WebTestClientConfigure
 			@Nullable ClientHttpConnector clientHttpConnector) {
 		builder.codecs(this.configurer);
 	}
+
+	private static MimeType[] getMimeTypes(HypermediaMappingInformation information) {
+		return information.getMediaTypes().toArray(new MimeType[0]);
+	}
 }
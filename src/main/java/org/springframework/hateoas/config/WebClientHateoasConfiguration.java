@@ -17,11 +17,8 @@ package org.springframework.hateoas.config;
 
 import lombok.RequiredArgsConstructor;
 
-import java.util.List;
-
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.ObjectFactory;
-import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -29,8 +26,6 @@ import org.springframework.context.annotation.Lazy;
 import org.springframework.lang.NonNull;
 import org.springframework.web.reactive.function.client.WebClient;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 /**
  * Spring WebFlux HATEOAS configuration.
  *
@@ -42,9 +37,8 @@ class WebClientHateoasConfiguration {
 
 	@Bean
 	@Lazy
-	HypermediaWebClientConfigurer webClientConfigurer(ObjectProvider<ObjectMapper> mapper,
-			List<HypermediaMappingInformation> hypermediaTypes) {
-		return new HypermediaWebClientConfigurer(mapper.getIfAvailable(ObjectMapper::new), hypermediaTypes);
+	HypermediaWebClientConfigurer webClientConfigurer(HypermediaObjectMappers mappers) {
+		return new HypermediaWebClientConfigurer(mappers);
 	}
 
 	@Bean
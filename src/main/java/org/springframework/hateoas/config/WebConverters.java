@@ -17,13 +17,13 @@ package org.springframework.hateoas.config;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.server.mvc.CompositeHypermediaHttpMessageConverter;
 import org.springframework.hateoas.server.mvc.TypeConstrainedMappingJackson2HttpMessageConverter;
 import org.springframework.http.converter.HttpMessageConverter;
-import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
 import org.springframework.util.Assert;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -35,19 +35,15 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  */
 class WebConverters {
 
-	private final List<HttpMessageConverter<?>> converters;
+	private final List<TypeConstrainedMappingJackson2HttpMessageConverter> converters;
 
 	/**
-	 * Creates a new {@link WebConverters} from the given {@link ObjectMapper} and {@link HypermediaMappingInformation}s.
+	 * Creates a new {@link WebConverters} from the given {@link HypermediaObjectMappers}.
 	 *
-	 * @param mapper must not be {@literal null}.
-	 * @param mappingInformation must not be {@literal null}.
+	 * @param mappers must not be {@literal null}.
 	 */
-	private WebConverters(ObjectMapper mapper, List<HypermediaMappingInformation> mappingInformation) {
-
-		this.converters = mappingInformation.stream() //
-				.map(it -> createMessageConverter(it, it.configureObjectMapper(mapper.copy()))) //
-				.collect(Collectors.toList());
+	private WebConverters(HypermediaObjectMappers mappers) {
+		this.converters = mappers.map(WebConverters::createMessageConverter);
 	}
 
 	/**
@@ -58,15 +54,26 @@ class WebConverters {
 	 * @return
 	 */
 	public static WebConverters of(ObjectMapper mapper, List<HypermediaMappingInformation> mappingInformations) {
+		return of(HypermediaObjectMappers.of(mapper, mappingInformations));
+	}
+
+	/**
+	 * Creates a new {@link WebConverters} using the {@link ObjectMapper}s of the given {@link HypermediaObjectMappers}.
+	 *
+	 * @param mappers must not be {@literal null}.
+	 * @return
+	 * @since 1.1
+	 */
+	public static WebConverters of(HypermediaObjectMappers mappers) {
 
-		Assert.notNull(mapper, "ObjectMapper must not be null!");
-		Assert.notNull(mappingInformations, "Mapping information must not be null!");
+		Assert.notNull(mappers, "HypermediaObjectMappers must not be null!");
 
-		return new WebConverters(mapper, mappingInformations);
+		return new WebConverters(mappers);
 	}
 
 	/**
-	 * Augments the given {@link List} of {@link HttpMessageConverter}s with the hypermedia enabled ones.
+	 * Augments the given {@link List} of {@link HttpMessageConverter}s with a single
+	 * {@link CompositeHypermediaHttpMessageConverter} dispatching to the hypermedia enabled ones.
 	 *
 	 * @param converters must not be {@literal null}.
 	 */
@@ -74,7 +81,15 @@ class WebConverters {
 
 		Assert.notNull(converters, "HttpMessageConverters must not be null!");
 
-		this.converters.forEach(it -> converters.add(0, it));
+		if (this.converters.isEmpty()) {
+			return;
+		}
+
+		// Reverse order to consult the converters in the order they were previously prepended in
+		List<TypeConstrainedMappingJackson2HttpMessageConverter> delegates = new ArrayList<>(this.converters);
+		Collections.reverse(delegates);
+
+		converters.add(0, new CompositeHypermediaHttpMessageConverter(delegates));
 	}
 
 	/**
@@ -95,16 +110,14 @@ class WebConverters {
 
 	/**
 	 * Creates a new {@link TypeConstrainedMappingJackson2HttpMessageConverter} to handle {@link RepresentationModel} for
-	 * the given {@link HypermediaMappingInformation} using a copy of the given {@link ObjectMapper}.
+	 * the given {@link HypermediaMappingInformation} using the given, already configured {@link ObjectMapper}.
 	 *
 	 * @param type must not be {@literal null}.
 	 * @param mapper must not be {@literal null}.
 	 * @return
 	 */
-	private static AbstractJackson2HttpMessageConverter createMessageConverter(HypermediaMappingInformation type,
-			ObjectMapper mapper) {
-
-		return new TypeConstrainedMappingJackson2HttpMessageConverter(type.getRootType(), type.getMediaTypes(),
-				type.configureObjectMapper(mapper));
+	private static TypeConstrainedMappingJackson2HttpMessageConverter createMessageConverter(
+			HypermediaMappingInformation type, ObjectMapper mapper) {
+		return new TypeConstrainedMappingJackson2HttpMessageConverter(type.getRootType(), type.getMediaTypes(), mapper);
 	}
 }
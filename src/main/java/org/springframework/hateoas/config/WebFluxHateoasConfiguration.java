@@ -17,22 +17,36 @@ package org.springframework.hateoas.config;
 
 import lombok.RequiredArgsConstructor;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.core.ResolvableType;
 import org.springframework.core.codec.Decoder;
 import org.springframework.core.codec.Encoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.hateoas.instrumentation.HypermediaInstrumentation.Operation;
+import org.springframework.hateoas.instrumentation.HypermediaInstrumentation.Sample;
+import org.springframework.hateoas.instrumentation.Instrumentation;
+import org.springframework.hateoas.server.RepresentationModelVersionResolver;
+import org.springframework.hateoas.server.core.RepresentationCache;
+import org.springframework.hateoas.server.reactive.ReactiveRepresentationModelProcessor;
+import org.springframework.hateoas.server.reactive.ReactiveRepresentationModelProcessorInvoker;
+import org.springframework.hateoas.server.reactive.RepresentationModelProcessorHandlerResultHandler;
 import org.springframework.http.MediaType;
 import org.springframework.http.codec.CodecConfigurer.CustomCodecs;
 import org.springframework.http.codec.ServerCodecConfigurer;
 import org.springframework.http.codec.json.Jackson2JsonDecoder;
 import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.lang.Nullable;
 import org.springframework.util.MimeType;
 import org.springframework.web.filter.reactive.ServerWebExchangeContextFilter;
+import org.springframework.web.reactive.HandlerResultHandler;
 import org.springframework.web.reactive.config.WebFluxConfigurer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -48,18 +62,32 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 class WebFluxHateoasConfiguration {
 
 	@Bean
-	WebFluxCodecs hypermediaConverters(ObjectProvider<ObjectMapper> mapper,
-			List<HypermediaMappingInformation> mappingInformation) {
-		return new WebFluxCodecs(mapper.getIfAvailable(ObjectMapper::new), mappingInformation);
+	WebFluxCodecs hypermediaConverters(HypermediaObjectMappers mappers) {
+		return new WebFluxCodecs(mappers);
 	}
 
 	@Bean
-	HypermediaWebFluxConfigurer hypermediaWebFluxConfigurer(ObjectProvider<ObjectMapper> mapper,
-			List<HypermediaMappingInformation> mappingInformation) {
+	HypermediaWebFluxConfigurer hypermediaWebFluxConfigurer(WebFluxCodecs codecs) {
+		return new HypermediaWebFluxConfigurer(codecs);
+	}
 
-		WebFluxCodecs codecs = new WebFluxCodecs(mapper.getIfAvailable(ObjectMapper::new), mappingInformation);
+	@Bean
+	ReactiveRepresentationModelProcessorInvoker reactiveRepresentationModelProcessorInvoker(
+			ObjectProvider<ReactiveRepresentationModelProcessor<?>> processors) {
+		return new ReactiveRepresentationModelProcessorInvoker(processors.orderedStream().collect(Collectors.toList()));
+	}
 
-		return new HypermediaWebFluxConfigurer(codecs);
+	@Bean
+	RepresentationModelProcessorHandlerResultHandler representationModelProcessorHandlerResultHandler(
+			ReactiveRepresentationModelProcessorInvoker invoker, ObjectProvider<HandlerResultHandler> handlers,
+			ObjectProvider<RepresentationModelVersionResolver> versionResolver, ObjectProvider<RepresentationCache> cache) {
+
+		RepresentationModelProcessorHandlerResultHandler handler = new RepresentationModelProcessorHandlerResultHandler(
+				invoker, () -> handlers.orderedStream().collect(Collectors.toList()));
+		handler.setVersionResolver(versionResolver.getIfUnique());
+		handler.setRepresentationCache(cache.getIfUnique());
+
+		return handler;
 	}
 
 	@Bean
@@ -98,19 +126,10 @@ class WebFluxHateoasConfiguration {
 		private final List<Decoder<?>> decoders;
 		private final List<Encoder<?>> encoders;
 
-		private WebFluxCodecs(ObjectMapper mapper, List<HypermediaMappingInformation> mappingInformation) {
-
-			this.decoders = new ArrayList<>();
-			this.encoders = new ArrayList<>();
-
-			for (HypermediaMappingInformation information : mappingInformation) {
+		private WebFluxCodecs(HypermediaObjectMappers mappers) {
 
-				ObjectMapper objectMapper = information.configureObjectMapper(mapper.copy());
-				List<MediaType> mediaTypes = information.getMediaTypes();
-
-				this.decoders.add(getDecoder(objectMapper, mediaTypes));
-				this.encoders.add(getEncoder(objectMapper, mediaTypes));
-			}
+			this.decoders = mappers.map((information, mapper) -> getDecoder(mapper, information.getMediaTypes()));
+			this.encoders = mappers.map((information, mapper) -> getEncoder(mapper, information.getMediaTypes()));
 		}
 
 		public void registerCodecs(CustomCodecs codecs) {
@@ -124,7 +143,38 @@ class WebFluxHateoasConfiguration {
 		}
 
 		private static Encoder<?> getEncoder(ObjectMapper mapper, List<MediaType> mediaTypes) {
-			return new Jackson2JsonEncoder(mapper, mediaTypes.toArray(new MimeType[0]));
+			return new InstrumentedJackson2JsonEncoder(mapper, mediaTypes.toArray(new MimeType[0]));
+		}
+	}
+
+	/**
+	 * {@link Jackson2JsonEncoder} timing the serialization of each value as {@link Operation#SERIALIZATION}.
+	 *
+	 * @author Oliver Drotbohm
+	 * @since 1.1
+	 */
+	static class InstrumentedJackson2JsonEncoder extends Jackson2JsonEncoder {
+
+		InstrumentedJackson2JsonEncoder(ObjectMapper mapper, MimeType... mimeTypes) {
+			super(mapper, mimeTypes);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.http.codec.json.AbstractJackson2Encoder#encodeValue(java.lang.Object, org.springframework.core.io.buffer.DataBufferFactory, org.springframework.core.ResolvableType, org.springframework.util.MimeType, java.util.Map)
+		 */
+		@Override
+		public DataBuffer encodeValue(Object value, DataBufferFactory bufferFactory, ResolvableType valueType,
+				@Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+
+			Sample sample = Instrumentation.start(Operation.SERIALIZATION,
+					() -> mimeType == null ? null : mimeType.toString());
+
+			try {
+				return super.encodeValue(value, bufferFactory, valueType, mimeType, hints);
+			} finally {
+				sample.stop();
+			}
 		}
 	}
 }
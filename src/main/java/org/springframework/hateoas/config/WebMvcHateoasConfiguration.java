@@ -28,13 +28,19 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.hateoas.server.RepresentationModelProcessor;
+import org.springframework.hateoas.server.RepresentationModelVersionResolver;
+import org.springframework.hateoas.server.core.RepresentationCache;
+import org.springframework.hateoas.server.mvc.RepresentationCacheInterceptor;
 import org.springframework.hateoas.server.mvc.RepresentationModelProcessorHandlerMethodReturnValueHandler;
 import org.springframework.hateoas.server.mvc.RepresentationModelProcessorInvoker;
+import org.springframework.hateoas.server.mvc.TypeConstrainedMappingJackson2HttpMessageConverter;
 import org.springframework.hateoas.server.mvc.UriComponentsContributor;
 import org.springframework.hateoas.server.mvc.WebMvcLinkBuilderFactory;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.web.method.support.HandlerMethodReturnValueHandlerComposite;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
 
@@ -49,8 +55,9 @@ import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandl
 class WebMvcHateoasConfiguration {
 
 	@Bean
-	HypermediaWebMvcConfigurer hypermediaWebMvcConfigurer(WebConverters converters) {
-		return new HypermediaWebMvcConfigurer(converters);
+	HypermediaWebMvcConfigurer hypermediaWebMvcConfigurer(WebConverters converters,
+			ObjectProvider<RepresentationCache> cache) {
+		return new HypermediaWebMvcConfigurer(converters, cache.getIfUnique());
 	}
 
 	@Bean
@@ -61,9 +68,10 @@ class WebMvcHateoasConfiguration {
 
 	@Bean
 	static HypermediaRepresentationModelBeanProcessorPostProcessor hypermediaRepresentionModelProcessorConfigurator(
-			ObjectProvider<RepresentationModelProcessorInvoker> invoker) {
+			ObjectProvider<RepresentationModelProcessorInvoker> invoker,
+			ObjectProvider<RepresentationModelVersionResolver> versionResolver) {
 
-		return new HypermediaRepresentationModelBeanProcessorPostProcessor(invoker);
+		return new HypermediaRepresentationModelBeanProcessorPostProcessor(invoker, versionResolver);
 	}
 
 	@Bean
@@ -83,6 +91,7 @@ class WebMvcHateoasConfiguration {
 	static class HypermediaWebMvcConfigurer implements WebMvcConfigurer {
 
 		private final @NonNull WebConverters hypermediaConverters;
+		private final @Nullable RepresentationCache cache;
 
 		/*
 		 * (non-Javadoc)
@@ -90,7 +99,29 @@ class WebMvcHateoasConfiguration {
 		 */
 		@Override
 		public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+
 			hypermediaConverters.augment(converters);
+
+			if (cache == null) {
+				return;
+			}
+
+			converters.stream() //
+					.filter(TypeConstrainedMappingJackson2HttpMessageConverter.class::isInstance) //
+					.map(TypeConstrainedMappingJackson2HttpMessageConverter.class::cast) //
+					.forEach(it -> it.setRepresentationCache(cache));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.web.servlet.config.annotation.WebMvcConfigurer#addInterceptors(org.springframework.web.servlet.config.annotation.InterceptorRegistry)
+		 */
+		@Override
+		public void addInterceptors(InterceptorRegistry registry) {
+
+			if (cache != null) {
+				registry.addInterceptor(new RepresentationCacheInterceptor(cache));
+			}
 		}
 	}
 
@@ -102,6 +133,7 @@ class WebMvcHateoasConfiguration {
 	static class HypermediaRepresentationModelBeanProcessorPostProcessor implements BeanPostProcessor {
 
 		private final ObjectProvider<RepresentationModelProcessorInvoker> invoker;
+		private final ObjectProvider<RepresentationModelVersionResolver> versionResolver;
 
 		/*
 		 * (non-Javadoc)
@@ -120,6 +152,7 @@ class WebMvcHateoasConfiguration {
 
 				RepresentationModelProcessorHandlerMethodReturnValueHandler handler = new RepresentationModelProcessorHandlerMethodReturnValueHandler(
 						delegate, () -> invoker.getObject());
+				handler.setVersionResolver(versionResolver.getIfUnique());
 
 				adapter.setReturnValueHandlers(Collections.singletonList(handler));
 			}
@@ -15,15 +15,10 @@
  */
 package org.springframework.hateoas.config;
 
-import java.util.List;
-
-import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 /**
  * Configuration for Spring TEST-specific things
  *
@@ -36,8 +31,7 @@ class WebTestHateoasConfiguration {
 
 	@Bean
 	@Lazy
-	HypermediaWebTestClientConfigurer webTestClientConfigurer(ObjectProvider<ObjectMapper> mapper,
-			List<HypermediaMappingInformation> hypermediaTypes) {
-		return new HypermediaWebTestClientConfigurer(mapper.getIfAvailable(ObjectMapper::new), hypermediaTypes);
+	HypermediaWebTestClientConfigurer webTestClientConfigurer(HypermediaObjectMappers mappers) {
+		return new HypermediaWebTestClientConfigurer(mappers);
 	}
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.instrumentation;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * SPI to measure the time spent in the hot paths of Spring HATEOAS and the effectiveness of its caches, e.g. by
+ * exposing them as timers and counters of a metrics library. All methods default to no-ops so that implementations
+ * only need to override the ones they're interested in. Declare an implementation as Spring bean to have it installed
+ * as {@link Instrumentation#get() the current instrumentation}.
+ *
+ * @author Oliver Drotbohm
+ * @since 1.1
+ * @see Instrumentation
+ */
+public interface HypermediaInstrumentation {
+
+	/**
+	 * An instrumentation not recording anything.
+	 */
+	HypermediaInstrumentation NONE = new HypermediaInstrumentation() {};
+
+	/**
+	 * Starts timing the given {@link Operation}. The returned {@link Sample} is stopped once the operation completes,
+	 * whether successfully or not.
+	 *
+	 * @param operation will never be {@literal null}.
+	 * @param qualifier further detail about the operation, e.g. the media type rendered or the link relation followed.
+	 * @return must not be {@literal null}.
+	 */
+	default Sample start(Operation operation, @Nullable String qualifier) {
+		return Sample.NONE;
+	}
+
+	/**
+	 * Records an access to the given {@link Cache}.
+	 *
+	 * @param cache will never be {@literal null}.
+	 * @param hit whether the value looked up was found in the cache.
+	 */
+	default void recordCacheAccess(Cache cache, boolean hit) {}
+
+	/**
+	 * A running measurement of an {@link Operation}.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	interface Sample {
+
+		/**
+		 * A {@link Sample} not recording anything.
+		 */
+		Sample NONE = () -> {};
+
+		/**
+		 * Stops the measurement.
+		 */
+		void stop();
+	}
+
+	/**
+	 * The operations being timed.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	enum Operation {
+
+		/**
+		 * Building a link to a controller method, qualified with the name of the method.
+		 */
+		LINK_BUILDING,
+
+		/**
+		 * Creating the affordances for a controller method, qualified with the name of the method.
+		 */
+		AFFORDANCE_CREATION,
+
+		/**
+		 * Invoking the {@code RepresentationModelProcessor}s for a model, qualified with the model type.
+		 */
+		PROCESSOR_INVOCATION,
+
+		/**
+		 * Serializing a representation model, qualified with the media type.
+		 */
+		SERIALIZATION,
+
+		/**
+		 * Following a single hop of a Traverson traversal, qualified with the link relation.
+		 */
+		TRAVERSON_HOP,
+
+		/**
+		 * Looking up links in a response using a {@code LinkDiscoverer}, qualified with the link relation.
+		 */
+		LINK_DISCOVERY;
+	}
+
+	/**
+	 * The caches whose accesses are recorded.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	enum Cache {
+
+		/**
+		 * The request mappings of controller types and methods.
+		 */
+		MAPPINGS,
+
+		/**
+		 * The URI templates parsed from request mappings.
+		 */
+		URI_TEMPLATES,
+
+		/**
+		 * The affordances of controller methods.
+		 */
+		AFFORDANCES,
+
+		/**
+		 * The {@code LinkDiscoverer}s per media type.
+		 */
+		LINK_DISCOVERERS,
+
+		/**
+		 * Serialized representations kept in a {@code RepresentationCache}.
+		 */
+		REPRESENTATIONS;
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.instrumentation;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.hateoas.instrumentation.HypermediaInstrumentation.Cache;
+import org.springframework.hateoas.instrumentation.HypermediaInstrumentation.Operation;
+import org.springframework.hateoas.instrumentation.HypermediaInstrumentation.Sample;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Holder for the {@link HypermediaInstrumentation} currently in use. Needed as many of the instrumented code paths are
+ * static or not managed by the application context. Defaults to {@link HypermediaInstrumentation#NONE}. As the holder
+ * is shared by all application contexts of a JVM, the instrumentation installed last is in use. Uninstalling it
+ * reinstates the one installed before.
+ *
+ * @author Oliver Drotbohm
+ * @since 1.1
+ */
+public final class Instrumentation {
+
+	private static final Deque<HypermediaInstrumentation> INSTALLED = new ArrayDeque<>();
+	private static volatile HypermediaInstrumentation current = HypermediaInstrumentation.NONE;
+
+	private Instrumentation() {}
+
+	/**
+	 * Returns the {@link HypermediaInstrumentation} currently in use.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public static HypermediaInstrumentation get() {
+		return current;
+	}
+
+	/**
+	 * Installs the given {@link HypermediaInstrumentation}.
+	 *
+	 * @param instrumentation must not be {@literal null}.
+	 * @see #uninstall(HypermediaInstrumentation)
+	 */
+	public static synchronized void install(HypermediaInstrumentation instrumentation) {
+
+		Assert.notNull(instrumentation, "HypermediaInstrumentation must not be null!");
+
+		INSTALLED.push(instrumentation);
+		current = instrumentation;
+	}
+
+	/**
+	 * Uninstalls the given {@link HypermediaInstrumentation}. If it's currently in use, the one installed before is
+	 * reinstated, or {@link HypermediaInstrumentation#NONE} if there is none.
+	 *
+	 * @param instrumentation must not be {@literal null}.
+	 * @since 1.1
+	 */
+	public static synchronized void uninstall(HypermediaInstrumentation instrumentation) {
+
+		Assert.notNull(instrumentation, "HypermediaInstrumentation must not be null!");
+
+		INSTALLED.removeFirstOccurrence(instrumentation);
+
+		HypermediaInstrumentation previous = INSTALLED.peek();
+
+		current = previous == null ? HypermediaInstrumentation.NONE : previous;
+	}
+
+	/**
+	 * Uninstalls all instrumentations and resets the instrumentation to {@link HypermediaInstrumentation#NONE}.
+	 */
+	public static synchronized void reset() {
+
+		INSTALLED.clear();
+		current = HypermediaInstrumentation.NONE;
+	}
+
+	/**
+	 * Starts timing the given {@link Operation}. The qualifier is only computed if a {@link HypermediaInstrumentation}
+	 * is installed.
+	 *
+	 * @param operation must not be {@literal null}.
+	 * @param qualifier must not be {@literal null}, may return {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static Sample start(Operation operation, Supplier<String> qualifier) {
+
+		HypermediaInstrumentation instrumentation = current;
+
+		return instrumentation == HypermediaInstrumentation.NONE //
+				? Sample.NONE //
+				: instrumentation.start(operation, qualifier.get());
+	}
+
+	/**
+	 * Times the given {@link Operation} executed by the given {@link Supplier}.
+	 *
+	 * @param operation must not be {@literal null}.
+	 * @param qualifier can be {@literal null}.
+	 * @param supplier must not be {@literal null}.
+	 * @return the value returned by the {@link Supplier}.
+	 */
+	public static <T> T time(Operation operation, @Nullable String qualifier, Supplier<T> supplier) {
+
+		Sample sample = current.start(operation, qualifier);
+
+		try {
+			return supplier.get();
+		} finally {
+			sample.stop();
+		}
+	}
+
+	/**
+	 * Records an access to the given {@link Cache}.
+	 *
+	 * @param cache must not be {@literal null}.
+	 * @param hit whether the value looked up was found in the cache.
+	 */
+	public static void recordCacheAccess(Cache cache, boolean hit) {
+		current.recordCacheAccess(cache, hit);
+	}
+
+	/**
+	 * Looks up the value for the given key from the given {@link Map} backing the given {@link Cache}, computing it using
+	 * the given {@link Function} if absent, and records the access. Lookups are not recorded while no
+	 * {@link HypermediaInstrumentation} is installed.
+	 *
+	 * @param cache must not be {@literal null}.
+	 * @param map must not be {@literal null}.
+	 * @param key must not be {@literal null}.
+	 * @param function must not be {@literal null}.
+	 * @return the cached or computed value.
+	 * @see Map#computeIfAbsent(Object, Function)
+	 */
+	public static <K, V> V computeIfAbsent(Cache cache, Map<K, V> map, K key, Function<? super K, ? extends V> function) {
+
+		HypermediaInstrumentation instrumentation = current;
+
+		if (instrumentation == HypermediaInstrumentation.NONE) {
+			return map.computeIfAbsent(key, function);
+		}
+
+		V value = map.get(key);
+
+		instrumentation.recordCacheAccess(cache, value != null);
+
+		return value != null ? value : map.computeIfAbsent(key, function);
+	}
+}
@@ -0,0 +1,7 @@
+/**
+ * SPI to instrument the hot paths of link building, hypermedia rendering and client side link traversal.
+ */
+@NonNullApi
+package org.springframework.hateoas.instrumentation;
+
+import org.springframework.lang.NonNullApi;
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mediatype;
+
+import lombok.EqualsAndHashCode;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * A {@link MessageResolver} caching the results of a delegate {@link MessageResolver} per {@link Locale}. Both resolved
+ * messages and failed lookups are cached, so that repeated resolution attempts for codes not backed by a message only
+ * hit the delegate once. {@link MessageSourceResolvable}s carrying arguments are not cached. As the {@link Locale} is
+ * controlled by the client, the number of locales and the number of messages cached per locale are bounded. Messages
+ * for locales exceeding that limit are resolved without caching them.
+ *
+ * @author Oliver Drotbohm
+ * @since 1.1
+ */
+class CachingMessageResolver implements MessageResolver {
+
+	static final int MAX_LOCALES = 16;
+	static final int MAX_ENTRIES_PER_LOCALE = 1024;
+
+	private final MessageResolver delegate;
+	private final Map<Locale, Map<CacheKey, Optional<String>>> cache = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@link CachingMessageResolver} for the given delegate {@link MessageResolver}.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 */
+	CachingMessageResolver(MessageResolver delegate) {
+
+		Assert.notNull(delegate, "Delegate MessageResolver must not be null!");
+
+		this.delegate = delegate;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.mediatype.MessageResolver#resolve(org.springframework.context.MessageSourceResolvable)
+	 */
+	@Nullable
+	@Override
+	public String resolve(MessageSourceResolvable resolvable) {
+
+		if (!ObjectUtils.isEmpty(resolvable.getArguments())) {
+			return delegate.resolve(resolvable);
+		}
+
+		Map<CacheKey, Optional<String>> messages = getMessages(LocaleContextHolder.getLocale());
+
+		if (messages == null) {
+			return delegate.resolve(resolvable);
+		}
+
+		CacheKey key = CacheKey.of(resolvable);
+		Optional<String> message = messages.get(key);
+
+		if (message != null) {
+			return message.orElse(null);
+		}
+
+		String resolved = delegate.resolve(resolvable);
+
+		if (messages.size() < MAX_ENTRIES_PER_LOCALE) {
+			messages.put(key, Optional.ofNullable(resolved));
+		}
+
+		return resolved;
+	}
+
+	/**
+	 * Returns the cached messages for the given {@link Locale} or {@literal null} in case the maximum number of locales
+	 * cached was reached.
+	 *
+	 * @param locale must not be {@literal null}.
+	 * @return
+	 */
+	@Nullable
+	private Map<CacheKey, Optional<String>> getMessages(Locale locale) {
+
+		Map<CacheKey, Optional<String>> messages = cache.get(locale);
+
+		if (messages != null || cache.size() >= MAX_LOCALES) {
+			return messages;
+		}
+
+		return cache.computeIfAbsent(locale, __ -> new ConcurrentHashMap<>());
+	}
+
+	/**
+	 * Cache key capturing the parts of a {@link MessageSourceResolvable} relevant for message resolution.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	@EqualsAndHashCode
+	private static class CacheKey {
+
+		private final String[] codes;
+		private final @Nullable String defaultMessage;
+
+		private CacheKey(@Nullable String[] codes, @Nullable String defaultMessage) {
+
+			this.codes = codes == null ? new String[0] : codes;
+			this.defaultMessage = defaultMessage;
+		}
+
+		static CacheKey of(MessageSourceResolvable resolvable) {
+			return new CacheKey(resolvable.getCodes(), resolvable.getDefaultMessage());
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return Arrays.toString(codes);
+		}
+	}
+}
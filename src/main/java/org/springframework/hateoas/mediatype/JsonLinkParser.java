@@ -0,0 +1,246 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mediatype;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Links;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Helper to discover {@link Link}s in JSON documents using Jackson's streaming API. Media type specific
+ * {@link LinkExtractor}s only descend into the sections of a document that contain links and skip everything else, so
+ * that neither the document as a whole nor any of its non-link content gets materialized.
+ *
+ * @author Oliver Drotbohm
+ * @since 1.1
+ */
+public final class JsonLinkParser {
+
+	private static final JsonFactory FACTORY = new JsonFactory();
+
+	private JsonLinkParser() {}
+
+	/**
+	 * Parses the given JSON {@link String} and returns all {@link Link}s found by the given {@link LinkExtractor}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param extractor must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static Links parse(String source, LinkExtractor extractor) {
+
+		Assert.notNull(source, "Source must not be null!");
+		Assert.notNull(extractor, "LinkExtractor must not be null!");
+
+		try (JsonParser parser = FACTORY.createParser(source)) {
+			return parse(parser, extractor);
+		} catch (IOException o_O) {
+			throw new RuntimeException(o_O);
+		}
+	}
+
+	/**
+	 * Parses the given JSON {@link InputStream} and returns all {@link Link}s found by the given {@link LinkExtractor}.
+	 * The {@link InputStream} is closed after parsing.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param extractor must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static Links parse(InputStream source, LinkExtractor extractor) {
+
+		Assert.notNull(source, "Source must not be null!");
+		Assert.notNull(extractor, "LinkExtractor must not be null!");
+
+		try (JsonParser parser = FACTORY.createParser(source)) {
+			return parse(parser, extractor);
+		} catch (IOException o_O) {
+			throw new RuntimeException(o_O);
+		}
+	}
+
+	/**
+	 * Invokes the given {@link ValueHandler} for all fields of the JSON object the given {@link JsonParser} currently
+	 * points to. Values not consumed by the handler are skipped.
+	 *
+	 * @param parser must not be {@literal null}.
+	 * @param handler must not be {@literal null}.
+	 * @throws IOException
+	 */
+	public static void forEachField(JsonParser parser, ValueHandler handler) throws IOException {
+
+		if (!parser.isExpectedStartObjectToken()) {
+			parser.skipChildren();
+			return;
+		}
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+
+			String name = parser.getCurrentName();
+			parser.nextToken();
+
+			if (!handler.handle(name, parser)) {
+				parser.skipChildren();
+			}
+		}
+	}
+
+	/**
+	 * Invokes the given {@link ValueHandler} for all elements of the JSON array the given {@link JsonParser} currently
+	 * points to. Elements not consumed by the handler are skipped. The handler is invoked with a {@literal null} name.
+	 *
+	 * @param parser must not be {@literal null}.
+	 * @param handler must not be {@literal null}.
+	 * @throws IOException
+	 */
+	public static void forEachElement(JsonParser parser, ValueHandler handler) throws IOException {
+
+		if (!parser.isExpectedStartArrayToken()) {
+			parser.skipChildren();
+			return;
+		}
+
+		while (parser.nextToken() != JsonToken.END_ARRAY) {
+			if (!handler.handle(null, parser)) {
+				parser.skipChildren();
+			}
+		}
+	}
+
+	/**
+	 * Reads all scalar fields of the JSON object the given {@link JsonParser} currently points to into a {@link Map}.
+	 * Nested objects and arrays as well as {@literal null} values are skipped.
+	 *
+	 * @param parser must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @throws IOException
+	 */
+	public static Map<String, String> readAttributes(JsonParser parser) throws IOException {
+
+		Map<String, String> attributes = new HashMap<>();
+
+		forEachField(parser, (name, it) -> {
+
+			JsonToken token = it.currentToken();
+
+			if (!token.isScalarValue()) {
+				return false;
+			}
+
+			if (token != JsonToken.VALUE_NULL) {
+				attributes.put(name, it.getText());
+			}
+
+			return true;
+		});
+
+		return attributes;
+	}
+
+	/**
+	 * Reads the {@link String} values of the JSON array the given {@link JsonParser} currently points to. A single
+	 * scalar value is returned as a single element {@link List}.
+	 *
+	 * @param parser must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @throws IOException
+	 */
+	public static List<String> readStrings(JsonParser parser) throws IOException {
+
+		if (parser.currentToken() == JsonToken.VALUE_STRING) {
+			return Collections.singletonList(parser.getText());
+		}
+
+		List<String> values = new ArrayList<>();
+
+		forEachElement(parser, (name, it) -> {
+
+			if (it.currentToken() != JsonToken.VALUE_STRING) {
+				return false;
+			}
+
+			values.add(it.getText());
+
+			return true;
+		});
+
+		return values;
+	}
+
+	private static Links parse(JsonParser parser, LinkExtractor extractor) throws IOException {
+
+		if (parser.nextToken() != JsonToken.START_OBJECT) {
+			return Links.NONE;
+		}
+
+		List<Link> links = new ArrayList<>();
+
+		extractor.extract(parser, links);
+
+		return Links.of(links);
+	}
+
+	/**
+	 * Callback to extract {@link Link}s from a JSON document.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	@FunctionalInterface
+	public interface LinkExtractor {
+
+		/**
+		 * Extracts the {@link Link}s from the JSON document the given {@link JsonParser} points to. The parser is positioned
+		 * at the start of the root object.
+		 *
+		 * @param parser will never be {@literal null}.
+		 * @param links the {@link List} to add the discovered {@link Link}s to, will never be {@literal null}.
+		 * @throws IOException
+		 */
+		void extract(JsonParser parser, List<Link> links) throws IOException;
+	}
+
+	/**
+	 * Callback to handle a JSON value.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	@FunctionalInterface
+	public interface ValueHandler {
+
+		/**
+		 * Handles the value the given {@link JsonParser} currently points to.
+		 *
+		 * @param name the name of the field containing the value, {@literal null} for array elements.
+		 * @param parser will never be {@literal null}.
+		 * @return whether the value was consumed entirely. If {@literal false}, the value will be skipped.
+		 * @throws IOException
+		 */
+		boolean handle(@Nullable String name, JsonParser parser) throws IOException;
+	}
+}
@@ -51,4 +51,20 @@ public interface MessageResolver {
 				? DefaultOnlyMessageResolver.INSTANCE //
 				: new MessageSourceResolver(messageSource);
 	}
+
+	/**
+	 * Obtains a {@link MessageResolver} for the given {@link MessageSource} that caches resolved messages as well as
+	 * failed lookups per {@link java.util.Locale}. Only use this for {@link MessageSource}s that don't reload their
+	 * messages, as changes to them will not be picked up.
+	 *
+	 * @param messageSource can be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 1.1
+	 */
+	static MessageResolver cached(@Nullable MessageSource messageSource) {
+
+		MessageResolver resolver = of(messageSource);
+
+		return messageSource == null ? resolver : new CachingMessageResolver(resolver);
+	}
 }
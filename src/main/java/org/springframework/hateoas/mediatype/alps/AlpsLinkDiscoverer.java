@@ -15,9 +15,19 @@
  */
 package org.springframework.hateoas.mediatype.alps;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Links;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.client.JsonPathLinkDiscoverer;
 import org.springframework.hateoas.client.LinkDiscoverer;
+import org.springframework.hateoas.mediatype.JsonLinkParser;
+
+import com.fasterxml.jackson.core.JsonParser;
 
 /**
  * {@link LinkDiscoverer} implementation to find ALPS-based links.
@@ -29,4 +39,54 @@ public class AlpsLinkDiscoverer extends JsonPathLinkDiscoverer {
 	public AlpsLinkDiscoverer() {
 		super("$.descriptors[?(@.name == '%s')].href", MediaTypes.ALPS_JSON);
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.client.LinkDiscoverer#findLinks(java.lang.String)
+	 */
+	@Override
+	public Links findLinks(String representation) {
+		return JsonLinkParser.parse(representation, AlpsLinkDiscoverer::extractLinks);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.client.LinkDiscoverer#findLinks(java.io.InputStream)
+	 */
+	@Override
+	public Links findLinks(InputStream representation) {
+		return JsonLinkParser.parse(representation, AlpsLinkDiscoverer::extractLinks);
+	}
+
+	/**
+	 * Reads the {@code href}s of the top-level descriptors using their names as link relations.
+	 *
+	 * @param parser must not be {@literal null}.
+	 * @param links must not be {@literal null}.
+	 * @throws IOException
+	 */
+	private static void extractLinks(JsonParser parser, List<Link> links) throws IOException {
+
+		JsonLinkParser.forEachField(parser, (name, descriptors) -> {
+
+			if (!"descriptors".equals(name)) {
+				return false;
+			}
+
+			JsonLinkParser.forEachElement(descriptors, (ignored, descriptor) -> {
+
+				Map<String, String> attributes = JsonLinkParser.readAttributes(descriptor);
+				String rel = attributes.get("name");
+				String href = attributes.get("href");
+
+				if (rel != null && href != null) {
+					links.add(Link.of(href, rel));
+				}
+
+				return true;
+			});
+
+			return true;
+		});
+	}
 }
@@ -15,7 +15,11 @@
  */
 package org.springframework.hateoas.mediatype.collectionjson;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.hateoas.IanaLinkRelations;
@@ -25,8 +29,12 @@ import org.springframework.hateoas.Links;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.client.JsonPathLinkDiscoverer;
 import org.springframework.hateoas.client.LinkDiscoverer;
+import org.springframework.hateoas.mediatype.JsonLinkParser;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
+import com.fasterxml.jackson.core.JsonParser;
+
 /**
  * {@link LinkDiscoverer} implementation based on JSON Collection link structure. NOTE: Since links can appear in two
  * different places in a Collection+JSON document, this discoverer uses two.
@@ -103,6 +111,104 @@ public class CollectionJsonLinkDiscoverer extends JsonPathLinkDiscoverer {
 
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.client.LinkDiscoverer#findLinks(java.lang.String)
+	 */
+	@Override
+	public Links findLinks(String representation) {
+		return JsonLinkParser.parse(representation, CollectionJsonLinkDiscoverer::extractLinks);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.client.LinkDiscoverer#findLinks(java.io.InputStream)
+	 */
+	@Override
+	public Links findLinks(InputStream representation) {
+		return JsonLinkParser.parse(representation, CollectionJsonLinkDiscoverer::extractLinks);
+	}
+
+	/**
+	 * Reads the {@code self} link from {@code $.collection.href} as well as all links contained in {@code links} arrays
+	 * anywhere inside the collection. The {@code self} link is listed first.
+	 *
+	 * @param parser must not be {@literal null}.
+	 * @param links must not be {@literal null}.
+	 * @throws IOException
+	 */
+	private static void extractLinks(JsonParser parser, List<Link> links) throws IOException {
+
+		JsonLinkParser.forEachField(parser, (name, collection) -> {
+
+			if (!"collection".equals(name) || !collection.isExpectedStartObjectToken()) {
+				return false;
+			}
+
+			List<Link> nested = new ArrayList<>();
+
+			JsonLinkParser.forEachField(collection, (field, value) -> {
+
+				if ("href".equals(field) && value.currentToken().isScalarValue()) {
+					links.add(Link.of(value.getText(), IanaLinkRelations.SELF));
+					return true;
+				}
+
+				return scanForLinks(field, value, nested);
+			});
+
+			links.addAll(nested);
+
+			return true;
+		});
+	}
+
+	/**
+	 * Recursively collects the links of all {@code links} arrays found in the given value.
+	 *
+	 * @param name the name of the field holding the value, can be {@literal null}.
+	 * @param parser must not be {@literal null}.
+	 * @param links must not be {@literal null}.
+	 * @return whether the value was consumed.
+	 * @throws IOException
+	 */
+	private static boolean scanForLinks(@Nullable String name, JsonParser parser, List<Link> links) throws IOException {
+
+		if ("links".equals(name) && parser.isExpectedStartArrayToken()) {
+
+			JsonLinkParser.forEachElement(parser, (ignored, element) -> {
+
+				if (!element.isExpectedStartObjectToken()) {
+					return false;
+				}
+
+				Map<String, String> attributes = JsonLinkParser.readAttributes(element);
+				String rel = attributes.get("rel");
+				String href = attributes.get("href");
+
+				if (rel != null && href != null) {
+					links.add(Link.of(href, rel));
+				}
+
+				return true;
+			});
+
+			return true;
+		}
+
+		if (parser.isExpectedStartObjectToken()) {
+			JsonLinkParser.forEachField(parser, (field, value) -> scanForLinks(field, value, links));
+			return true;
+		}
+
+		if (parser.isExpectedStartArrayToken()) {
+			JsonLinkParser.forEachElement(parser, (ignored, value) -> scanForLinks(null, value, links));
+			return true;
+		}
+
+		return false;
+	}
+
 	//
 	// Internal methods to support discovering the "self" link found at "$.collection.href".
 	//
@@ -60,6 +60,12 @@ public class HalConfiguration {
 	 */
 	private final @With @Getter boolean enforceEmbeddedCollections;
 
+	/**
+	 * Configures the {@link HalLinkWriter} to render individual links with, if it supports the current Jackson setup.
+	 * Defaults to {@link HalLinkWriter#STREAMING}.
+	 */
+	private final @With @Getter HalLinkWriter linkWriter;
+
 	/**
 	 * Creates a new default {@link HalConfiguration} rendering single links as immediate sub-document.
 	 */
@@ -69,6 +75,7 @@ public class HalConfiguration {
 		this.singleLinksPerPattern = new LinkedHashMap<>();
 		this.applyPropertyNamingStrategy = true;
 		this.enforceEmbeddedCollections = true;
+		this.linkWriter = HalLinkWriter.STREAMING;
 	}
 
 	/**
@@ -42,13 +42,15 @@ import org.springframework.util.Assert;
  * @author Oliver Gierke
  * @author Dietrich Schulten
  */
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
 class HalEmbeddedBuilder {
 
 	private static final String INVALID_EMBEDDED_WRAPPER = "Embedded wrapper %s returned null for both the static rel and the rel target type! Make sure one of the two returns a non-null value!";
 	private static final Function<String, String> NO_TRANSFORMER = Function.identity();
 
 	private final Map<HalLinkRelation, Object> embeddeds = new HashMap<>();
+	private final Map<Class<?>, HalLinkRelation> collectionRels = new HashMap<>();
+	private final Map<Class<?>, HalLinkRelation> itemRels = new HashMap<>();
 	private final LinkRelationProvider provider;
 	private final CurieProvider curieProvider;
 	private final EmbeddedWrappers wrappers;
@@ -133,16 +135,22 @@ class HalEmbeddedBuilder {
 						throw new IllegalStateException(String.format(INVALID_EMBEDDED_WRAPPER, wrapper));
 					}
 
-					LinkRelation rel = forCollection //
-							? provider.getCollectionResourceRelFor(type) //
-							: provider.getItemResourceRelFor(type);
+					return (forCollection ? collectionRels : itemRels) //
+							.computeIfAbsent(type, it -> getRelFor(it, forCollection));
+				});
+	}
 
-					rel = relationTransformer == NO_TRANSFORMER ? rel : rel.map(relationTransformer);
+	private HalLinkRelation getRelFor(Class<?> type, boolean forCollection) {
 
-					return curieProvider != CurieProvider.NONE //
-							? curieProvider.getNamespacedRelFor(rel) //
-							: HalLinkRelation.of(rel);
-				});
+		LinkRelation rel = forCollection //
+				? provider.getCollectionResourceRelFor(type) //
+				: provider.getItemResourceRelFor(type);
+
+		rel = relationTransformer == NO_TRANSFORMER ? rel : rel.map(relationTransformer);
+
+		return curieProvider != CurieProvider.NONE //
+				? curieProvider.getNamespacedRelFor(rel) //
+				: HalLinkRelation.of(rel);
 	}
 
 	/**
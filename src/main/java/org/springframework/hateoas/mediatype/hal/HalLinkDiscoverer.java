@@ -15,17 +15,30 @@
  */
 package org.springframework.hateoas.mediatype.hal;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.Links;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.client.JsonPathLinkDiscoverer;
 import org.springframework.hateoas.client.LinkDiscoverer;
+import org.springframework.hateoas.mediatype.JsonLinkParser;
 import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 /**
- * {@link LinkDiscoverer} implementation based on HAL link structure.
+ * {@link LinkDiscoverer} implementation based on HAL link structure. Links are looked up by streaming through the
+ * representation and only reading the top-level {@code _links} object, so that large {@code _embedded} sections are
+ * skipped and parsing stops as soon as the requested links were found.
  *
  * @author Oliver Gierke
  * @author Greg Turnquist
@@ -43,6 +56,72 @@ public class HalLinkDiscoverer extends JsonPathLinkDiscoverer {
 		super("$._links..['%s']", mediaTypes);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.client.JsonPathLinkDiscoverer#findLinkWithRel(org.springframework.hateoas.LinkRelation, java.lang.String)
+	 */
+	@Override
+	public Optional<Link> findLinkWithRel(LinkRelation relation, String representation) {
+
+		Assert.notNull(relation, "LinkRelation must not be null!");
+
+		return first(JsonLinkParser.parse(representation, (parser, links) -> readLinks(parser, links, relation, true)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.client.JsonPathLinkDiscoverer#findLinkWithRel(org.springframework.hateoas.LinkRelation, java.io.InputStream)
+	 */
+	@Override
+	public Optional<Link> findLinkWithRel(LinkRelation relation, InputStream representation) {
+
+		Assert.notNull(relation, "LinkRelation must not be null!");
+
+		return first(JsonLinkParser.parse(representation, (parser, links) -> readLinks(parser, links, relation, true)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.client.JsonPathLinkDiscoverer#findLinksWithRel(org.springframework.hateoas.LinkRelation, java.lang.String)
+	 */
+	@Override
+	public Links findLinksWithRel(LinkRelation relation, String representation) {
+
+		Assert.notNull(relation, "LinkRelation must not be null!");
+
+		return JsonLinkParser.parse(representation, (parser, links) -> readLinks(parser, links, relation, false));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.client.JsonPathLinkDiscoverer#findLinksWithRel(org.springframework.hateoas.LinkRelation, java.io.InputStream)
+	 */
+	@Override
+	public Links findLinksWithRel(LinkRelation relation, InputStream representation) {
+
+		Assert.notNull(relation, "LinkRelation must not be null!");
+
+		return JsonLinkParser.parse(representation, (parser, links) -> readLinks(parser, links, relation, false));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.client.LinkDiscoverer#findLinks(java.lang.String)
+	 */
+	@Override
+	public Links findLinks(String representation) {
+		return JsonLinkParser.parse(representation, (parser, links) -> readLinks(parser, links, null, false));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.client.LinkDiscoverer#findLinks(java.io.InputStream)
+	 */
+	@Override
+	public Links findLinks(InputStream representation) {
+		return JsonLinkParser.parse(representation, (parser, links) -> readLinks(parser, links, null, false));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.hateoas.core.JsonPathLinkDiscoverer#extractLink(java.lang.Object, org.springframework.hateoas.LinkRelation)
@@ -55,7 +134,92 @@ public class HalLinkDiscoverer extends JsonPathLinkDiscoverer {
 			return super.extractLink(element, rel);
 		}
 
-		Map<String, String> json = (Map<String, String>) element;
+		return toLink((Map<String, String>) element, rel);
+	}
+
+	/**
+	 * Reads the links of the top-level {@code _links} object. All other top-level properties, {@code _embedded} in
+	 * particular, are skipped without being materialized and parsing ends right after the {@code _links} object.
+	 *
+	 * @param parser must not be {@literal null}.
+	 * @param links must not be {@literal null}.
+	 * @param relation the {@link LinkRelation} to read links for, {@literal null} to read all links. Relations are
+	 *          matched exactly and the links found carry the given {@link LinkRelation}.
+	 * @param firstOnly whether to stop parsing as soon as the first matching link was found.
+	 * @throws IOException
+	 */
+	private static void readLinks(JsonParser parser, List<Link> links, @Nullable LinkRelation relation,
+			boolean firstOnly) throws IOException {
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+
+			String name = parser.getCurrentName();
+			parser.nextToken();
+
+			if (!"_links".equals(name) || !parser.isExpectedStartObjectToken()) {
+				parser.skipChildren();
+				continue;
+			}
+
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+
+				String currentName = parser.getCurrentName();
+				JsonToken token = parser.nextToken();
+
+				if (relation != null && !relation.value().equals(currentName)) {
+					parser.skipChildren();
+					continue;
+				}
+
+				LinkRelation rel = relation != null ? relation : LinkRelation.of(currentName);
+
+				if (token != JsonToken.START_ARRAY) {
+
+					addLink(parser, rel, links);
+
+				} else {
+
+					while (parser.nextToken() != JsonToken.END_ARRAY) {
+
+						addLink(parser, rel, links);
+
+						if (firstOnly && !links.isEmpty()) {
+							return;
+						}
+					}
+				}
+
+				if (firstOnly && !links.isEmpty()) {
+					return;
+				}
+			}
+
+			return;
+		}
+	}
+
+	private static void addLink(JsonParser parser, LinkRelation relation, List<Link> links) throws IOException {
+
+		if (parser.isExpectedStartObjectToken()) {
+
+			Map<String, String> attributes = JsonLinkParser.readAttributes(parser);
+
+			if (attributes.containsKey("href")) {
+				links.add(toLink(attributes, relation));
+			}
+
+		} else if (parser.currentToken() == JsonToken.VALUE_STRING) {
+			links.add(Link.of(parser.getText(), relation));
+		} else {
+			parser.skipChildren();
+		}
+	}
+
+	private static Optional<Link> first(Links links) {
+		return links.isEmpty() ? Optional.empty() : Optional.of(links.toList().get(0));
+	}
+
+	private static Link toLink(Map<String, String> json, LinkRelation rel) {
 
 		return Link.of(json.get("href"), rel) //
 				.withHreflang(json.get("hreflang")) //
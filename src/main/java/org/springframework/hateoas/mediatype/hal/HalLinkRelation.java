@@ -49,6 +49,9 @@ public class HalLinkRelation implements LinkRelation, MessageSourceResolvable {
 	private final @Nullable String curie;
 	private final @NonNull @Getter String localPart;
 
+	private transient @Nullable String value;
+	private transient @Nullable String[] codes;
+
 	/**
 	 * Returns a {@link HalLinkRelation} for the given general {@link LinkRelation}.
 	 *
@@ -173,7 +176,15 @@ public class HalLinkRelation implements LinkRelation, MessageSourceResolvable {
 	@JsonValue
 	@Override
 	public String value() {
-		return isCuried() ? String.format("%s:%s", curie, localPart) : localPart;
+
+		String value = this.value;
+
+		if (value == null) {
+			value = isCuried() ? curie.concat(":").concat(localPart) : localPart;
+			this.value = value;
+		}
+
+		return value;
 	}
 
 	/*
@@ -184,9 +195,18 @@ public class HalLinkRelation implements LinkRelation, MessageSourceResolvable {
 	@org.springframework.lang.NonNull
 	public String[] getCodes() {
 
-		return Stream.of(value(), localPart) //
-				.map(it -> String.format(RELATION_MESSAGE_TEMPLATE, it)) //
-				.toArray(String[]::new);
+		String[] codes = this.codes;
+
+		if (codes == null) {
+
+			codes = Stream.of(value(), localPart) //
+					.map(it -> String.format(RELATION_MESSAGE_TEMPLATE, it)) //
+					.toArray(String[]::new);
+
+			this.codes = codes;
+		}
+
+		return codes.clone();
 	}
 
 	/*
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mediatype.hal;
+
+import java.io.IOException;
+
+import org.springframework.hateoas.Link;
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+/**
+ * SPI to render the individual {@link Link} objects of a HAL {@code _links} clause using the streaming
+ * {@link JsonGenerator} API only, bypassing the Jackson databind serializer lookup for {@link Link}. The writer is only
+ * used if it {@link #supports(SerializerProvider) supports} the current serialization setup, otherwise rendering falls
+ * back to the databind based serializers.
+ *
+ * @author Oliver Drotbohm
+ * @since 1.1
+ * @see HalConfiguration#withLinkWriter(HalLinkWriter)
+ */
+public interface HalLinkWriter {
+
+	/**
+	 * Writes {@link Link}s directly to the {@link JsonGenerator} unless the Jackson setup customizes the rendering of
+	 * {@link Link}s.
+	 */
+	HalLinkWriter STREAMING = StreamingHalLinkWriter.INSTANCE;
+
+	/**
+	 * Always falls back to Jackson databind based rendering.
+	 */
+	HalLinkWriter NONE = new HalLinkWriter() {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.mediatype.hal.HalLinkWriter#supports(com.fasterxml.jackson.databind.SerializerProvider)
+		 */
+		@Override
+		public boolean supports(SerializerProvider provider) {
+			return false;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.mediatype.hal.HalLinkWriter#write(org.springframework.hateoas.Link, java.lang.String, com.fasterxml.jackson.core.JsonGenerator)
+		 */
+		@Override
+		public void write(Link link, @Nullable String title, JsonGenerator generator) {
+			throw new UnsupportedOperationException();
+		}
+	};
+
+	/**
+	 * Returns whether the writer can render {@link Link}s for the setup backing the given {@link SerializerProvider}, i.e.
+	 * whether its output would be equivalent to the one of the databind based serializers.
+	 *
+	 * @param provider must not be {@literal null}.
+	 * @return
+	 */
+	boolean supports(SerializerProvider provider);
+
+	/**
+	 * Writes the given {@link Link} as JSON object.
+	 *
+	 * @param link must not be {@literal null}.
+	 * @param title the title resolved for the link's relation, can be {@literal null}.
+	 * @param generator must not be {@literal null}.
+	 * @throws IOException
+	 */
+	void write(Link link, @Nullable String title, JsonGenerator generator) throws IOException;
+}
@@ -17,6 +17,7 @@ package org.springframework.hateoas.mediatype.hal;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import java.io.IOException;
@@ -25,9 +26,12 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import org.springframework.beans.BeanUtils;
@@ -41,9 +45,11 @@ import org.springframework.hateoas.RepresentationModel;
 import org.springframework.hateoas.mediatype.MessageResolver;
 import org.springframework.hateoas.mediatype.hal.HalConfiguration.RenderSingleLinks;
 import org.springframework.hateoas.server.LinkRelationProvider;
+import org.springframework.hateoas.server.core.EmbeddedWrappers;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
@@ -52,7 +58,9 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
 import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy.PropertyNamingStrategyBase;
 import com.fasterxml.jackson.databind.cfg.HandlerInstantiator;
@@ -69,6 +77,7 @@ import com.fasterxml.jackson.databind.ser.ContainerSerializer;
 import com.fasterxml.jackson.databind.ser.ContextualSerializer;
 import com.fasterxml.jackson.databind.ser.std.MapSerializer;
 import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 
 /**
@@ -82,7 +91,6 @@ import com.fasterxml.jackson.databind.type.TypeFactory;
 public class Jackson2HalModule extends SimpleModule {
 
 	private static final long serialVersionUID = 7806951456457932384L;
-	private static final Link CURIES_REQUIRED_DUE_TO_EMBEDS = Link.of("__rel__", "¯\\_(ツ)_/¯");
 
 	public Jackson2HalModule() {
 
@@ -91,6 +99,8 @@ public class Jackson2HalModule extends SimpleModule {
 		setMixInAnnotation(Link.class, LinkMixin.class);
 		setMixInAnnotation(RepresentationModel.class, RepresentationModelMixin.class);
 		setMixInAnnotation(CollectionModel.class, CollectionModelMixin.class);
+
+		addKeySerializer(LinkRelation.class, new LinkRelationKeySerializer());
 	}
 
 	/**
@@ -114,6 +124,8 @@ public class Jackson2HalModule extends SimpleModule {
 	public static class HalLinkListSerializer extends ContainerSerializer<Links> implements ContextualSerializer {
 
 		private static final long serialVersionUID = -1844788111509966406L;
+		private static final int MAX_RELATION_NAMES = 256;
+		private static final Map<String, SerializableString> RELATION_NAMES = new ConcurrentHashMap<>(MAX_RELATION_NAMES);
 
 		private final @Nullable BeanProperty property;
 		private final CurieProvider curieProvider;
@@ -166,18 +178,12 @@ public class Jackson2HalModule extends SimpleModule {
 					? mapper.with(propertyNamingStrategy)
 					: mapper;
 
-			if (currentValue instanceof CollectionModel
-					&& transformingMapper.hasCuriedEmbed((CollectionModel<?>) currentValue)) {
-
+			if (currentValue != null && EmbeddedMappings.of(provider).hasCuriedEmbed(currentValue, transformingMapper)) {
 				curiedLinkPresent = true;
 			}
 
 			for (Link link : value) {
 
-				if (link.equals(CURIES_REQUIRED_DUE_TO_EMBEDS)) {
-					continue;
-				}
-
 				LinkRelation rel = prefixingRequired ? curieProvider.getNamespacedRelFrom(link) : link.getRel();
 
 				if (!link.hasRel(rel)) {
@@ -202,16 +208,75 @@ public class Jackson2HalModule extends SimpleModule {
 
 			TypeFactory typeFactory = provider.getConfig().getTypeFactory();
 			JavaType keyType = typeFactory.constructType(LinkRelation.class);
+			JsonSerializer<Object> keySerializer = provider.findKeySerializer(keyType, null);
+			HalLinkWriter linkWriter = halConfiguration.getLinkWriter();
+
+			if (!provider.isEnabled(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+					&& keySerializer instanceof LinkRelationKeySerializer //
+					&& linkWriter.supports(provider)) {
+
+				writeLinks(sortedLinks, linkWriter, jgen, provider);
+				return;
+			}
+
 			JavaType valueType = typeFactory.constructCollectionType(ArrayList.class, Object.class);
 			JavaType mapType = typeFactory.constructMapType(HashMap.class, keyType, valueType);
 
-			MapSerializer serializer = MapSerializer.construct(Collections.emptySet(), mapType, true, null,
-					provider.findKeySerializer(keyType, null), new OptionalListJackson2Serializer(property, halConfiguration),
-					null);
+			MapSerializer serializer = MapSerializer.construct(Collections.emptySet(), mapType, true, null, keySerializer,
+					new OptionalListJackson2Serializer(property, halConfiguration), null);
 
 			serializer.serialize(sortedLinks, jgen, provider);
 		}
 
+		/**
+		 * Writes the given links sorted by relation using the given {@link HalLinkWriter}. Non-{@link HalLink} values (e.g.
+		 * curies) are still rendered using the databind based {@link OptionalListJackson2Serializer}.
+		 *
+		 * @param sortedLinks must not be {@literal null}.
+		 * @param linkWriter must not be {@literal null}.
+		 * @param jgen must not be {@literal null}.
+		 * @param provider must not be {@literal null}.
+		 * @throws IOException
+		 */
+		private void writeLinks(Map<LinkRelation, List<Object>> sortedLinks, HalLinkWriter linkWriter,
+				JsonGenerator jgen, SerializerProvider provider) throws IOException {
+
+			jgen.writeStartObject(sortedLinks);
+
+			for (Entry<LinkRelation, List<Object>> entry : sortedLinks.entrySet()) {
+
+				List<Object> values = entry.getValue();
+
+				jgen.writeFieldName(getRelationName(entry.getKey().toString()));
+
+				if (!HalLink.class.isInstance(values.get(0))) {
+					new OptionalListJackson2Serializer(property, halConfiguration).serialize(values, jgen, provider);
+					continue;
+				}
+
+				HalLink first = (HalLink) values.get(0);
+
+				if (values.size() == 1 && halConfiguration.getSingleLinkRenderModeFor(first.getLink().getRel())
+						.equals(RenderSingleLinks.AS_SINGLE)) {
+
+					linkWriter.write(first.getLink(), first.getTitle(), jgen);
+					continue;
+				}
+
+				jgen.writeStartArray(values.size());
+
+				for (Object value : values) {
+
+					HalLink halLink = (HalLink) value;
+					linkWriter.write(halLink.getLink(), halLink.getTitle(), jgen);
+				}
+
+				jgen.writeEndArray();
+			}
+
+			jgen.writeEndObject();
+		}
+
 		/**
 		 * Wraps the given link into a HAL specific extension.
 		 *
@@ -222,6 +287,30 @@ public class Jackson2HalModule extends SimpleModule {
 			return new HalLink(link, resolver.resolve(rel));
 		}
 
+		/**
+		 * Returns the pre-encoded field name for the given relation. Caches up to {@value #MAX_RELATION_NAMES} relation
+		 * names as relations might be derived from user input.
+		 *
+		 * @param relation must not be {@literal null}.
+		 * @return
+		 */
+		private static SerializableString getRelationName(String relation) {
+
+			SerializableString name = RELATION_NAMES.get(relation);
+
+			if (name != null) {
+				return name;
+			}
+
+			name = new SerializedString(relation);
+
+			if (RELATION_NAMES.size() < MAX_RELATION_NAMES) {
+				RELATION_NAMES.putIfAbsent(relation, name);
+			}
+
+			return name;
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see com.fasterxml.jackson.databind.ser.ContextualSerializer#createContextual(com.fasterxml.jackson.databind.SerializerProvider, com.fasterxml.jackson.databind.BeanProperty)
@@ -329,16 +418,9 @@ public class Jackson2HalModule extends SimpleModule {
 					? embeddedMapper.with(provider.getConfig().getPropertyNamingStrategy()) //
 					: embeddedMapper;
 
-			Map<HalLinkRelation, Object> embeddeds = mapper.map(value);
-
-			Object currentValue = jgen.getCurrentValue();
-
-			if (currentValue instanceof RepresentationModel) {
-
-				if (mapper.hasCuriedEmbed(value)) {
-					((RepresentationModel<?>) currentValue).add(CURIES_REQUIRED_DUE_TO_EMBEDS);
-				}
-			}
+			Map<HalLinkRelation, Object> embeddeds = EmbeddedMappings.of(provider) //
+					.getOrMap(jgen.getCurrentValue(), value, mapper) //
+					.getEmbeddeds();
 
 			provider.findValueSerializer(Map.class, property).serialize(embeddeds, jgen, provider);
 		}
@@ -817,6 +899,34 @@ public class Jackson2HalModule extends SimpleModule {
 		}
 	}
 
+	/**
+	 * {@link JsonSerializer} to render {@link LinkRelation}s used as map keys, i.e. the relations of the {@code _links}
+	 * clause. As it renders relations exactly like {@link HalLinkListSerializer} does when using a {@link HalLinkWriter},
+	 * the latter is only used if this serializer is in place. Registering a custom key serializer for
+	 * {@link LinkRelation} thus falls back to databind based rendering.
+	 *
+	 * @author Oliver Drotbohm
+	 * @since 1.1
+	 */
+	public static class LinkRelationKeySerializer extends StdSerializer<LinkRelation> {
+
+		private static final long serialVersionUID = -6154330196530917528L;
+
+		public LinkRelationKeySerializer() {
+			super(LinkRelation.class);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.ser.std.StdSerializer#serialize(java.lang.Object, com.fasterxml.jackson.core.JsonGenerator, com.fasterxml.jackson.databind.SerializerProvider)
+		 */
+		@Override
+		@SuppressWarnings("null")
+		public void serialize(LinkRelation value, JsonGenerator jgen, SerializerProvider provider) throws IOException {
+			jgen.writeFieldName(value.toString());
+		}
+	}
+
 	/**
 	 * {@link JsonSerializer} to only render {@link Boolean} values if they're set to {@literal true}.
 	 *
@@ -886,6 +996,8 @@ public class Jackson2HalModule extends SimpleModule {
 	public static class EmbeddedMapper {
 
 		private static final Function<String, String> NO_OP = Function.identity();
+		private static final EmbeddedWrappers WRAPPERS = new EmbeddedWrappers(false);
+		private static final EmbeddedWrappers COLLECTION_WRAPPERS = new EmbeddedWrappers(true);
 
 		private final @lombok.NonNull LinkRelationProvider relProvider;
 		private final CurieProvider curieProvider;
@@ -893,6 +1005,9 @@ public class Jackson2HalModule extends SimpleModule {
 
 		private Function<String, String> relationTransformer = Function.identity();
 
+		private final Map<PropertyNamingStrategy, EmbeddedMapper> mappers = new ConcurrentReferenceHashMap<>();
+		private final Map<LinkRelation, HalLinkRelation> relations = new ConcurrentReferenceHashMap<>();
+
 		/**
 		 * Registers the given {@link PropertyNamingStrategy} with the current mapper to forward that strategy as relation
 		 * transformer, so that {@link LinkRelation}s used as key for the embedding will be transformed using the given
@@ -907,8 +1022,14 @@ public class Jackson2HalModule extends SimpleModule {
 				return this;
 			}
 
-			return new EmbeddedMapper(relProvider, curieProvider, preferCollectionRels,
-					((PropertyNamingStrategyBase) strategy)::translate);
+			return mappers.computeIfAbsent(strategy, it -> {
+
+				PropertyNamingStrategyBase base = (PropertyNamingStrategyBase) it;
+				Map<String, String> translations = new ConcurrentReferenceHashMap<>();
+
+				return new EmbeddedMapper(relProvider, curieProvider, preferCollectionRels,
+						source -> translations.computeIfAbsent(source, base::translate));
+			});
 		}
 
 		/**
@@ -921,8 +1042,8 @@ public class Jackson2HalModule extends SimpleModule {
 
 			Assert.notNull(source, "Elements must not be null!");
 
-			HalEmbeddedBuilder builder = new HalEmbeddedBuilder(relProvider, curieProvider, preferCollectionRels) //
-					.withRelationTransformer(relationTransformer);
+			HalEmbeddedBuilder builder = new HalEmbeddedBuilder(relProvider, curieProvider,
+					preferCollectionRels ? COLLECTION_WRAPPERS : WRAPPERS, relationTransformer);
 
 			source.forEach(builder::add);
 
@@ -939,7 +1060,11 @@ public class Jackson2HalModule extends SimpleModule {
 
 			Assert.notNull(source, "Link relation must not be null!");
 
-			return HalLinkRelation.of(relationTransformer == NO_OP ? source : source.map(relationTransformer));
+			if (relationTransformer == NO_OP) {
+				return HalLinkRelation.of(source);
+			}
+
+			return relations.computeIfAbsent(source, it -> HalLinkRelation.of(it.map(relationTransformer)));
 		}
 
 		/**
@@ -949,12 +1074,121 @@ public class Jackson2HalModule extends SimpleModule {
 		 * @return
 		 */
 		public boolean hasCuriedEmbed(Iterable<?> source) {
+			return hasCuriedRelation(map(source));
+		}
+
+		private static boolean hasCuriedRelation(Map<HalLinkRelation, Object> embeddeds) {
 
-			return map(source).keySet().stream() //
+			return embeddeds.keySet().stream() //
 					.anyMatch(HalLinkRelation::isCuried);
 		}
 	}
 
+	/**
+	 * Keeps the embeddeds mapped for the models rendered during a single serialization run so that the
+	 * {@link HalResourcesSerializer} and {@link HalLinkListSerializer} rendering the same model only map the embedded
+	 * content once, no matter in which order they're invoked. Mappings are keyed by the owning model and the
+	 * {@link EmbeddedMapper} used, as the content handed to the serializers is usually a fresh view on the model's
+	 * elements.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private static class EmbeddedMappings {
+
+		private static final Object ATTRIBUTE_KEY = EmbeddedMappings.class;
+
+		private final Map<Object, EmbeddedMapping> mappings = new IdentityHashMap<>();
+
+		/**
+		 * Returns the {@link EmbeddedMappings} bound to the given {@link SerializerProvider}, i.e. the current
+		 * serialization run.
+		 *
+		 * @param provider must not be {@literal null}.
+		 * @return
+		 */
+		static EmbeddedMappings of(SerializerProvider provider) {
+
+			EmbeddedMappings mappings = (EmbeddedMappings) provider.getAttribute(ATTRIBUTE_KEY);
+
+			if (mappings == null) {
+				mappings = new EmbeddedMappings();
+				provider.setAttribute(ATTRIBUTE_KEY, mappings);
+			}
+
+			return mappings;
+		}
+
+		/**
+		 * Returns the {@link EmbeddedMapping} for the given source elements owned by the given model, mapping them if not
+		 * already done before.
+		 *
+		 * @param owner the object owning the embedded elements, can be {@literal null}.
+		 * @param source must not be {@literal null}.
+		 * @param mapper must not be {@literal null}.
+		 * @return
+		 */
+		EmbeddedMapping getOrMap(@Nullable Object owner, Iterable<?> source, EmbeddedMapper mapper) {
+
+			if (owner == null) {
+				return new EmbeddedMapping(mapper, mapper.map(source));
+			}
+
+			EmbeddedMapping mapping = mappings.get(owner);
+
+			if (mapping == null || mapping.mapper != mapper) {
+				mapping = new EmbeddedMapping(mapper, mapper.map(source));
+				mappings.put(owner, mapping);
+			}
+
+			return mapping;
+		}
+
+		/**
+		 * Returns whether the embeddeds of the given owner use curied relations. Falls back to mapping the content of a
+		 * {@link CollectionModel} if it hasn't been rendered yet.
+		 *
+		 * @param owner must not be {@literal null}.
+		 * @param mapper must not be {@literal null}.
+		 * @return
+		 */
+		boolean hasCuriedEmbed(Object owner, EmbeddedMapper mapper) {
+
+			EmbeddedMapping mapping = mappings.get(owner);
+
+			if ((mapping == null || mapping.mapper != mapper) && owner instanceof CollectionModel) {
+				mapping = getOrMap(owner, ((CollectionModel<?>) owner).getContent(), mapper);
+			}
+
+			return mapping != null && mapping.mapper == mapper && mapping.isCuried();
+		}
+	}
+
+	/**
+	 * The embeddeds mapped by a particular {@link EmbeddedMapper} alongside the information whether any of them is
+	 * curied.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	@RequiredArgsConstructor
+	private static class EmbeddedMapping {
+
+		private final EmbeddedMapper mapper;
+		private final @Getter Map<HalLinkRelation, Object> embeddeds;
+		private @Nullable Boolean curied;
+
+		boolean isCuried() {
+
+			Boolean curied = this.curied;
+
+			if (curied == null) {
+				curied = EmbeddedMapper.hasCuriedRelation(embeddeds);
+				this.curied = curied;
+			}
+
+			return curied;
+		}
+	}
+
 	static class HalLink {
 
 		private final Link link;
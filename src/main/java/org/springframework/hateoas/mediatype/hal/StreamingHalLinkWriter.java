@@ -0,0 +1,150 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mediatype.hal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule.HalLink;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.StringUtils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.StringSerializer;
+
+/**
+ * {@link HalLinkWriter} writing {@link Link}s directly to the {@link JsonGenerator}. Only supports serialization setups
+ * in which the databind serializers for {@link Link} and {@link HalLink} are the plain bean serializers derived from
+ * {@link LinkMixin}, i.e. no custom serializers, mixins or property ordering have been registered for those types.
+ *
+ * @author Oliver Drotbohm
+ * @since 1.1
+ */
+enum StreamingHalLinkWriter implements HalLinkWriter {
+
+	INSTANCE;
+
+	private static final List<String> LINK_PROPERTIES = Arrays.asList("href", "hreflang", "title", "type",
+			"deprecation", "profile", "name", "templated");
+	private static final List<String> HAL_LINK_PROPERTIES = Arrays.asList("link", "title");
+
+	private static final SerializableString HREF = new SerializedString("href");
+	private static final SerializableString HREFLANG = new SerializedString("hreflang");
+	private static final SerializableString TITLE = new SerializedString("title");
+	private static final SerializableString TYPE = new SerializedString("type");
+	private static final SerializableString DEPRECATION = new SerializedString("deprecation");
+	private static final SerializableString PROFILE = new SerializedString("profile");
+	private static final SerializableString NAME = new SerializedString("name");
+	private static final SerializableString TEMPLATED = new SerializedString("templated");
+
+	private final Map<JsonSerializer<?>, Boolean> supportedSerializers = new ConcurrentReferenceHashMap<>();
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.mediatype.hal.HalLinkWriter#supports(com.fasterxml.jackson.databind.SerializerProvider)
+	 */
+	@Override
+	public boolean supports(SerializerProvider provider) {
+
+		try {
+
+			JsonSerializer<Object> halLinkSerializer = provider.findValueSerializer(HalLink.class);
+			Boolean supported = supportedSerializers.get(halLinkSerializer);
+
+			if (supported == null) {
+
+				supported = hasProperties(halLinkSerializer, HAL_LINK_PROPERTIES)
+						&& hasProperties(provider.findValueSerializer(Link.class), LINK_PROPERTIES)
+						&& provider.findValueSerializer(String.class).getClass().equals(StringSerializer.class);
+
+				supportedSerializers.put(halLinkSerializer, supported);
+			}
+
+			return supported;
+
+		} catch (JsonMappingException o_O) {
+			return false;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.mediatype.hal.HalLinkWriter#write(org.springframework.hateoas.Link, java.lang.String, com.fasterxml.jackson.core.JsonGenerator)
+	 */
+	@Override
+	public void write(Link link, @Nullable String title, JsonGenerator generator) throws IOException {
+
+		generator.writeStartObject(link);
+
+		writeIfNotNull(HREF, link.getHref(), generator);
+		writeIfNotNull(HREFLANG, link.getHreflang(), generator);
+		writeIfNotNull(TITLE, link.getTitle(), generator);
+		writeIfNotNull(TYPE, link.getType(), generator);
+		writeIfNotNull(DEPRECATION, link.getDeprecation(), generator);
+		writeIfNotNull(PROFILE, link.getProfile(), generator);
+		writeIfNotNull(NAME, link.getName(), generator);
+
+		if (link.isTemplated()) {
+			generator.writeFieldName(TEMPLATED);
+			generator.writeBoolean(true);
+		}
+
+		if (StringUtils.hasLength(title)) {
+			generator.writeFieldName(TITLE);
+			generator.writeString(title);
+		}
+
+		generator.writeEndObject();
+	}
+
+	private static void writeIfNotNull(SerializableString name, @Nullable String value, JsonGenerator generator)
+			throws IOException {
+
+		if (value != null) {
+			generator.writeFieldName(name);
+			generator.writeString(value);
+		}
+	}
+
+	private static boolean hasProperties(JsonSerializer<?> serializer, List<String> expected) {
+
+		if (!serializer.getClass().equals(BeanSerializer.class)) {
+			return false;
+		}
+
+		List<String> names = new ArrayList<>();
+		Iterator<PropertyWriter> properties = serializer.properties();
+
+		while (properties.hasNext()) {
+			names.add(properties.next().getName());
+		}
+
+		return names.equals(expected);
+	}
+}
@@ -24,6 +24,7 @@ import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.Links;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.RepresentationModel;
@@ -34,6 +35,7 @@ import org.springframework.hateoas.mediatype.hal.Jackson2HalModule.EmbeddedMappe
 import org.springframework.hateoas.mediatype.hal.Jackson2HalModule.HalHandlerInstantiator;
 import org.springframework.hateoas.mediatype.hal.Jackson2HalModule.HalLinkListDeserializer;
 import org.springframework.hateoas.mediatype.hal.Jackson2HalModule.HalLinkListSerializer;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule.LinkRelationKeySerializer;
 import org.springframework.hateoas.mediatype.hal.LinkMixin;
 import org.springframework.hateoas.mediatype.hal.forms.HalFormsDeserializers.HalFormsCollectionModelDeserializer;
 import org.springframework.hateoas.mediatype.hal.forms.HalFormsSerializers.HalFormsCollectionModelSerializer;
@@ -89,6 +91,8 @@ public class Jackson2HalFormsModule extends SimpleModule {
 		setMixInAnnotation(CollectionModel.class, CollectionModelMixin.class);
 		setMixInAnnotation(PagedModel.class, PagedModelMixin.class);
 		setMixInAnnotation(MediaType.class, MediaTypeMixin.class);
+
+		addKeySerializer(LinkRelation.class, new LinkRelationKeySerializer());
 	}
 
 	@JsonSerialize(using = HalLinkListSerializer.class)
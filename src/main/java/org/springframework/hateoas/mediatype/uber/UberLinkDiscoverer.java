@@ -17,6 +17,8 @@ package org.springframework.hateoas.mediatype.uber;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.hateoas.Link;
@@ -24,8 +26,11 @@ import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.Links;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.client.LinkDiscoverer;
+import org.springframework.hateoas.mediatype.JsonLinkParser;
 import org.springframework.http.MediaType;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
@@ -95,6 +100,24 @@ public class UberLinkDiscoverer implements LinkDiscoverer {
 				.collect(Links.collector());
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.client.LinkDiscoverer#findLinks(java.lang.String)
+	 */
+	@Override
+	public Links findLinks(String representation) {
+		return JsonLinkParser.parse(representation, UberLinkDiscoverer::extractLinks);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.client.LinkDiscoverer#findLinks(java.io.InputStream)
+	 */
+	@Override
+	public Links findLinks(InputStream representation) {
+		return JsonLinkParser.parse(representation, UberLinkDiscoverer::extractLinks);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.plugin.core.Plugin#supports(java.lang.Object)
@@ -133,4 +156,66 @@ public class UberLinkDiscoverer implements LinkDiscoverer {
 			throw new RuntimeException(e);
 		}
 	}
+
+	/**
+	 * Reads the links of the elements of {@code $.uber.data} without deserializing the document.
+	 *
+	 * @param parser must not be {@literal null}.
+	 * @param links must not be {@literal null}.
+	 * @throws IOException
+	 */
+	private static void extractLinks(JsonParser parser, List<Link> links) throws IOException {
+
+		JsonLinkParser.forEachField(parser, (name, uber) -> {
+
+			if (!"uber".equals(name)) {
+				return false;
+			}
+
+			JsonLinkParser.forEachField(uber, (field, data) -> {
+
+				if (!"data".equals(field)) {
+					return false;
+				}
+
+				JsonLinkParser.forEachElement(data, (ignored, element) -> addLinks(element, links));
+
+				return true;
+			});
+
+			return true;
+		});
+	}
+
+	private static boolean addLinks(JsonParser element, List<Link> links) throws IOException {
+
+		if (!element.isExpectedStartObjectToken()) {
+			return false;
+		}
+
+		List<String> rels = Collections.emptyList();
+		String url = null;
+
+		while (element.nextToken() == JsonToken.FIELD_NAME) {
+
+			String property = element.getCurrentName();
+			JsonToken token = element.nextToken();
+
+			if ("rel".equals(property)) {
+				rels = JsonLinkParser.readStrings(element);
+			} else if ("url".equals(property) && token == JsonToken.VALUE_STRING) {
+				url = element.getText();
+			} else {
+				element.skipChildren();
+			}
+		}
+
+		if (url != null) {
+			for (String rel : rels) {
+				links.add(Link.of(url, rel));
+			}
+		}
+
+		return true;
+	}
 }
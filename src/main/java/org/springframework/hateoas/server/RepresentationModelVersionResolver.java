@@ -0,0 +1,70 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server;
+
+import java.util.function.Function;
+
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * SPI to determine the version of a {@link RepresentationModel} returned from a controller method. If a version can be
+ * determined, a strong {@code ETag} is derived from it and conditional requests carrying a matching
+ * {@code If-None-Match} header are answered with {@code 304 Not Modified} before any
+ * {@link RepresentationModelProcessor}s are invoked and the model is rendered.
+ *
+ * @author Oliver Drotbohm
+ * @since 1.1
+ */
+@FunctionalInterface
+public interface RepresentationModelVersionResolver {
+
+	/**
+	 * Returns the version of the given {@link RepresentationModel}.
+	 *
+	 * @param model will never be {@literal null}.
+	 * @return the version or {@literal null} if the version of the model cannot be determined.
+	 */
+	@Nullable
+	Object getVersion(RepresentationModel<?> model);
+
+	/**
+	 * Creates a {@link RepresentationModelVersionResolver} for {@link EntityModel}s with content of the given type
+	 * applying the given function to the content to obtain the version.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param version must not be {@literal null}.
+	 * @return
+	 */
+	static <T> RepresentationModelVersionResolver forEntityModelsOf(Class<T> type, Function<? super T, ?> version) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(version, "Version function must not be null!");
+
+		return model -> {
+
+			if (!(model instanceof EntityModel)) {
+				return null;
+			}
+
+			Object content = ((EntityModel<?>) model).getContent();
+
+			return type.isInstance(content) ? version.apply(type.cast(content)) : null;
+		};
+	}
+}
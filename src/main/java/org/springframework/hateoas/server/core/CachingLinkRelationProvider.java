@@ -0,0 +1,84 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.core;
+
+import java.util.Map;
+
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.server.LinkRelationProvider;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * {@link LinkRelationProvider} that caches the item and collection resource relations as well as the plugin support
+ * decisions of a delegate {@link LinkRelationProvider} per type. Lookups failing with an exception are not cached.
+ *
+ * @author Oliver Drotbohm
+ * @since 1.1
+ */
+public class CachingLinkRelationProvider implements LinkRelationProvider {
+
+	private final LinkRelationProvider delegate;
+
+	private final Map<Class<?>, LinkRelation> itemRelations = new ConcurrentReferenceHashMap<>(128);
+	private final Map<Class<?>, LinkRelation> collectionRelations = new ConcurrentReferenceHashMap<>(128);
+	private final Map<LookupContext, Boolean> supports = new ConcurrentReferenceHashMap<>(128);
+
+	/**
+	 * Creates a new {@link CachingLinkRelationProvider} for the given delegate {@link LinkRelationProvider}.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 */
+	public CachingLinkRelationProvider(LinkRelationProvider delegate) {
+
+		Assert.notNull(delegate, "Delegate LinkRelationProvider must not be null!");
+
+		this.delegate = delegate;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.server.LinkRelationProvider#getItemResourceRelFor(java.lang.Class)
+	 */
+	@Override
+	public LinkRelation getItemResourceRelFor(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null!");
+
+		return itemRelations.computeIfAbsent(type, delegate::getItemResourceRelFor);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.server.LinkRelationProvider#getCollectionResourceRelFor(java.lang.Class)
+	 */
+	@Override
+	public LinkRelation getCollectionResourceRelFor(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null!");
+
+		return collectionRelations.computeIfAbsent(type, delegate::getCollectionResourceRelFor);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.plugin.core.Plugin#supports(java.lang.Object)
+	 */
+	@Override
+	public boolean supports(LookupContext delimiter) {
+		return supports.computeIfAbsent(delimiter, delegate::supports);
+	}
+}
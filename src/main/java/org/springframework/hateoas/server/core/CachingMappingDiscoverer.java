@@ -21,6 +21,8 @@ import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.Map;
 
+import org.springframework.hateoas.instrumentation.HypermediaInstrumentation.Cache;
+import org.springframework.hateoas.instrumentation.Instrumentation;
 import org.springframework.http.HttpMethod;
 import org.springframework.lang.Nullable;
 import org.springframework.util.ConcurrentReferenceHashMap;
@@ -50,7 +52,7 @@ public class CachingMappingDiscoverer implements MappingDiscoverer {
 
 		String key = key(type, null);
 
-		return MAPPINGS.computeIfAbsent(key, __ -> delegate.getMapping(type));
+		return Instrumentation.computeIfAbsent(Cache.MAPPINGS, MAPPINGS, key, __ -> delegate.getMapping(type));
 	}
 
 	/*
@@ -63,7 +65,7 @@ public class CachingMappingDiscoverer implements MappingDiscoverer {
 
 		String key = key(method.getDeclaringClass(), method);
 
-		return MAPPINGS.computeIfAbsent(key, __ -> delegate.getMapping(method));
+		return Instrumentation.computeIfAbsent(Cache.MAPPINGS, MAPPINGS, key, __ -> delegate.getMapping(method));
 	}
 
 	/*
@@ -76,7 +78,7 @@ public class CachingMappingDiscoverer implements MappingDiscoverer {
 
 		String key = key(type, method);
 
-		return MAPPINGS.computeIfAbsent(key, __ -> delegate.getMapping(type, method));
+		return Instrumentation.computeIfAbsent(Cache.MAPPINGS, MAPPINGS, key, __ -> delegate.getMapping(type, method));
 	}
 
 	/*
@@ -85,7 +87,8 @@ public class CachingMappingDiscoverer implements MappingDiscoverer {
 	 */
 	@Override
 	public Collection<HttpMethod> getRequestMethod(Class<?> type, Method method) {
-		return METHODS.computeIfAbsent(key(type, method), __ -> delegate.getRequestMethod(type, method));
+		return Instrumentation.computeIfAbsent(Cache.MAPPINGS, METHODS, key(type, method),
+				__ -> delegate.getRequestMethod(type, method));
 	}
 
 	private static String key(Class<?> type, @Nullable Method method) {
@@ -0,0 +1,282 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.core;
+
+import static org.springframework.hateoas.server.core.EncodingUtils.*;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.hateoas.Affordance;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.TemplateVariables;
+import org.springframework.hateoas.instrumentation.HypermediaInstrumentation.Operation;
+import org.springframework.hateoas.instrumentation.Instrumentation;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+import org.springframework.web.util.UriComponents;
+
+/**
+ * A link to a controller method captured once with some of its path variables or required request parameters left
+ * unbound to then cheaply create {@link Link}s for different values of them, e.g. for all elements of a collection. The
+ * base URI, the mapping and the metadata needed for the {@link Affordance}s are resolved when the template is created,
+ * expanding it only substitutes the variable values.
+ *
+ * <pre>
+ * LinkTemplate template = linkTemplate(methodOn(CustomerController.class).findOne(null));
+ *
+ * customers.stream() //
+ *     .map(it -&gt; EntityModel.of(it, template.expand(it.getId())));
+ * </pre>
+ *
+ * @author Oliver Drotbohm
+ * @since 1.1
+ */
+public class LinkTemplate {
+
+	private static final ConversionService CONVERSION_SERVICE = new DefaultFormattingConversionService();
+
+	private final String name;
+	private final List<String> literals;
+	private final List<Variable> variables;
+	private final List<String> variableNames;
+	private final int[] positions;
+	private final TemplateVariables templateVariables;
+	private final Function<String, List<Affordance>> affordances;
+
+	private LinkTemplate(String name, UriComponents components, TemplateVariables templateVariables,
+			Function<String, List<Affordance>> affordances) {
+
+		this.name = name;
+		this.literals = new ArrayList<>();
+		this.variables = new ArrayList<>();
+		this.templateVariables = templateVariables;
+		this.affordances = affordances;
+
+		String source = components.toUriString();
+		boolean query = false;
+		int literalStart = 0;
+
+		for (int i = 0; i < source.length(); i++) {
+
+			char c = source.charAt(i);
+
+			if (c == '?') {
+				query = true;
+			}
+
+			if (c != '{' || i + 1 == source.length() || !Character.isJavaIdentifierStart(source.charAt(i + 1))) {
+				continue;
+			}
+
+			int end = findClosingBrace(source, i);
+
+			if (end == -1) {
+				continue;
+			}
+
+			literals.add(source.substring(literalStart, i));
+			variables.add(Variable.of(getVariableName(source.substring(i + 1, end)), query));
+
+			literalStart = end + 1;
+			i = end;
+		}
+
+		literals.add(source.substring(literalStart));
+
+		this.variableNames = Collections.unmodifiableList(variables.stream() //
+				.map(Variable::getName) //
+				.distinct() //
+				.collect(Collectors.toList()));
+		this.positions = variables.stream() //
+				.mapToInt(it -> variableNames.indexOf(it.getName())) //
+				.toArray();
+	}
+
+	/**
+	 * Creates a new {@link LinkTemplate} for the given {@link UriComponents} containing unexpanded variables.
+	 *
+	 * @param name the name of the handler method linked to, must not be {@literal null}.
+	 * @param components must not be {@literal null}.
+	 * @param templateVariables must not be {@literal null}.
+	 * @param affordances the {@link Function} to create the {@link Affordance}s for an expanded URI, must not be
+	 *          {@literal null}.
+	 * @return
+	 */
+	static LinkTemplate of(String name, UriComponents components, TemplateVariables templateVariables,
+			Function<String, List<Affordance>> affordances) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(components, "UriComponents must not be null!");
+		Assert.notNull(templateVariables, "TemplateVariables must not be null!");
+		Assert.notNull(affordances, "Affordances function must not be null!");
+
+		return new LinkTemplate(name, components, templateVariables, affordances);
+	}
+
+	/**
+	 * Returns the names of the variables to be expanded in the order they appear in the template.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public List<String> getVariableNames() {
+		return variableNames;
+	}
+
+	/**
+	 * Creates a {@link Link} with {@link org.springframework.hateoas.IanaLinkRelations#SELF} relation by expanding the
+	 * template with the given values in the order of {@link #getVariableNames()}.
+	 *
+	 * @param values must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Link expand(Object... values) {
+
+		Assert.notNull(values, "Values must not be null!");
+
+		if (values.length != variableNames.size()) {
+			throw new IllegalArgumentException(String.format("Expected %s values for variables %s but got %s!",
+					variableNames.size(), variableNames, values.length));
+		}
+
+		return Instrumentation.time(Operation.LINK_BUILDING, name, () -> {
+
+			String[] encoded = new String[variables.size()];
+
+			for (int i = 0; i < encoded.length; i++) {
+				encoded[i] = variables.get(i).encode(values[positions[i]]);
+			}
+
+			return toLink(encoded);
+		});
+	}
+
+	/**
+	 * Creates a {@link Link} with {@link org.springframework.hateoas.IanaLinkRelations#SELF} relation by expanding the
+	 * template with the given values.
+	 *
+	 * @param values must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Link expand(Map<String, ?> values) {
+
+		Assert.notNull(values, "Values must not be null!");
+
+		return Instrumentation.time(Operation.LINK_BUILDING, name, () -> {
+
+			String[] encoded = new String[variables.size()];
+
+			for (int i = 0; i < encoded.length; i++) {
+
+				Variable variable = variables.get(i);
+				Object value = values.get(variable.getName());
+
+				if (value == null) {
+					throw new IllegalArgumentException(String.format("No value given for variable %s!", variable.getName()));
+				}
+
+				encoded[i] = variable.encode(value);
+			}
+
+			return toLink(encoded);
+		});
+	}
+
+	private Link toLink(String[] values) {
+
+		StringBuilder builder = new StringBuilder(literals.get(0));
+
+		for (int i = 0; i < values.length; i++) {
+			builder.append(values[i]).append(literals.get(i + 1));
+		}
+
+		String uri = builder.toString();
+
+		return Link.of(withTemplateVariables(uri)).withAffordances(affordances.apply(uri));
+	}
+
+	private String withTemplateVariables(String uri) {
+
+		if (templateVariables == TemplateVariables.NONE) {
+			return uri;
+		}
+
+		int fragment = uri.indexOf('#');
+
+		return fragment == -1 //
+				? uri.concat(templateVariables.toString()) //
+				: uri.substring(0, fragment).concat(templateVariables.toString()).concat(uri.substring(fragment));
+	}
+
+	/**
+	 * Returns the index of the brace closing the one at the given index, skipping nested ones like the quantifiers of
+	 * regular expressions in path variables, e.g. {@code {id:\d{3}}}.
+	 */
+	private static int findClosingBrace(String source, int start) {
+
+		int level = 0;
+
+		for (int i = start; i < source.length(); i++) {
+
+			char c = source.charAt(i);
+
+			if (c == '{') {
+				level++;
+			} else if (c == '}' && --level == 0) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	private static String getVariableName(String variable) {
+
+		int colon = variable.indexOf(':');
+
+		return colon == -1 ? variable : variable.substring(0, colon);
+	}
+
+	@Value(staticConstructor = "of")
+	private static class Variable {
+
+		String name;
+		boolean query;
+
+		String encode(Object value) {
+
+			Object source = ObjectUtils.unwrapOptional(value);
+
+			Assert.notNull(source, () -> String.format("Value for variable %s must not be null!", name));
+
+			String result = source instanceof String //
+					? (String) source //
+					: CONVERSION_SERVICE.convert(source, String.class);
+
+			Assert.notNull(result, () -> String.format("Conversion of value %s resulted in null!", source));
+
+			return query ? encodeParameter(result) : encodePath(result);
+		}
+	}
+}
@@ -0,0 +1,349 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.core;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.springframework.hateoas.instrumentation.HypermediaInstrumentation.Cache;
+import org.springframework.hateoas.instrumentation.Instrumentation;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Cache for serialized hypermedia representations of controller methods annotated with
+ * {@link CacheableRepresentation}. Entries are keyed by the handler method, the base URI the links in the
+ * representation were built from, the media types accepted by the client and the locale of the request. Entries keep
+ * the {@code ETag} of the representation so that conditional requests can be answered from the cache, too. The cache is
+ * bounded by both the number of entries and the total size of the cached representations and evicts the least
+ * recently used entries first. Register an instance as Spring bean to activate caching for Spring MVC and Spring
+ * WebFlux.
+ *
+ * @author Oliver Drotbohm
+ * @since 1.1
+ * @see CacheableRepresentation
+ */
+public class RepresentationCache {
+
+	public static final int DEFAULT_MAX_ENTRIES = 256;
+	public static final long DEFAULT_MAX_SIZE = 8 * 1024 * 1024;
+
+	private final int maxEntries;
+	private final long maxSize;
+	private final LinkedHashMap<Key, Entry> entries;
+
+	private long size = 0;
+
+	/**
+	 * Creates a new {@link RepresentationCache} with {@value #DEFAULT_MAX_ENTRIES} entries and
+	 * {@value #DEFAULT_MAX_SIZE} bytes at most.
+	 */
+	public RepresentationCache() {
+		this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Creates a new {@link RepresentationCache} with the given limits.
+	 *
+	 * @param maxEntries the maximum number of representations to cache, must be greater than zero.
+	 * @param maxSize the maximum number of bytes of all cached representations, must be greater than zero.
+	 */
+	public RepresentationCache(int maxEntries, long maxSize) {
+
+		Assert.isTrue(maxEntries > 0, "Maximum number of entries must be greater than zero!");
+		Assert.isTrue(maxSize > 0, "Maximum size must be greater than zero!");
+
+		this.maxEntries = maxEntries;
+		this.maxSize = maxSize;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true);
+	}
+
+	/**
+	 * Returns whether representations of the given handler method shall be cached.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @return
+	 */
+	public static boolean isCacheable(Method method) {
+
+		Assert.notNull(method, "Method must not be null!");
+
+		return method.isAnnotationPresent(CacheableRepresentation.class);
+	}
+
+	/**
+	 * Returns the cached representation for the given {@link Key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return the cached {@link Entry} or {@literal null} if none found.
+	 */
+	@Nullable
+	public Entry get(Key key) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		Entry entry;
+
+		synchronized (entries) {
+			entry = entries.get(key);
+		}
+
+		Instrumentation.recordCacheAccess(Cache.REPRESENTATIONS, entry != null);
+
+		return entry;
+	}
+
+	/**
+	 * Caches the given serialized representation under the given {@link Key}. Representations exceeding the maximum size
+	 * of the cache are ignored. The {@code ETag} of the representation is derived from its content.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param contentType must not be {@literal null}.
+	 * @param body must not be {@literal null}.
+	 */
+	public void put(Key key, MediaType contentType, byte[] body) {
+		put(key, contentType, body, null);
+	}
+
+	/**
+	 * Caches the given serialized representation under the given {@link Key} alongside the {@code ETag} it was rendered
+	 * with. Representations exceeding the maximum size of the cache are ignored.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param contentType must not be {@literal null}.
+	 * @param body must not be {@literal null}.
+	 * @param eTag the {@code ETag} the representation was rendered with, {@literal null} to derive it from the content.
+	 */
+	public void put(Key key, MediaType contentType, byte[] body, @Nullable String eTag) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(contentType, "Content type must not be null!");
+		Assert.notNull(body, "Body must not be null!");
+
+		if (body.length > maxSize) {
+			return;
+		}
+
+		Entry entry = new Entry(contentType, body.clone(), eTag == null ? calculateETag(body) : eTag);
+
+		synchronized (entries) {
+
+			Entry previous = entries.put(key, entry);
+
+			if (previous != null) {
+				size -= previous.getLength();
+			}
+
+			size += entry.getLength();
+
+			Iterator<Entry> iterator = entries.values().iterator();
+
+			while ((entries.size() > maxEntries || size > maxSize) && iterator.hasNext()) {
+				size -= iterator.next().getLength();
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * Evicts the representation cached for the given {@link Key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 */
+	public void evict(Key key) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		evict(key::equals);
+	}
+
+	/**
+	 * Evicts all representations cached for the given handler method, i.e. for all base URIs, media types and locales.
+	 *
+	 * @param method must not be {@literal null}.
+	 */
+	public void evict(Method method) {
+
+		Assert.notNull(method, "Method must not be null!");
+
+		evict(it -> it.getHandler().equals(method));
+	}
+
+	/**
+	 * Evicts all representations cached for {@link Key}s matching the given {@link Predicate}.
+	 *
+	 * @param predicate must not be {@literal null}.
+	 */
+	public void evict(Predicate<Key> predicate) {
+
+		Assert.notNull(predicate, "Predicate must not be null!");
+
+		synchronized (entries) {
+
+			Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+
+			while (iterator.hasNext()) {
+
+				Map.Entry<Key, Entry> entry = iterator.next();
+
+				if (predicate.test(entry.getKey())) {
+					size -= entry.getValue().getLength();
+					iterator.remove();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Evicts all cached representations.
+	 */
+	public void evictAll() {
+
+		synchronized (entries) {
+			entries.clear();
+			size = 0;
+		}
+	}
+
+	/**
+	 * Returns the number of cached representations.
+	 *
+	 * @return
+	 */
+	public int getNumberOfEntries() {
+
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	/**
+	 * Returns the number of bytes of all cached representations.
+	 *
+	 * @return
+	 */
+	public long getSize() {
+
+		synchronized (entries) {
+			return size;
+		}
+	}
+
+	private static String calculateETag(byte[] body) {
+
+		MessageDigest digest = RepresentationModelETags.createDigest();
+		digest.update(body);
+
+		return RepresentationModelETags.fromDigest(digest);
+	}
+
+	/**
+	 * The key a representation is cached under.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	@Value(staticConstructor = "of")
+	public static class Key {
+
+		/**
+		 * The handler method that produced the representation.
+		 */
+		Method handler;
+
+		/**
+		 * The base URI the links of the representation were built from.
+		 */
+		String baseUri;
+
+		/**
+		 * The media types accepted by the client.
+		 */
+		List<MediaType> mediaTypes;
+
+		/**
+		 * The locale of the request.
+		 */
+		@Nullable Locale locale;
+	}
+
+	/**
+	 * A cached, serialized representation.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+	public static class Entry {
+
+		private final @Getter MediaType contentType;
+		private final byte[] body;
+		private final @Getter String eTag;
+
+		/**
+		 * Returns a copy of the serialized representation.
+		 *
+		 * @return
+		 */
+		public byte[] getBody() {
+			return body.clone();
+		}
+
+		/**
+		 * Returns the number of bytes of the serialized representation.
+		 *
+		 * @return
+		 */
+		public int getLength() {
+			return body.length;
+		}
+
+		/**
+		 * Writes the serialized representation to the given {@link OutputStream}.
+		 *
+		 * @param stream must not be {@literal null}.
+		 * @throws IOException
+		 */
+		public void writeTo(OutputStream stream) throws IOException {
+
+			Assert.notNull(stream, "OutputStream must not be null!");
+
+			stream.write(body);
+		}
+
+		/**
+		 * Returns a read-only {@link ByteBuffer} of the serialized representation.
+		 *
+		 * @return
+		 */
+		public ByteBuffer asByteBuffer() {
+			return ByteBuffer.wrap(body).asReadOnlyBuffer();
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.core;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.server.RepresentationModelVersionResolver;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Helper to calculate strong {@code ETag}s for hypermedia representations, either from the rendered representation or
+ * from a version obtained through a {@link RepresentationModelVersionResolver}.
+ *
+ * @author Oliver Drotbohm
+ * @since 1.1
+ */
+public final class RepresentationModelETags {
+
+	/**
+	 * The hypermedia {@link MediaType}s whose representations get an {@code ETag} calculated by default.
+	 */
+	public static final List<MediaType> DEFAULT_MEDIA_TYPES = Arrays.asList(MediaTypes.HAL_JSON, MediaTypes.HAL_FORMS_JSON,
+			MediaTypes.COLLECTION_JSON, MediaTypes.UBER_JSON, MediaTypes.ALPS_JSON);
+
+	private static final String ALGORITHM = "MD5";
+
+	private RepresentationModelETags() {}
+
+	/**
+	 * Returns whether the given content type is compatible with any of the given {@link MediaType}s.
+	 *
+	 * @param contentType can be {@literal null}.
+	 * @param mediaTypes must not be {@literal null}.
+	 * @return
+	 */
+	public static boolean isEligible(@Nullable MediaType contentType, List<MediaType> mediaTypes) {
+
+		if (contentType == null) {
+			return false;
+		}
+
+		for (MediaType mediaType : mediaTypes) {
+			if (mediaType.isCompatibleWith(contentType)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Creates a new {@link MessageDigest} to hash a representation with while it's written.
+	 *
+	 * @return
+	 */
+	public static MessageDigest createDigest() {
+
+		try {
+			return MessageDigest.getInstance(ALGORITHM);
+		} catch (NoSuchAlgorithmException o_O) {
+			throw new IllegalStateException(o_O);
+		}
+	}
+
+	/**
+	 * Returns the strong {@code ETag} for the representation hashed by the given {@link MessageDigest}. Completes the
+	 * digest.
+	 *
+	 * @param digest must not be {@literal null}.
+	 * @return
+	 */
+	public static String fromDigest(MessageDigest digest) {
+
+		Assert.notNull(digest, "Digest must not be null!");
+
+		return quote(toHex(digest.digest()));
+	}
+
+	/**
+	 * Returns the strong {@code ETag} for a model of the given version. Incorporates the given {@code Accept} header as
+	 * different hypermedia representations of the same model have to carry different {@code ETag}s.
+	 *
+	 * @param version must not be {@literal null}.
+	 * @param accept can be {@literal null}.
+	 * @return
+	 */
+	public static String fromVersion(Object version, @Nullable String accept) {
+
+		Assert.notNull(version, "Version must not be null!");
+
+		String source = accept == null ? version.toString() : version.toString().concat(";").concat(accept);
+
+		return quote(DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private static String quote(String value) {
+		return "\"".concat(value).concat("\"");
+	}
+
+	private static String toHex(byte[] bytes) {
+
+		StringBuilder builder = new StringBuilder(bytes.length * 2);
+
+		for (byte b : bytes) {
+			builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+		}
+
+		return builder.toString();
+	}
+}
@@ -16,16 +16,23 @@
 package org.springframework.hateoas.server.core;
 
 import java.lang.reflect.Method;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.core.ResolvableType;
 import org.springframework.hateoas.Affordance;
+import org.springframework.hateoas.AffordanceModel.InputPayloadMetadata;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.QueryParameter;
+import org.springframework.hateoas.instrumentation.HypermediaInstrumentation.Operation;
+import org.springframework.hateoas.instrumentation.Instrumentation;
 import org.springframework.hateoas.mediatype.AffordanceModelFactory;
 import org.springframework.hateoas.mediatype.Affordances;
+import org.springframework.hateoas.mediatype.PropertyUtils;
+import org.springframework.http.HttpMethod;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 
@@ -49,9 +56,25 @@ public class SpringAffordanceBuilder {
 	 */
 	public static List<Affordance> create(Class<?> type, Method method, String href, MappingDiscoverer discoverer) {
 
-		String methodName = method.getName();
-		Link affordanceLink = Link.of(href, LinkRelation.of(methodName));
+		return Instrumentation.time(Operation.AFFORDANCE_CREATION, method.getName(),
+				() -> prepare(type, method, discoverer).apply(href));
+	}
 
+	/**
+	 * Resolves the metadata needed to create the {@link Affordance}s for the given handler method once and returns a
+	 * {@link Function} to create them for a particular href. Useful to create the {@link Affordance}s for many links
+	 * pointing to the same handler method.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @param discoverer must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 1.1
+	 */
+	public static Function<String, List<Affordance>> prepare(Class<?> type, Method method,
+			MappingDiscoverer discoverer) {
+
+		String methodName = method.getName();
 		MethodParameters parameters = MethodParameters.of(method);
 
 		ResolvableType inputType = parameters.getParametersWith(RequestBody.class).stream() //
@@ -63,17 +86,23 @@ public class SpringAffordanceBuilder {
 				.map(QueryParameter::of) //
 				.collect(Collectors.toList());
 
-		ResolvableType outputType = ResolvableType.forMethodReturnType(method);
-		Affordances affordances = Affordances.of(affordanceLink);
+		InputPayloadMetadata input = PropertyUtils.getExposedProperties(inputType);
+		InputPayloadMetadata output = PropertyUtils.getExposedProperties(ResolvableType.forMethodReturnType(method));
+		Collection<HttpMethod> requestMethods = discoverer.getRequestMethod(type, method);
 
-		return discoverer.getRequestMethod(type, method).stream() //
-				.flatMap(it -> affordances.afford(it) //
-						.withInput(inputType) //
-						.withOutput(outputType) //
-						.withParameters(queryMethodParameters) //
-						.withName(methodName) //
-						.build() //
-						.stream()) //
-				.collect(Collectors.toList());
+		return href -> {
+
+			Affordances affordances = Affordances.of(Link.of(href, LinkRelation.of(methodName)));
+
+			return requestMethods.stream() //
+					.flatMap(it -> affordances.afford(it) //
+							.withInput(input) //
+							.withOutput(output) //
+							.withParameters(queryMethodParameters) //
+							.withName(methodName) //
+							.build() //
+							.stream()) //
+					.collect(Collectors.toList());
+		};
 	}
 }
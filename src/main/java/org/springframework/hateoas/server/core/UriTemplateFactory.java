@@ -17,6 +17,8 @@ package org.springframework.hateoas.server.core;
 
 import java.util.Map;
 
+import org.springframework.hateoas.instrumentation.HypermediaInstrumentation.Cache;
+import org.springframework.hateoas.instrumentation.Instrumentation;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ConcurrentReferenceHashMap;
@@ -42,6 +44,6 @@ public class UriTemplateFactory {
 
 		Assert.hasText(mapping, "Mapping must not be null or empty!");
 
-		return CACHE.computeIfAbsent(mapping, UriTemplate::new);
+		return Instrumentation.computeIfAbsent(Cache.URI_TEMPLATES, CACHE, mapping, UriTemplate::new);
 	}
 }
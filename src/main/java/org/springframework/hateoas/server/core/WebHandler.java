@@ -45,6 +45,9 @@ import org.springframework.format.support.DefaultFormattingConversionService;
 import org.springframework.hateoas.Affordance;
 import org.springframework.hateoas.TemplateVariable;
 import org.springframework.hateoas.TemplateVariables;
+import org.springframework.hateoas.instrumentation.HypermediaInstrumentation.Cache;
+import org.springframework.hateoas.instrumentation.HypermediaInstrumentation.Operation;
+import org.springframework.hateoas.instrumentation.Instrumentation;
 import org.springframework.hateoas.server.LinkBuilder;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -95,10 +98,68 @@ public class WebHandler {
 		return linkTo(invocationValue, creator, additionalUriHandler).conclude(finisher);
 	}
 
+	/**
+	 * Eagerly populates the mapping, URI template and parameter metadata caches used when building links to the given
+	 * handler method, so that the first request building such a link doesn't have to.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @since 1.1
+	 */
+	public static void prepare(Class<?> type, Method method) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(method, "Method must not be null!");
+
+		String mapping = DISCOVERER.getMapping(type, method);
+
+		UriTemplateFactory.templateFor(mapping == null ? "/" : mapping);
+		DISCOVERER.getRequestMethod(type, method);
+		HandlerMethodParameters.of(method);
+	}
+
+	/**
+	 * Creates a {@link LinkTemplate} for the given method invocation. Path variables and required request parameters
+	 * handed in as {@literal null} are kept as variables to be expanded by the template.
+	 *
+	 * @param invocationValue must not be {@literal null}.
+	 * @param additionalUriHandler can be {@literal null}.
+	 * @param finisher must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 1.1
+	 */
+	public static LinkTemplate linkTemplate(Object invocationValue,
+			@Nullable BiFunction<UriComponentsBuilder, MethodInvocation, UriComponentsBuilder> additionalUriHandler,
+			Function<String, UriComponentsBuilder> finisher) {
+
+		LastInvocationAware invocations = getInvocations(invocationValue);
+		MethodInvocation invocation = invocations.getLastInvocation();
+		Class<?> type = invocation.getTargetType();
+		Method method = invocation.getMethod();
+		String mapping = DISCOVERER.getMapping(type, method);
+
+		return expand(finisher.apply(mapping), mapping, invocations, additionalUriHandler,
+				(components, variables) -> LinkTemplate.of(method.getName(), components, variables,
+						SpringAffordanceBuilder.prepare(type, method, DISCOVERER)));
+	}
+
 	private static <T extends LinkBuilder> PreparedWebHandler<T> linkTo(Object invocationValue,
 			LinkBuilderCreator<T> creator,
 			@Nullable BiFunction<UriComponentsBuilder, MethodInvocation, UriComponentsBuilder> additionalUriHandler) {
 
+		LastInvocationAware invocations = getInvocations(invocationValue);
+		MethodInvocation invocation = invocations.getLastInvocation();
+
+		String mapping = DISCOVERER.getMapping(invocation.getTargetType(), invocation.getMethod());
+
+		return finisher -> Instrumentation.time(Operation.LINK_BUILDING, invocation.getMethod().getName(),
+				() -> expand(finisher.apply(mapping), mapping, invocations, additionalUriHandler,
+						(components, variables) -> creator.createBuilder(components, variables,
+								getAffordances(invocation, components))));
+	}
+
+	private static LastInvocationAware getInvocations(Object invocationValue) {
+
 		Assert.isInstanceOf(LastInvocationAware.class, invocationValue);
 
 		LastInvocationAware invocations = (LastInvocationAware) DummyInvocationUtils
@@ -108,73 +169,78 @@ public class WebHandler {
 			throw new IllegalStateException(String.format("Could not obtain previous invocation from %s!", invocationValue));
 		}
 
-		MethodInvocation invocation = invocations.getLastInvocation();
+		return invocations;
+	}
 
-		String mapping = DISCOVERER.getMapping(invocation.getTargetType(), invocation.getMethod());
+	private static List<Affordance> getAffordances(MethodInvocation invocation, UriComponents components) {
 
-		return finisher -> {
+		return Instrumentation.computeIfAbsent(Cache.AFFORDANCES, AFFORDANCES_CACHE,
+				AffordanceKey.of(invocation.getTargetType(), invocation.getMethod(), components),
+				key -> SpringAffordanceBuilder.create(key.type, key.method, key.href.toUriString(), DISCOVERER));
+	}
 
-			UriComponentsBuilder builder = finisher.apply(mapping);
-			UriTemplate template = UriTemplateFactory.templateFor(mapping == null ? "/" : mapping);
-			Map<String, Object> values = new HashMap<>();
+	private static <T> T expand(UriComponentsBuilder builder, @Nullable String mapping,
+			LastInvocationAware invocations,
+			@Nullable BiFunction<UriComponentsBuilder, MethodInvocation, UriComponentsBuilder> additionalUriHandler,
+			BiFunction<UriComponents, TemplateVariables, T> creator) {
 
-			List<String> variableNames = template.getVariableNames();
-			Iterator<String> names = variableNames.iterator();
-			Iterator<Object> classMappingParameters = invocations.getObjectParameters();
+		MethodInvocation invocation = invocations.getLastInvocation();
 
-			while (classMappingParameters.hasNext()) {
-				values.put(names.next(), encodePath(classMappingParameters.next()));
-			}
+		UriTemplate template = UriTemplateFactory.templateFor(mapping == null ? "/" : mapping);
+		Map<String, Object> values = new HashMap<>();
 
-			HandlerMethodParameters parameters = HandlerMethodParameters.of(invocation.getMethod());
-			Object[] arguments = invocation.getArguments();
+		List<String> variableNames = template.getVariableNames();
+		Iterator<String> names = variableNames.iterator();
+		Iterator<Object> classMappingParameters = invocations.getObjectParameters();
 
-			for (HandlerMethodParameter parameter : parameters.getParameterAnnotatedWith(PathVariable.class, arguments)) {
-				values.put(parameter.getVariableName(), encodePath(parameter.getValueAsString(arguments)));
-			}
+		while (classMappingParameters.hasNext()) {
+			values.put(names.next(), encodePath(classMappingParameters.next()));
+		}
 
-			List<String> optionalEmptyParameters = new ArrayList<>();
+		HandlerMethodParameters parameters = HandlerMethodParameters.of(invocation.getMethod());
+		Object[] arguments = invocation.getArguments();
 
-			for (HandlerMethodParameter parameter : parameters.getParameterAnnotatedWith(RequestParam.class, arguments)) {
+		for (HandlerMethodParameter parameter : parameters.getParameterAnnotatedWith(PathVariable.class, arguments)) {
+			values.put(parameter.getVariableName(), encodePath(parameter.getValueAsString(arguments)));
+		}
 
-				bindRequestParameters(builder, parameter, arguments);
+		List<String> optionalEmptyParameters = new ArrayList<>();
 
-				if (SKIP_VALUE.equals(parameter.getVerifiedValue(arguments))) {
+		for (HandlerMethodParameter parameter : parameters.getParameterAnnotatedWith(RequestParam.class, arguments)) {
 
-					values.put(parameter.getVariableName(), SKIP_VALUE);
+			bindRequestParameters(builder, parameter, arguments);
 
-					if (!parameter.isRequired()) {
-						optionalEmptyParameters.add(parameter.getVariableName());
-					}
-				}
-			}
+			if (SKIP_VALUE.equals(parameter.getVerifiedValue(arguments))) {
+
+				values.put(parameter.getVariableName(), SKIP_VALUE);
 
-			for (String variable : variableNames) {
-				if (!values.containsKey(variable)) {
-					values.put(variable, SKIP_VALUE);
+				if (!parameter.isRequired()) {
+					optionalEmptyParameters.add(parameter.getVariableName());
 				}
 			}
+		}
 
-			UriComponents components = additionalUriHandler == null //
-					? builder.buildAndExpand(values) //
-					: additionalUriHandler.apply(builder, invocation).buildAndExpand(values);
+		for (String variable : variableNames) {
+			if (!values.containsKey(variable)) {
+				values.put(variable, SKIP_VALUE);
+			}
+		}
 
-			TemplateVariables variables = NONE;
+		UriComponents components = additionalUriHandler == null //
+				? builder.buildAndExpand(values) //
+				: additionalUriHandler.apply(builder, invocation).buildAndExpand(values);
 
-			for (String parameter : optionalEmptyParameters) {
+		TemplateVariables variables = NONE;
 
-				boolean previousRequestParameter = components.getQueryParams().isEmpty() && variables.equals(NONE);
-				TemplateVariable variable = new TemplateVariable(parameter,
-						previousRequestParameter ? REQUEST_PARAM : REQUEST_PARAM_CONTINUED);
-				variables = variables.concat(variable);
-			}
+		for (String parameter : optionalEmptyParameters) {
 
-			List<Affordance> affordances = AFFORDANCES_CACHE.computeIfAbsent(
-					AffordanceKey.of(invocation.getTargetType(), invocation.getMethod(), components),
-					key -> SpringAffordanceBuilder.create(key.type, key.method, key.href.toUriString(), DISCOVERER));
+			boolean previousRequestParameter = components.getQueryParams().isEmpty() && variables.equals(NONE);
+			TemplateVariable variable = new TemplateVariable(parameter,
+					previousRequestParameter ? REQUEST_PARAM : REQUEST_PARAM_CONTINUED);
+			variables = variables.concat(variable);
+		}
 
-			return creator.createBuilder(components, variables, affordances);
-		};
+		return creator.apply(components, variables);
 	}
 
 	/**
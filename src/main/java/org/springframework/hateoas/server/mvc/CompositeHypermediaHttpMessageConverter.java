@@ -0,0 +1,245 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.mvc;
+
+import lombok.Value;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.springframework.hateoas.server.core.RepresentationCache;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * A single {@link TypeConstrainedMappingJackson2HttpMessageConverter} dispatching to one of a set of
+ * {@link TypeConstrainedMappingJackson2HttpMessageConverter}s per hypermedia type. The converter to be used for a
+ * combination of type and {@link MediaType} (type, subtype and charset) is looked up once and cached, so that content
+ * negotiation for hypermedia types only needs a single lookup independent of the number of hypermedia types enabled.
+ *
+ * @author Oliver Drotbohm
+ * @since 1.1
+ */
+public class CompositeHypermediaHttpMessageConverter extends TypeConstrainedMappingJackson2HttpMessageConverter {
+
+	private final List<TypeConstrainedMappingJackson2HttpMessageConverter> converters;
+	private final Map<Key, Optional<TypeConstrainedMappingJackson2HttpMessageConverter>> readers;
+	private final Map<Key, Optional<TypeConstrainedMappingJackson2HttpMessageConverter>> writers;
+
+	/**
+	 * Creates a new {@link CompositeHypermediaHttpMessageConverter} for the given
+	 * {@link TypeConstrainedMappingJackson2HttpMessageConverter}s. The converters are consulted in the given order.
+	 *
+	 * @param converters must not be {@literal null} or empty.
+	 */
+	public CompositeHypermediaHttpMessageConverter(List<TypeConstrainedMappingJackson2HttpMessageConverter> converters) {
+
+		super(Object.class, getSupportedMediaTypes(converters), converters.get(0).getObjectMapper());
+
+		this.converters = Collections.unmodifiableList(new ArrayList<>(converters));
+		this.readers = new ConcurrentReferenceHashMap<>();
+		this.writers = new ConcurrentReferenceHashMap<>();
+	}
+
+	/**
+	 * Returns the {@link TypeConstrainedMappingJackson2HttpMessageConverter}s dispatched to.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public List<TypeConstrainedMappingJackson2HttpMessageConverter> getConverters() {
+		return converters;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.server.mvc.TypeConstrainedMappingJackson2HttpMessageConverter#setRepresentationCache(org.springframework.hateoas.server.core.RepresentationCache)
+	 */
+	@Override
+	public void setRepresentationCache(@Nullable RepresentationCache cache) {
+		converters.forEach(it -> it.setRepresentationCache(cache));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.server.mvc.TypeConstrainedMappingJackson2HttpMessageConverter#canRead(java.lang.Class, org.springframework.http.MediaType)
+	 */
+	@Override
+	public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
+		return getReader(clazz, null, mediaType) != null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.server.mvc.TypeConstrainedMappingJackson2HttpMessageConverter#canRead(java.lang.reflect.Type, java.lang.Class, org.springframework.http.MediaType)
+	 */
+	@Override
+	public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+		return getReader(type, contextClass, mediaType) != null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.server.mvc.TypeConstrainedMappingJackson2HttpMessageConverter#canWrite(java.lang.Class, org.springframework.http.MediaType)
+	 */
+	@Override
+	public boolean canWrite(Class<?> clazz, @Nullable MediaType mediaType) {
+		return getWriter(clazz, mediaType) != null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.http.converter.AbstractGenericHttpMessageConverter#canWrite(java.lang.reflect.Type, java.lang.Class, org.springframework.http.MediaType)
+	 */
+	@Override
+	public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+		return getWriter(clazz, mediaType) != null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter#read(java.lang.reflect.Type, java.lang.Class, org.springframework.http.HttpInputMessage)
+	 */
+	@Override
+	public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage)
+			throws IOException, HttpMessageNotReadableException {
+		return getRequiredReader(type, contextClass, inputMessage).read(type, contextClass, inputMessage);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter#readInternal(java.lang.Class, org.springframework.http.HttpInputMessage)
+	 */
+	@Override
+	protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage)
+			throws IOException, HttpMessageNotReadableException {
+		return getRequiredReader(clazz, null, inputMessage).read(clazz, inputMessage);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.server.mvc.TypeConstrainedMappingJackson2HttpMessageConverter#writeInternal(java.lang.Object, java.lang.reflect.Type, org.springframework.http.HttpOutputMessage)
+	 */
+	@Override
+	protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+			throws IOException, HttpMessageNotWritableException {
+
+		MediaType contentType = outputMessage.getHeaders().getContentType();
+		Object value = object instanceof MappingJacksonValue ? ((MappingJacksonValue) object).getValue() : object;
+		TypeConstrainedMappingJackson2HttpMessageConverter writer = getWriter(value.getClass(), contentType);
+
+		if (writer == null) {
+			throw new HttpMessageNotWritableException(
+					String.format("No hypermedia converter found to write %s as %s!", value.getClass(), contentType));
+		}
+
+		writer.writeInternal(object, type, outputMessage);
+	}
+
+	@Nullable
+	private TypeConstrainedMappingJackson2HttpMessageConverter getReader(Type type, @Nullable Class<?> contextClass,
+			@Nullable MediaType mediaType) {
+
+		Predicate<TypeConstrainedMappingJackson2HttpMessageConverter> predicate = contextClass == null
+				&& type instanceof Class //
+						? it -> it.canRead((Class<?>) type, mediaType) //
+						: it -> it.canRead(type, contextClass, mediaType);
+
+		return lookup(readers, Key.of(type, contextClass, normalize(mediaType)), predicate);
+	}
+
+	private TypeConstrainedMappingJackson2HttpMessageConverter getRequiredReader(Type type,
+			@Nullable Class<?> contextClass, HttpInputMessage inputMessage) {
+
+		MediaType contentType = inputMessage.getHeaders().getContentType();
+		TypeConstrainedMappingJackson2HttpMessageConverter reader = getReader(type, contextClass, contentType);
+
+		if (reader == null) {
+			throw new HttpMessageNotReadableException(
+					String.format("No hypermedia converter found to read %s from %s!", type, contentType), inputMessage);
+		}
+
+		return reader;
+	}
+
+	@Nullable
+	private TypeConstrainedMappingJackson2HttpMessageConverter getWriter(Class<?> type, @Nullable MediaType mediaType) {
+		return lookup(writers, Key.of(type, null, normalize(mediaType)), it -> it.canWrite(type, mediaType));
+	}
+
+	@Nullable
+	private TypeConstrainedMappingJackson2HttpMessageConverter lookup(
+			Map<Key, Optional<TypeConstrainedMappingJackson2HttpMessageConverter>> cache, Key key,
+			Predicate<TypeConstrainedMappingJackson2HttpMessageConverter> predicate) {
+
+		return cache.computeIfAbsent(key, it -> converters.stream().filter(predicate).findFirst()).orElse(null);
+	}
+
+	/**
+	 * Reduces the given {@link MediaType} to its type, subtype and charset, as those are the only parts the converters
+	 * consider. Avoids the lookup caches growing with arbitrary parameters sent by clients.
+	 *
+	 * @param mediaType can be {@literal null}.
+	 * @return
+	 */
+	@Nullable
+	private static MediaType normalize(@Nullable MediaType mediaType) {
+
+		if (mediaType == null || mediaType.getParameters().isEmpty()) {
+			return mediaType;
+		}
+
+		Charset charset = mediaType.getCharset();
+
+		return charset == null //
+				? new MediaType(mediaType.getType(), mediaType.getSubtype()) //
+				: new MediaType(mediaType.getType(), mediaType.getSubtype(), charset);
+	}
+
+	private static List<MediaType> getSupportedMediaTypes(
+			List<TypeConstrainedMappingJackson2HttpMessageConverter> converters) {
+
+		Assert.notEmpty(converters, "Converters must not be null or empty!");
+
+		Set<MediaType> mediaTypes = new LinkedHashSet<>();
+		converters.forEach(it -> mediaTypes.addAll(it.getSupportedMediaTypes()));
+
+		return new ArrayList<>(mediaTypes);
+	}
+
+	@Value(staticConstructor = "of")
+	private static class Key {
+
+		Type type;
+		@Nullable Class<?> contextClass;
+		@Nullable MediaType mediaType;
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.mvc;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.hateoas.server.core.CacheableRepresentation;
+import org.springframework.hateoas.server.core.RepresentationCache;
+import org.springframework.hateoas.server.core.RepresentationCache.Entry;
+import org.springframework.hateoas.server.core.RepresentationCache.Key;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.support.RequestContextUtils;
+
+/**
+ * {@link HandlerInterceptor} to answer {@code GET} requests to controller methods annotated with
+ * {@link CacheableRepresentation} from a {@link RepresentationCache}. On a cache miss, the {@link Key} is exposed as
+ * request attribute so that {@link TypeConstrainedMappingJackson2HttpMessageConverter} caches the representation
+ * rendered for the request. Requests with an {@code If-None-Match} header matching the {@code ETag} of the cached
+ * representation are answered with {@code 304 Not Modified}.
+ *
+ * @author Oliver Drotbohm
+ * @since 1.1
+ */
+public class RepresentationCacheInterceptor implements HandlerInterceptor {
+
+	static final String KEY_ATTRIBUTE = RepresentationCacheInterceptor.class.getName() + ".KEY";
+
+	private final RepresentationCache cache;
+
+	/**
+	 * Creates a new {@link RepresentationCacheInterceptor} for the given {@link RepresentationCache}.
+	 *
+	 * @param cache must not be {@literal null}.
+	 */
+	public RepresentationCacheInterceptor(RepresentationCache cache) {
+
+		Assert.notNull(cache, "RepresentationCache must not be null!");
+
+		this.cache = cache;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.servlet.HandlerInterceptor#preHandle(javax.servlet.http.HttpServletRequest, javax.servlet.http.HttpServletResponse, java.lang.Object)
+	 */
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+			throws Exception {
+
+		Key key = getKey(request, handler);
+
+		if (key == null) {
+			return true;
+		}
+
+		Entry entry = cache.get(key);
+
+		if (entry == null) {
+			request.setAttribute(KEY_ATTRIBUTE, key);
+			return true;
+		}
+
+		if (new ServletWebRequest(request, response).checkNotModified(entry.getETag())) {
+			return false;
+		}
+
+		response.setStatus(HttpServletResponse.SC_OK);
+		response.setContentType(entry.getContentType().toString());
+		response.setContentLength(entry.getLength());
+		entry.writeTo(response.getOutputStream());
+		response.flushBuffer();
+
+		return false;
+	}
+
+	@Nullable
+	private static Key getKey(HttpServletRequest request, Object handler) {
+
+		if (!HttpMethod.GET.matches(request.getMethod()) || !(handler instanceof HandlerMethod)) {
+			return null;
+		}
+
+		Method method = ((HandlerMethod) handler).getMethod();
+
+		if (!RepresentationCache.isCacheable(method)) {
+			return null;
+		}
+
+		List<MediaType> mediaTypes;
+
+		try {
+			mediaTypes = MediaType.parseMediaTypes(request.getHeader(HttpHeaders.ACCEPT));
+		} catch (InvalidMediaTypeException o_O) {
+			// Leave rejecting the request to content negotiation
+			return null;
+		}
+
+		return Key.of(method, UriComponentsBuilderFactory.getComponents(request).toUriString(), mediaTypes,
+				RequestContextUtils.getLocale(request));
+	}
+}
@@ -0,0 +1,317 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.mvc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.security.MessageDigest;
+import java.util.List;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import org.springframework.hateoas.server.RepresentationModelVersionResolver;
+import org.springframework.hateoas.server.core.RepresentationModelETags;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import org.springframework.web.util.WebUtils;
+
+/**
+ * Servlet filter to add strong {@code ETag}s to hypermedia responses of {@code GET} and {@code HEAD} requests and
+ * answer requests with a matching {@code If-None-Match} header with {@code 304 Not Modified}. Other than
+ * {@link ShallowEtagHeaderFilter}, only responses of one of the configured hypermedia types are buffered and the hash
+ * is calculated while the representation is written instead of in a second pass over the buffered response. Responses
+ * that already carry an {@code ETag}, e.g. one derived from a {@link RepresentationModelVersionResolver}, are left
+ * untouched.
+ *
+ * @author Oliver Drotbohm
+ * @since 1.1
+ */
+public class RepresentationModelETagFilter extends OncePerRequestFilter {
+
+	private final List<MediaType> mediaTypes;
+
+	/**
+	 * Creates a new {@link RepresentationModelETagFilter} for the default hypermedia types.
+	 *
+	 * @see RepresentationModelETags#DEFAULT_MEDIA_TYPES
+	 */
+	public RepresentationModelETagFilter() {
+		this(RepresentationModelETags.DEFAULT_MEDIA_TYPES);
+	}
+
+	/**
+	 * Creates a new {@link RepresentationModelETagFilter} for responses compatible with the given {@link MediaType}s.
+	 *
+	 * @param mediaTypes must not be {@literal null} or empty.
+	 */
+	public RepresentationModelETagFilter(List<MediaType> mediaTypes) {
+
+		Assert.notEmpty(mediaTypes, "Media types must not be null or empty!");
+
+		this.mediaTypes = mediaTypes;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.filter.OncePerRequestFilter#shouldNotFilterAsyncDispatch()
+	 */
+	@Override
+	protected boolean shouldNotFilterAsyncDispatch() {
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.filter.OncePerRequestFilter#doFilterInternal(javax.servlet.http.HttpServletRequest, javax.servlet.http.HttpServletResponse, javax.servlet.FilterChain)
+	 */
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+
+		HttpMethod method = HttpMethod.resolve(request.getMethod());
+
+		if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+			chain.doFilter(request, response);
+			return;
+		}
+
+		DigestingResponseWrapper wrapper = WebUtils.getNativeResponse(response, DigestingResponseWrapper.class);
+
+		if (wrapper == null) {
+			wrapper = new DigestingResponseWrapper(response);
+		}
+
+		try {
+			chain.doFilter(request, wrapper);
+		} finally {
+
+			if (!isAsyncStarted(request)) {
+				wrapper.complete(request);
+			}
+		}
+	}
+
+	/**
+	 * {@link HttpServletResponseWrapper} that buffers and hashes the body written if the response is a successful one
+	 * of one of the configured hypermedia types. The decision is made when the body is first accessed, i.e. after the
+	 * headers have been set.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private class DigestingResponseWrapper extends HttpServletResponseWrapper {
+
+		private boolean decided = false;
+		private @Nullable DigestingOutputStream buffer;
+		private @Nullable PrintWriter writer;
+
+		DigestingResponseWrapper(HttpServletResponse response) {
+			super(response);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see javax.servlet.ServletResponseWrapper#getOutputStream()
+		 */
+		@Override
+		public ServletOutputStream getOutputStream() throws IOException {
+
+			DigestingOutputStream buffer = getBuffer();
+
+			return buffer == null ? super.getOutputStream() : buffer;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see javax.servlet.ServletResponseWrapper#getWriter()
+		 */
+		@Override
+		public PrintWriter getWriter() throws IOException {
+
+			DigestingOutputStream buffer = getBuffer();
+
+			if (buffer == null) {
+				return super.getWriter();
+			}
+
+			if (writer == null) {
+				writer = new PrintWriter(new OutputStreamWriter(buffer, getCharacterEncoding()));
+			}
+
+			return writer;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see javax.servlet.ServletResponseWrapper#flushBuffer()
+		 */
+		@Override
+		public void flushBuffer() throws IOException {
+
+			if (buffer == null) {
+				super.flushBuffer();
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see javax.servlet.ServletResponseWrapper#setContentLength(int)
+		 */
+		@Override
+		public void setContentLength(int length) {
+
+			if (buffer == null) {
+				super.setContentLength(length);
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see javax.servlet.ServletResponseWrapper#setContentLengthLong(long)
+		 */
+		@Override
+		public void setContentLengthLong(long length) {
+
+			if (buffer == null) {
+				super.setContentLengthLong(length);
+			}
+		}
+
+		/**
+		 * Calculates the {@code ETag} for the buffered body, if any, and either answers the request with
+		 * {@code 304 Not Modified} or writes the buffered body to the actual response.
+		 *
+		 * @param request must not be {@literal null}.
+		 * @throws IOException
+		 */
+		void complete(HttpServletRequest request) throws IOException {
+
+			DigestingOutputStream buffer = this.buffer;
+
+			if (buffer == null) {
+				return;
+			}
+
+			if (writer != null) {
+				writer.flush();
+			}
+
+			this.buffer = null;
+
+			HttpServletResponse response = (HttpServletResponse) getResponse();
+			String etag = RepresentationModelETags.fromDigest(buffer.digest);
+
+			if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+				return;
+			}
+
+			response.setContentLength(buffer.body.size());
+			buffer.body.writeTo(response.getOutputStream());
+			response.flushBuffer();
+		}
+
+		@Nullable
+		private DigestingOutputStream getBuffer() throws IOException {
+
+			if (!decided) {
+
+				this.decided = true;
+
+				String contentType = getContentType();
+
+				if (getStatus() == HttpServletResponse.SC_OK //
+						&& !StringUtils.hasText(getHeader(HttpHeaders.ETAG)) //
+						&& StringUtils.hasText(contentType) //
+						&& RepresentationModelETags.isEligible(MediaType.parseMediaType(contentType), mediaTypes)) {
+					this.buffer = new DigestingOutputStream(getResponse().getOutputStream());
+				}
+			}
+
+			return buffer;
+		}
+	}
+
+	/**
+	 * {@link ServletOutputStream} buffering the bytes written and updating a {@link MessageDigest} with them at the same
+	 * time. Non-blocking I/O support is delegated to the {@link ServletOutputStream} of the actual response.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private static class DigestingOutputStream extends ServletOutputStream {
+
+		private final ByteArrayOutputStream body = new ByteArrayOutputStream(1024);
+		private final MessageDigest digest = RepresentationModelETags.createDigest();
+		private final ServletOutputStream delegate;
+
+		DigestingOutputStream(ServletOutputStream delegate) {
+			this.delegate = delegate;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.OutputStream#write(int)
+		 */
+		@Override
+		public void write(int b) {
+
+			body.write(b);
+			digest.update((byte) b);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.OutputStream#write(byte[], int, int)
+		 */
+		@Override
+		public void write(byte[] bytes, int offset, int length) {
+
+			body.write(bytes, offset, length);
+			digest.update(bytes, offset, length);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see javax.servlet.ServletOutputStream#isReady()
+		 */
+		@Override
+		public boolean isReady() {
+			return delegate.isReady();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see javax.servlet.ServletOutputStream#setWriteListener(javax.servlet.WriteListener)
+		 */
+		@Override
+		public void setWriteListener(WriteListener listener) {
+			delegate.setWriteListener(listener);
+		}
+	}
+}
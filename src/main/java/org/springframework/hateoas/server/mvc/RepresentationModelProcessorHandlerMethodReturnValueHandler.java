@@ -28,12 +28,18 @@ import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.RepresentationModel;
 import org.springframework.hateoas.server.RepresentationModelProcessor;
+import org.springframework.hateoas.server.RepresentationModelVersionResolver;
 import org.springframework.hateoas.server.core.HeaderLinksResponseEntity;
+import org.springframework.hateoas.server.core.RepresentationModelETags;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.Nullable;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
@@ -64,6 +70,7 @@ public class RepresentationModelProcessorHandlerMethodReturnValueHandler impleme
 	private final @NonNull Supplier<RepresentationModelProcessorInvoker> invoker;
 
 	private boolean rootLinksAsHeaders = false;
+	private @Nullable RepresentationModelVersionResolver versionResolver;
 
 	/**
 	 * @param rootLinksAsHeaders the rootLinksAsHeaders to set
@@ -72,6 +79,18 @@ public class RepresentationModelProcessorHandlerMethodReturnValueHandler impleme
 		this.rootLinksAsHeaders = rootLinksAsHeaders;
 	}
 
+	/**
+	 * Configures the {@link RepresentationModelVersionResolver} to derive {@code ETag}s from. {@code GET} and
+	 * {@code HEAD} requests with a matching {@code If-None-Match} header are answered with {@code 304 Not Modified}
+	 * without invoking the {@link RepresentationModelProcessor}s.
+	 *
+	 * @param versionResolver can be {@literal null}.
+	 * @since 1.1
+	 */
+	public void setVersionResolver(@Nullable RepresentationModelVersionResolver versionResolver) {
+		this.versionResolver = versionResolver;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.web.method.support.HandlerMethodReturnValueHandler#supportsReturnType(org.springframework.core.MethodParameter)
@@ -102,6 +121,11 @@ public class RepresentationModelProcessorHandlerMethodReturnValueHandler impleme
 			return;
 		}
 
+		if (isNotModified((RepresentationModel<?>) value, returnValue, webRequest)) {
+			mavContainer.setRequestHandled(true);
+			return;
+		}
+
 		Method method = returnType.getMethod();
 
 		if (method == null) {
@@ -155,6 +179,51 @@ public class RepresentationModelProcessorHandlerMethodReturnValueHandler impleme
 		return rootLinksAsHeaders ? HeaderLinksResponseEntity.wrap(entity) : entity;
 	}
 
+	/**
+	 * Returns whether the given {@link RepresentationModel} is not modified compared to the version the client already
+	 * has according to the {@code ETag} derived from the version of the model. Sets the {@code ETag} on the response.
+	 * {@link HttpEntity}s carrying an explicit {@code ETag} or a status code other than {@code 200 OK} are not
+	 * considered.
+	 *
+	 * @param model must not be {@literal null}.
+	 * @param returnValue the original return value, can be {@literal null}.
+	 * @param webRequest must not be {@literal null}.
+	 * @return
+	 */
+	private boolean isNotModified(RepresentationModel<?> model, @Nullable Object returnValue,
+			NativeWebRequest webRequest) {
+
+		RepresentationModelVersionResolver resolver = this.versionResolver;
+
+		if (resolver == null || !(webRequest instanceof ServletWebRequest) || !isEligibleForETag(returnValue)) {
+			return false;
+		}
+
+		HttpMethod method = ((ServletWebRequest) webRequest).getHttpMethod();
+
+		if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+			return false;
+		}
+
+		Object version = resolver.getVersion(model);
+
+		return version != null && webRequest
+				.checkNotModified(RepresentationModelETags.fromVersion(version, webRequest.getHeader(HttpHeaders.ACCEPT)));
+	}
+
+	private static boolean isEligibleForETag(@Nullable Object returnValue) {
+
+		if (!(returnValue instanceof HttpEntity)) {
+			return true;
+		}
+
+		if (returnValue instanceof ResponseEntity && ((ResponseEntity<?>) returnValue).getStatusCode() != HttpStatus.OK) {
+			return false;
+		}
+
+		return ((HttpEntity<?>) returnValue).getHeaders().getETag() == null;
+	}
+
 	private static Class<?> getRawType(ResolvableType type) {
 
 		Class<?> rawType = type.getRawClass();
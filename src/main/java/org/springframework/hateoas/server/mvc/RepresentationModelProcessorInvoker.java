@@ -26,6 +26,8 @@ import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.instrumentation.HypermediaInstrumentation.Operation;
+import org.springframework.hateoas.instrumentation.Instrumentation;
 import org.springframework.hateoas.server.RepresentationModelProcessor;
 import org.springframework.hateoas.server.core.EmbeddedWrapper;
 import org.springframework.lang.Nullable;
@@ -98,12 +100,18 @@ public class RepresentationModelProcessorInvoker {
 	 * @param referenceType must not be {@literal null}.
 	 * @return
 	 */
-	@SuppressWarnings("unchecked")
 	public <T extends RepresentationModel<T>> T invokeProcessorsFor(T value, ResolvableType referenceType) {
 
 		Assert.notNull(value, "Value must not be null!");
 		Assert.notNull(referenceType, "Reference type must not be null!");
 
+		return Instrumentation.time(Operation.PROCESSOR_INVOCATION, value.getClass().getName(),
+				() -> doInvokeProcessorsFor(value, referenceType));
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T extends RepresentationModel<T>> T doInvokeProcessorsFor(T value, ResolvableType referenceType) {
+
 		// For Resources implementations, process elements first
 		if (RepresentationModelProcessorHandlerMethodReturnValueHandler.COLLECTION_MODEL_TYPE
 				.isAssignableFrom(referenceType)) {
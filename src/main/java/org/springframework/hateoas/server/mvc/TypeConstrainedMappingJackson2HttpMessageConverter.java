@@ -15,13 +15,30 @@
  */
 package org.springframework.hateoas.server.mvc;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.Type;
 import java.util.List;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.hateoas.instrumentation.HypermediaInstrumentation.Operation;
+import org.springframework.hateoas.instrumentation.HypermediaInstrumentation.Sample;
+import org.springframework.hateoas.instrumentation.Instrumentation;
+import org.springframework.hateoas.server.core.RepresentationCache;
+import org.springframework.hateoas.server.core.RepresentationCache.Key;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotWritableException;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -35,6 +52,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 public class TypeConstrainedMappingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
 
 	private final Class<?> type;
+	private @Nullable RepresentationCache cache;
 
 	/**
 	 * Creates a new {@link TypeConstrainedMappingJackson2HttpMessageConverter} for the given type.
@@ -62,6 +80,17 @@ public class TypeConstrainedMappingJackson2HttpMessageConverter extends MappingJ
 		setObjectMapper(objectMapper);
 	}
 
+	/**
+	 * Configures the {@link RepresentationCache} to store the serialized representations in for requests that a
+	 * {@link RepresentationCacheInterceptor} has registered a cache {@link Key} for.
+	 *
+	 * @param cache can be {@literal null}.
+	 * @since 1.1
+	 */
+	public void setRepresentationCache(@Nullable RepresentationCache cache) {
+		this.cache = cache;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.http.converter.json.MappingJackson2HttpMessageConverter#canRead(java.lang.Class, org.springframework.http.MediaType)
@@ -89,4 +118,105 @@ public class TypeConstrainedMappingJackson2HttpMessageConverter extends MappingJ
 	public boolean canWrite(Class<?> clazz, @Nullable MediaType mediaType) {
 		return type.isAssignableFrom(clazz) && super.canWrite(clazz, mediaType);
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter#writeInternal(java.lang.Object, java.lang.reflect.Type, org.springframework.http.HttpOutputMessage)
+	 */
+	@Override
+	protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+			throws IOException, HttpMessageNotWritableException {
+
+		MediaType contentType = outputMessage.getHeaders().getContentType();
+		Sample sample = Instrumentation.start(Operation.SERIALIZATION,
+				() -> contentType == null ? null : contentType.toString());
+
+		try {
+			writeInternal(object, type, outputMessage, contentType);
+		} finally {
+			sample.stop();
+		}
+	}
+
+	private void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage,
+			@Nullable MediaType contentType) throws IOException {
+
+		RepresentationCache cache = this.cache;
+		Key key = cache == null ? null : getCacheKey();
+
+		if (cache == null || key == null || contentType == null) {
+			super.writeInternal(object, type, outputMessage);
+			return;
+		}
+
+		BufferingOutputMessage buffer = new BufferingOutputMessage(outputMessage.getHeaders());
+
+		super.writeInternal(object, type, buffer);
+
+		byte[] body = buffer.body.toByteArray();
+
+		cache.put(key, contentType, body, outputMessage.getHeaders().getETag());
+		outputMessage.getBody().write(body);
+	}
+
+	/**
+	 * Returns the {@link Key} registered for the current request if the response is a successful one. The key is
+	 * removed so that only the first representation written for a request gets cached.
+	 *
+	 * @return
+	 */
+	@Nullable
+	private static Key getCacheKey() {
+
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+		if (!(attributes instanceof ServletRequestAttributes)) {
+			return null;
+		}
+
+		HttpServletRequest request = ((ServletRequestAttributes) attributes).getRequest();
+		HttpServletResponse response = ((ServletRequestAttributes) attributes).getResponse();
+		Object key = request.getAttribute(RepresentationCacheInterceptor.KEY_ATTRIBUTE);
+
+		if (!(key instanceof Key)) {
+			return null;
+		}
+
+		request.removeAttribute(RepresentationCacheInterceptor.KEY_ATTRIBUTE);
+
+		return response == null || response.getStatus() == HttpServletResponse.SC_OK ? (Key) key : null;
+	}
+
+	/**
+	 * {@link HttpOutputMessage} buffering the body written using the headers of the original message.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private static class BufferingOutputMessage implements HttpOutputMessage {
+
+		private final HttpHeaders headers;
+		private final ByteArrayOutputStream body = new ByteArrayOutputStream(1024);
+
+		BufferingOutputMessage(HttpHeaders headers) {
+			this.headers = headers;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.http.HttpOutputMessage#getBody()
+		 */
+		@Override
+		public OutputStream getBody() {
+			return body;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.http.HttpMessage#getHeaders()
+		 */
+		@Override
+		public HttpHeaders getHeaders() {
+			return headers;
+		}
+	}
 }
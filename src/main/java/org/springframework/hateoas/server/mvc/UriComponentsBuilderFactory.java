@@ -15,7 +15,7 @@
  */
 package org.springframework.hateoas.server.mvc;
 
-import java.net.URI;
+import javax.servlet.http.HttpServletRequest;
 
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -28,6 +28,8 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 /**
  * Factory class for {@link UriComponentsBuilder} instances caching the lookups to avoid unnecessary subsequent lookups.
+ * The base URI of the current request is resolved once and kept as immutable {@link UriComponents} in a request
+ * attribute, so that link builders can start from it without re-parsing it.
  *
  * @author Michal Stochmialek
  * @author Oliver Gierke
@@ -36,6 +38,7 @@ class UriComponentsBuilderFactory {
 
 	static final String REQUEST_ATTRIBUTES_MISSING = "Could not find current request via RequestContextHolder. Is this being called from a Spring MVC handler?";
 	private static final String CACHE_KEY = UriComponentsBuilderFactory.class.getName() + "#BUILDER_CACHE";
+	private static final UriComponents ROOT = UriComponentsBuilder.fromPath("/").build();
 
 	/**
 	 * Returns a {@link UriComponentsBuilder} obtained from the current servlet mapping with scheme tweaked in case the
@@ -45,47 +48,55 @@ class UriComponentsBuilderFactory {
 	 * @return
 	 */
 	public static UriComponentsBuilder getBuilder() {
-
-		if (RequestContextHolder.getRequestAttributes() == null) {
-			return UriComponentsBuilder.fromPath("/");
-		}
-
-		URI baseUri = getCachedBaseUri();
-
-		return baseUri != null //
-				? UriComponentsBuilder.fromUri(baseUri) //
-				: cacheBaseUri(ServletUriComponentsBuilder.fromCurrentServletMapping());
+		return UriComponentsBuilder.newInstance().uriComponents(getComponents());
 	}
 
+	/**
+	 * Returns the {@link UriComponents} of the current servlet mapping. If no {@link RequestContextHolder} exists (you're
+	 * outside a Spring Web call), fall back to relative URIs.
+	 *
+	 * @return will never be {@literal null}.
+	 */
 	public static UriComponents getComponents() {
-		return getBuilder().build();
+
+		HttpServletRequest request = getCurrentRequest();
+
+		return request == null ? ROOT : getComponents(request);
 	}
 
-	private static RequestAttributes getRequestAttributes() {
+	/**
+	 * Returns the {@link UriComponents} of the servlet mapping of the given {@link HttpServletRequest}. Prefer this over
+	 * {@link #getComponents()} in case the request is at hand to avoid the lookup of the current one.
+	 *
+	 * @param request must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static UriComponents getComponents(HttpServletRequest request) {
 
-		RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+		Object cached = request.getAttribute(CACHE_KEY);
 
-		if (requestAttributes == null) {
-			throw new IllegalStateException("Could not look up RequestAttributes!");
+		if (cached instanceof UriComponents) {
+			return (UriComponents) cached;
 		}
 
-		Assert.state(requestAttributes != null, REQUEST_ATTRIBUTES_MISSING);
-		Assert.isInstanceOf(ServletRequestAttributes.class, requestAttributes);
+		UriComponents components = ServletUriComponentsBuilder.fromServletMapping(request).build();
 
-		return requestAttributes;
+		request.setAttribute(CACHE_KEY, components);
+
+		return components;
 	}
 
-	private static UriComponentsBuilder cacheBaseUri(UriComponentsBuilder builder) {
+	@Nullable
+	private static HttpServletRequest getCurrentRequest() {
 
-		URI uri = builder.build().toUri();
+		RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
 
-		getRequestAttributes().setAttribute(CACHE_KEY, uri, RequestAttributes.SCOPE_REQUEST);
+		if (requestAttributes == null) {
+			return null;
+		}
 
-		return builder;
-	}
+		Assert.isInstanceOf(ServletRequestAttributes.class, requestAttributes, REQUEST_ATTRIBUTES_MISSING);
 
-	@Nullable
-	private static URI getCachedBaseUri() {
-		return (URI) getRequestAttributes().getAttribute(CACHE_KEY, RequestAttributes.SCOPE_REQUEST);
+		return ((ServletRequestAttributes) requestAttributes).getRequest();
 	}
 }
@@ -27,6 +27,7 @@ import org.springframework.hateoas.TemplateVariables;
 import org.springframework.hateoas.server.core.AnnotationMappingDiscoverer;
 import org.springframework.hateoas.server.core.CachingMappingDiscoverer;
 import org.springframework.hateoas.server.core.DummyInvocationUtils;
+import org.springframework.hateoas.server.core.LinkTemplate;
 import org.springframework.hateoas.server.core.MappingDiscoverer;
 import org.springframework.hateoas.server.core.TemplateVariableAwareLinkBuilderSupport;
 import org.springframework.hateoas.server.core.UriTemplateFactory;
@@ -171,6 +172,28 @@ public class WebMvcLinkBuilder extends TemplateVariableAwareLinkBuilderSupport<W
 		return FACTORY.linkTo(invocationValue);
 	}
 
+	/**
+	 * Creates a {@link LinkTemplate} pointing to a controller method to cheaply create {@link Link}s to it for many
+	 * different values, e.g. for all elements of a collection. Path variables and required request parameters handed
+	 * into the dummy method invocation as {@literal null} are kept as variables to be expanded by the template.
+	 *
+	 * <pre>
+	 * LinkTemplate template = linkTemplate(methodOn(CustomerController.class).showAddresses(null));
+	 *
+	 * Link link = template.expand(2L).withRel("addresses");
+	 * </pre>
+	 *
+	 * The resulting {@link Link} instance will point to {@code /customers/2/addresses} just like one built via
+	 * {@link #linkTo(Object)}.
+	 *
+	 * @param invocationValue must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 1.1
+	 */
+	public static LinkTemplate linkTemplate(Object invocationValue) {
+		return FACTORY.linkTemplate(invocationValue);
+	}
+
 	/**
 	 * Extract a {@link Link} from the {@link WebMvcLinkBuilder} and look up the related {@link Affordance}. Should only
 	 * be one.
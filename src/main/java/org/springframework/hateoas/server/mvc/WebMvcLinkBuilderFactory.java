@@ -28,6 +28,8 @@ import org.springframework.core.MethodParameter;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.server.MethodLinkBuilderFactory;
 import org.springframework.hateoas.server.core.LinkBuilderSupport;
+import org.springframework.hateoas.server.core.LinkTemplate;
+import org.springframework.hateoas.server.core.MethodInvocation;
 import org.springframework.hateoas.server.core.MethodParameters;
 import org.springframework.hateoas.server.core.WebHandler;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -102,37 +104,52 @@ public class WebMvcLinkBuilderFactory implements MethodLinkBuilderFactory<WebMvc
 	 */
 	@Override
 	public WebMvcLinkBuilder linkTo(Object invocationValue) {
+		return WebHandler.linkTo(invocationValue, WebMvcLinkBuilder::new, this::applyContributors, getBuilderFactory());
+	}
+
+	/**
+	 * Creates a {@link LinkTemplate} for the given dummy method invocation. Path variables and required request
+	 * parameters handed in as {@literal null} are kept as variables to be expanded per {@link Link} created from the
+	 * template.
+	 *
+	 * @param invocationValue must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @see WebMvcLinkBuilder#linkTemplate(Object)
+	 * @since 1.1
+	 */
+	public LinkTemplate linkTemplate(Object invocationValue) {
+		return WebHandler.linkTemplate(invocationValue, this::applyContributors, getBuilderFactory());
+	}
 
-		Function<String, UriComponentsBuilder> builderFactory = mapping -> UriComponentsBuilderFactory.getBuilder()
-				.path(mapping);
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.MethodLinkBuilderFactory#linkTo(java.lang.reflect.Method, java.lang.Object[])
+	 */
+	@Override
+	public WebMvcLinkBuilder linkTo(Method method, Object... parameters) {
+		return WebMvcLinkBuilder.linkTo(method, parameters);
+	}
 
-		return WebHandler.linkTo(invocationValue, WebMvcLinkBuilder::new, (builder, invocation) -> {
+	private UriComponentsBuilder applyContributors(UriComponentsBuilder builder, MethodInvocation invocation) {
 
-			MethodParameters parameters = MethodParameters.of(invocation.getMethod());
-			Iterator<Object> parameterValues = Arrays.asList(invocation.getArguments()).iterator();
+		MethodParameters parameters = MethodParameters.of(invocation.getMethod());
+		Iterator<Object> parameterValues = Arrays.asList(invocation.getArguments()).iterator();
 
-			for (MethodParameter parameter : parameters.getParameters()) {
+		for (MethodParameter parameter : parameters.getParameters()) {
 
-				Object parameterValue = parameterValues.next();
+			Object parameterValue = parameterValues.next();
 
-				for (UriComponentsContributor contributor : uriComponentsContributors) {
-					if (contributor.supportsParameter(parameter)) {
-						contributor.enhance(builder, parameter, parameterValue);
-					}
+			for (UriComponentsContributor contributor : uriComponentsContributors) {
+				if (contributor.supportsParameter(parameter)) {
+					contributor.enhance(builder, parameter, parameterValue);
 				}
 			}
+		}
 
-			return builder;
-
-		}, builderFactory);
+		return builder;
 	}
 
-	/*
-	 * (non-Javadoc)
-	 * @see org.springframework.hateoas.MethodLinkBuilderFactory#linkTo(java.lang.reflect.Method, java.lang.Object[])
-	 */
-	@Override
-	public WebMvcLinkBuilder linkTo(Method method, Object... parameters) {
-		return WebMvcLinkBuilder.linkTo(method, parameters);
+	private static Function<String, UriComponentsBuilder> getBuilderFactory() {
+		return mapping -> UriComponentsBuilderFactory.getBuilder().path(mapping);
 	}
 }
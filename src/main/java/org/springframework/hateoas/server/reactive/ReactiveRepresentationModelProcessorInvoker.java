@@ -0,0 +1,305 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.reactive;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Component to invoke all {@link ReactiveRepresentationModelProcessor} instances registered for values of type
+ * {@link RepresentationModel}. The processors to be invoked are determined once per shape of a model, i.e. the type of
+ * the model, the type of an {@link EntityModel}'s content and the shape of the first element of a
+ * {@link CollectionModel}, and matched against the processor's declared model type. The elements of a
+ * {@link CollectionModel} are processed before the {@link CollectionModel} itself, with a bounded number of elements
+ * being processed concurrently.
+ *
+ * @author Oliver Drotbohm
+ * @since 1.1
+ */
+public class ReactiveRepresentationModelProcessorInvoker {
+
+	private static final int DEFAULT_CONCURRENCY = 16;
+
+	private final List<ProcessorWrapper> processors;
+	private final int concurrency;
+	private final Map<Object, List<ProcessorWrapper>> processorsByShape;
+
+	/**
+	 * Creates a new {@link ReactiveRepresentationModelProcessorInvoker} for the given
+	 * {@link ReactiveRepresentationModelProcessor}s processing up to 16 elements of a {@link CollectionModel}
+	 * concurrently.
+	 *
+	 * @param processors must not be {@literal null}.
+	 */
+	public ReactiveRepresentationModelProcessorInvoker(Collection<ReactiveRepresentationModelProcessor<?>> processors) {
+		this(processors, DEFAULT_CONCURRENCY);
+	}
+
+	/**
+	 * Creates a new {@link ReactiveRepresentationModelProcessorInvoker} for the given
+	 * {@link ReactiveRepresentationModelProcessor}s processing up to the given number of elements of a
+	 * {@link CollectionModel} concurrently.
+	 *
+	 * @param processors must not be {@literal null}.
+	 * @param concurrency must be greater than zero.
+	 * @throws IllegalArgumentException in case the model type of one of the given processors cannot be resolved.
+	 */
+	public ReactiveRepresentationModelProcessorInvoker(Collection<ReactiveRepresentationModelProcessor<?>> processors,
+			int concurrency) {
+
+		Assert.notNull(processors, "Processors must not be null!");
+		Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero!");
+
+		List<ReactiveRepresentationModelProcessor<?>> sorted = new ArrayList<>(processors);
+		AnnotationAwareOrderComparator.sort(sorted);
+
+		this.processors = sorted.stream() //
+				.map(ProcessorWrapper::of) //
+				.collect(Collectors.toList());
+		this.concurrency = concurrency;
+		this.processorsByShape = new ConcurrentReferenceHashMap<>();
+	}
+
+	/**
+	 * Returns whether any {@link ReactiveRepresentationModelProcessor}s are registered at all.
+	 *
+	 * @return
+	 */
+	public boolean hasProcessors() {
+		return !processors.isEmpty();
+	}
+
+	/**
+	 * Invokes all {@link ReactiveRepresentationModelProcessor}s registered for the type of the given value. For
+	 * {@link CollectionModel}s, the processors for the individual elements are invoked first.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public <T extends RepresentationModel<?>> Mono<T> invokeProcessorsFor(T value) {
+
+		Assert.notNull(value, "Value must not be null!");
+
+		return (Mono<T>) process(value);
+	}
+
+	private Mono<Object> process(Object value) {
+
+		if (processors.isEmpty()) {
+			return Mono.just(value);
+		}
+
+		if (!(value instanceof CollectionModel)) {
+			return invokeProcessors(value);
+		}
+
+		CollectionModel<?> collectionModel = (CollectionModel<?>) value;
+
+		if (collectionModel.getContent().isEmpty()) {
+			return invokeProcessors(value);
+		}
+
+		return Flux.fromIterable(collectionModel.getContent()) //
+				.flatMapSequential(this::process, concurrency) //
+				.collectList() //
+				.map(it -> withContent(collectionModel, it)) //
+				.flatMap(this::invokeProcessors);
+	}
+
+	/**
+	 * Returns the given {@link CollectionModel} if the processors of its elements returned the very same instances or a
+	 * new {@link CollectionModel} or {@link PagedModel} with the given content and the links and metadata of the original
+	 * one.
+	 *
+	 * @param model must not be {@literal null}.
+	 * @param content must not be {@literal null}.
+	 * @return
+	 * @throws IllegalStateException in case elements were replaced but the given model is a custom
+	 *           {@link CollectionModel} subtype that cannot be recreated.
+	 */
+	private static CollectionModel<?> withContent(CollectionModel<?> model, List<Object> content) {
+
+		Iterator<?> original = model.getContent().iterator();
+		boolean unchanged = true;
+
+		for (Object element : content) {
+			unchanged &= original.hasNext() && original.next() == element;
+		}
+
+		if (unchanged) {
+			return model;
+		}
+
+		if (model.getClass().equals(CollectionModel.class)) {
+			return CollectionModel.of(content, model.getLinks());
+		}
+
+		if (model.getClass().equals(PagedModel.class)) {
+			return PagedModel.of(content, ((PagedModel<?>) model).getMetadata(), model.getLinks());
+		}
+
+		throw new IllegalStateException(String.format("Processors replaced elements of %s but it cannot be recreated "
+				+ "with the new elements! Return the given elements from the processors instead.",
+				model.getClass().getName()));
+	}
+
+	private Mono<Object> invokeProcessors(Object value) {
+
+		List<ProcessorWrapper> candidates = processorsByShape.computeIfAbsent(getShape(value),
+				it -> getProcessorsFor(getType(value)));
+
+		Mono<Object> result = Mono.just(value);
+
+		for (ProcessorWrapper candidate : candidates) {
+			result = result.flatMap(candidate::invoke);
+		}
+
+		return result;
+	}
+
+	private List<ProcessorWrapper> getProcessorsFor(ResolvableType type) {
+
+		return processors.stream() //
+				.filter(it -> it.supports(type)) //
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Returns the key to cache the processors to be invoked for the given value by.
+	 *
+	 * @param value can be {@literal null}.
+	 * @return
+	 */
+	@Nullable
+	private static Object getShape(@Nullable Object value) {
+
+		if (value instanceof EntityModel) {
+
+			Object content = ((EntityModel<?>) value).getContent();
+
+			return Arrays.asList(value.getClass(), content == null ? null : content.getClass());
+		}
+
+		if (value instanceof CollectionModel) {
+
+			Collection<?> content = ((CollectionModel<?>) value).getContent();
+
+			return Arrays.asList(value.getClass(), content.isEmpty() ? null : getShape(content.iterator().next()));
+		}
+
+		return value == null ? null : value.getClass();
+	}
+
+	/**
+	 * Returns the {@link ResolvableType} of the given value, resolving the generics of {@link EntityModel}s and
+	 * {@link CollectionModel}s from their content.
+	 *
+	 * @param value can be {@literal null}.
+	 * @return
+	 */
+	private static ResolvableType getType(@Nullable Object value) {
+
+		if (value == null) {
+			return ResolvableType.forClass(Object.class);
+		}
+
+		if (value.getClass().equals(EntityModel.class)) {
+
+			Object content = ((EntityModel<?>) value).getContent();
+
+			return ResolvableType.forClassWithGenerics(EntityModel.class,
+					content == null ? ResolvableType.forClass(Object.class) : getType(content));
+		}
+
+		if (value.getClass().equals(CollectionModel.class)) {
+
+			Collection<?> content = ((CollectionModel<?>) value).getContent();
+
+			return ResolvableType.forClassWithGenerics(CollectionModel.class,
+					content.isEmpty() ? ResolvableType.forClass(Object.class) : getType(content.iterator().next()));
+		}
+
+		return ResolvableType.forClass(value.getClass());
+	}
+
+	/**
+	 * A {@link ReactiveRepresentationModelProcessor} along with the model type it declares.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private static class ProcessorWrapper {
+
+		private final ReactiveRepresentationModelProcessor<?> processor;
+		private final ResolvableType targetType;
+
+		private ProcessorWrapper(ReactiveRepresentationModelProcessor<?> processor, ResolvableType targetType) {
+
+			this.processor = processor;
+			this.targetType = targetType;
+		}
+
+		/**
+		 * Creates a new {@link ProcessorWrapper} for the given {@link ReactiveRepresentationModelProcessor}.
+		 *
+		 * @param processor must not be {@literal null}.
+		 * @return
+		 * @throws IllegalArgumentException in case the model type the processor declares cannot be resolved, e.g. as it's
+		 *           implemented as lambda.
+		 */
+		static ProcessorWrapper of(ReactiveRepresentationModelProcessor<?> processor) {
+
+			ResolvableType targetType = ResolvableType
+					.forClass(ReactiveRepresentationModelProcessor.class, processor.getClass()).getGeneric(0);
+
+			if (targetType.resolve() == null) {
+				throw new IllegalArgumentException(String.format("Could not resolve the model type of %s! Make sure it "
+						+ "declares it as type argument of ReactiveRepresentationModelProcessor.", processor.getClass().getName()));
+			}
+
+			return new ProcessorWrapper(processor, targetType);
+		}
+
+		boolean supports(ResolvableType type) {
+			return targetType.isAssignableFrom(type);
+		}
+
+		@SuppressWarnings("unchecked")
+		Mono<Object> invoke(Object value) {
+			return ((ReactiveRepresentationModelProcessor<RepresentationModel<?>>) processor)
+					.process((RepresentationModel<?>) value) //
+					.cast(Object.class);
+		}
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.reactive;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.security.MessageDigest;
+import java.util.List;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.hateoas.server.RepresentationModelVersionResolver;
+import org.springframework.hateoas.server.core.RepresentationModelETags;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.util.Assert;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+/**
+ * {@link WebFilter} to add strong {@code ETag}s to hypermedia responses of {@code GET} and {@code HEAD} requests and
+ * answer requests with a matching {@code If-None-Match} header with {@code 304 Not Modified}. Only responses of one of
+ * the configured hypermedia types are collected and the hash is calculated as the individual {@link DataBuffer}s are
+ * emitted. Responses that already carry an {@code ETag}, e.g. one derived from a
+ * {@link RepresentationModelVersionResolver}, are left untouched.
+ *
+ * @author Oliver Drotbohm
+ * @since 1.1
+ */
+public class RepresentationModelETagWebFilter implements WebFilter {
+
+	private final List<MediaType> mediaTypes;
+
+	/**
+	 * Creates a new {@link RepresentationModelETagWebFilter} for the default hypermedia types.
+	 *
+	 * @see RepresentationModelETags#DEFAULT_MEDIA_TYPES
+	 */
+	public RepresentationModelETagWebFilter() {
+		this(RepresentationModelETags.DEFAULT_MEDIA_TYPES);
+	}
+
+	/**
+	 * Creates a new {@link RepresentationModelETagWebFilter} for responses compatible with the given {@link MediaType}s.
+	 *
+	 * @param mediaTypes must not be {@literal null} or empty.
+	 */
+	public RepresentationModelETagWebFilter(List<MediaType> mediaTypes) {
+
+		Assert.notEmpty(mediaTypes, "Media types must not be null or empty!");
+
+		this.mediaTypes = mediaTypes;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.server.WebFilter#filter(org.springframework.web.server.ServerWebExchange, org.springframework.web.server.WebFilterChain)
+	 */
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+
+		HttpMethod method = exchange.getRequest().getMethod();
+
+		if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+			return chain.filter(exchange);
+		}
+
+		return chain.filter(exchange.mutate().response(new DigestingResponse(exchange)).build());
+	}
+
+	/**
+	 * {@link ServerHttpResponseDecorator} to collect and hash the body written if the response is a successful one of
+	 * one of the configured hypermedia types.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private class DigestingResponse extends ServerHttpResponseDecorator {
+
+		private final ServerWebExchange exchange;
+
+		DigestingResponse(ServerWebExchange exchange) {
+
+			super(exchange.getResponse());
+
+			this.exchange = exchange;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.http.server.reactive.ServerHttpResponseDecorator#writeWith(org.reactivestreams.Publisher)
+		 */
+		@Override
+		public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+
+			HttpStatus status = getStatusCode();
+
+			if (status != null && status != HttpStatus.OK //
+					|| getHeaders().getETag() != null //
+					|| !RepresentationModelETags.isEligible(getHeaders().getContentType(), mediaTypes)) {
+				return super.writeWith(body);
+			}
+
+			MessageDigest digest = RepresentationModelETags.createDigest();
+
+			return Flux.from(body) //
+					.doOnNext(it -> digest.update(it.asByteBuffer())) //
+					.collectList() //
+					.flatMap(buffers -> {
+
+						if (exchange.checkNotModified(RepresentationModelETags.fromDigest(digest))) {
+
+							buffers.forEach(DataBufferUtils::release);
+
+							return setComplete();
+						}
+
+						return super.writeWith(Flux.fromIterable(buffers));
+
+					}) //
+					.doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+		}
+	}
+}
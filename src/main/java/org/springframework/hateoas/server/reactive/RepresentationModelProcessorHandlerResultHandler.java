@@ -0,0 +1,375 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.reactive;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.server.RepresentationModelVersionResolver;
+import org.springframework.hateoas.server.core.CacheableRepresentation;
+import org.springframework.hateoas.server.core.RepresentationCache;
+import org.springframework.hateoas.server.core.RepresentationCache.Entry;
+import org.springframework.hateoas.server.core.RepresentationCache.Key;
+import org.springframework.hateoas.server.core.RepresentationModelETags;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.function.SingletonSupplier;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.reactive.HandlerResult;
+import org.springframework.web.reactive.HandlerResultHandler;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * {@link HandlerResultHandler} to invoke the {@link ReactiveRepresentationModelProcessor}s registered for the
+ * {@link RepresentationModel} returned from a WebFlux controller method before handing the processed model to the
+ * {@link HandlerResultHandler} that would have handled the result otherwise. Supports methods declared to return a
+ * {@link RepresentationModel}, a {@link ResponseEntity} of one or a {@link Mono} of either. If a
+ * {@link RepresentationCache} is configured, {@code GET} requests to methods annotated with
+ * {@link CacheableRepresentation} are answered from the cache without subscribing to the value returned from the
+ * method. On a cache miss, the representation written is added to the cache.
+ *
+ * @author Oliver Drotbohm
+ * @since 1.1
+ * @see ReactiveRepresentationModelProcessorInvoker
+ */
+public class RepresentationModelProcessorHandlerResultHandler implements HandlerResultHandler, Ordered {
+
+	private final ReactiveRepresentationModelProcessorInvoker invoker;
+	private final Supplier<List<HandlerResultHandler>> delegates;
+	private @Nullable RepresentationModelVersionResolver versionResolver;
+	private @Nullable RepresentationCache cache;
+
+	/**
+	 * Creates a new {@link RepresentationModelProcessorHandlerResultHandler} for the given
+	 * {@link ReactiveRepresentationModelProcessorInvoker} and {@link HandlerResultHandler}s to delegate to. The delegates
+	 * are only resolved on first use and the current instance is ignored if contained in them.
+	 *
+	 * @param invoker must not be {@literal null}.
+	 * @param delegates must not be {@literal null}.
+	 */
+	public RepresentationModelProcessorHandlerResultHandler(ReactiveRepresentationModelProcessorInvoker invoker,
+			Supplier<List<HandlerResultHandler>> delegates) {
+
+		Assert.notNull(invoker, "ReactiveRepresentationModelProcessorInvoker must not be null!");
+		Assert.notNull(delegates, "Delegates must not be null!");
+
+		this.invoker = invoker;
+		this.delegates = SingletonSupplier.of(delegates);
+	}
+
+	/**
+	 * Configures the {@link RepresentationModelVersionResolver} to derive {@code ETag}s from. {@code GET} and
+	 * {@code HEAD} requests with a matching {@code If-None-Match} header are answered with {@code 304 Not Modified}
+	 * without invoking the {@link ReactiveRepresentationModelProcessor}s.
+	 *
+	 * @param versionResolver can be {@literal null}.
+	 */
+	public void setVersionResolver(@Nullable RepresentationModelVersionResolver versionResolver) {
+		this.versionResolver = versionResolver;
+	}
+
+	/**
+	 * Configures the {@link RepresentationCache} to answer requests to controller methods annotated with
+	 * {@link CacheableRepresentation} from.
+	 *
+	 * @param cache can be {@literal null}.
+	 */
+	public void setRepresentationCache(@Nullable RepresentationCache cache) {
+		this.cache = cache;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.reactive.HandlerResultHandler#supports(org.springframework.web.reactive.HandlerResult)
+	 */
+	@Override
+	public boolean supports(HandlerResult result) {
+
+		return (invoker.hasProcessors() || versionResolver != null || isCacheable(result)) //
+				&& isRepresentationModel(result.getReturnType()) //
+				&& getDelegate(result) != null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.reactive.HandlerResultHandler#handleResult(org.springframework.web.server.ServerWebExchange, org.springframework.web.reactive.HandlerResult)
+	 */
+	@Override
+	public Mono<Void> handleResult(ServerWebExchange exchange, HandlerResult result) {
+
+		HandlerResultHandler delegate = getDelegate(result);
+
+		if (delegate == null) {
+			return Mono.error(new IllegalStateException("No HandlerResultHandler found for " + result.getReturnType()));
+		}
+
+		RepresentationCache cache = this.cache;
+		Key key = getCacheKey(exchange, result);
+
+		if (cache == null || key == null) {
+			return handleResult(exchange, result, delegate);
+		}
+
+		Entry entry = cache.get(key);
+
+		if (entry != null) {
+
+			return exchange.checkNotModified(entry.getETag()) //
+					? exchange.getResponse().setComplete() //
+					: writeCached(exchange.getResponse(), entry);
+		}
+
+		ServerHttpResponse response = new CachingResponse(exchange.getResponse(), cache, key);
+
+		return handleResult(exchange.mutate().response(response).build(), result, delegate);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.core.Ordered#getOrder()
+	 */
+	@Override
+	public int getOrder() {
+		return Ordered.HIGHEST_PRECEDENCE;
+	}
+
+	private Mono<Void> handleResult(ServerWebExchange exchange, HandlerResult result, HandlerResultHandler delegate) {
+
+		Object value = result.getReturnValue();
+
+		if (value == null) {
+			return delegate.handleResult(exchange, result);
+		}
+
+		if (value instanceof Mono) {
+
+			Mono<?> processed = ((Mono<?>) value) //
+					.flatMap(it -> isNotModified(it, exchange) ? Mono.empty() : process(it));
+
+			return delegate.handleResult(exchange, withReturnValue(result, processed));
+		}
+
+		if (isNotModified(value, exchange)) {
+			return exchange.getResponse().setComplete();
+		}
+
+		return process(value).flatMap(it -> delegate.handleResult(exchange, withReturnValue(result, it)));
+	}
+
+	private Mono<Object> process(Object value) {
+
+		if (value instanceof RepresentationModel) {
+			return invoker.invokeProcessorsFor((RepresentationModel<?>) value).cast(Object.class);
+		}
+
+		if (value instanceof ResponseEntity) {
+
+			ResponseEntity<?> entity = (ResponseEntity<?>) value;
+			Object body = entity.getBody();
+
+			if (body instanceof RepresentationModel) {
+
+				return invoker.invokeProcessorsFor((RepresentationModel<?>) body) //
+						.<Object> map(it -> ResponseEntity.status(entity.getStatusCodeValue()) //
+								.headers(entity.getHeaders()) //
+								.body(it));
+			}
+		}
+
+		return Mono.just(value);
+	}
+
+	/**
+	 * Returns whether the given value or the {@link RepresentationModel} contained in it is not modified compared to the
+	 * version the client already has according to the {@code ETag} derived from the version of the model. Sets the
+	 * {@code ETag} on the response. {@link ResponseEntity}s carrying an explicit {@code ETag} or a status code other than
+	 * {@code 200 OK} are not considered.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @param exchange must not be {@literal null}.
+	 * @return
+	 */
+	private boolean isNotModified(Object value, ServerWebExchange exchange) {
+
+		RepresentationModelVersionResolver resolver = this.versionResolver;
+		HttpMethod method = exchange.getRequest().getMethod();
+
+		if (resolver == null || method != HttpMethod.GET && method != HttpMethod.HEAD) {
+			return false;
+		}
+
+		Object model = value;
+
+		if (value instanceof ResponseEntity) {
+
+			ResponseEntity<?> entity = (ResponseEntity<?>) value;
+
+			if (entity.getStatusCode() != HttpStatus.OK || entity.getHeaders().getETag() != null) {
+				return false;
+			}
+
+			model = entity.getBody();
+		}
+
+		if (!(model instanceof RepresentationModel)) {
+			return false;
+		}
+
+		Object version = resolver.getVersion((RepresentationModel<?>) model);
+		String accept = exchange.getRequest().getHeaders().getFirst(HttpHeaders.ACCEPT);
+
+		return version != null && exchange.checkNotModified(RepresentationModelETags.fromVersion(version, accept));
+	}
+
+	private boolean isCacheable(HandlerResult result) {
+
+		return cache != null //
+				&& result.getHandler() instanceof HandlerMethod //
+				&& RepresentationCache.isCacheable(((HandlerMethod) result.getHandler()).getMethod());
+	}
+
+	@Nullable
+	private Key getCacheKey(ServerWebExchange exchange, HandlerResult result) {
+
+		ServerHttpRequest request = exchange.getRequest();
+
+		if (request.getMethod() != HttpMethod.GET || !isCacheable(result)) {
+			return null;
+		}
+
+		String baseUri = UriComponentsBuilder.fromHttpRequest(request) //
+				.replacePath(request.getPath().contextPath().toString()) //
+				.replaceQuery(null) //
+				.toUriString();
+
+		List<MediaType> mediaTypes;
+
+		try {
+			mediaTypes = request.getHeaders().getAccept();
+		} catch (InvalidMediaTypeException o_O) {
+			// Leave rejecting the request to content negotiation
+			return null;
+		}
+
+		return Key.of(((HandlerMethod) result.getHandler()).getMethod(), baseUri, mediaTypes,
+				exchange.getLocaleContext().getLocale());
+	}
+
+	private static Mono<Void> writeCached(ServerHttpResponse response, Entry entry) {
+
+		response.setStatusCode(HttpStatus.OK);
+		response.getHeaders().setContentType(entry.getContentType());
+		response.getHeaders().setContentLength(entry.getLength());
+
+		return response.writeWith(Mono.just(response.bufferFactory().wrap(entry.asByteBuffer())));
+	}
+
+	@Nullable
+	private HandlerResultHandler getDelegate(HandlerResult result) {
+
+		for (HandlerResultHandler candidate : delegates.get()) {
+			if (candidate != this && candidate.supports(result)) {
+				return candidate;
+			}
+		}
+
+		return null;
+	}
+
+	private static HandlerResult withReturnValue(HandlerResult result, Object value) {
+		return new HandlerResult(result.getHandler(), value, result.getReturnTypeSource(), result.getBindingContext());
+	}
+
+	private static boolean isRepresentationModel(ResolvableType type) {
+
+		Class<?> rawType = type.resolve(Object.class);
+
+		if (Mono.class.isAssignableFrom(rawType) || ResponseEntity.class.isAssignableFrom(rawType)) {
+			return isRepresentationModel(type.getGeneric(0));
+		}
+
+		return RepresentationModel.class.isAssignableFrom(rawType);
+	}
+
+	/**
+	 * {@link ServerHttpResponseDecorator} to add the body written for a successful response to the
+	 * {@link RepresentationCache}.
+	 *
+	 * @author Oliver Drotbohm
+	 */
+	private static class CachingResponse extends ServerHttpResponseDecorator {
+
+		private final RepresentationCache cache;
+		private final Key key;
+
+		CachingResponse(ServerHttpResponse delegate, RepresentationCache cache, Key key) {
+
+			super(delegate);
+
+			this.cache = cache;
+			this.key = key;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.http.server.reactive.ServerHttpResponseDecorator#writeWith(org.reactivestreams.Publisher)
+		 */
+		@Override
+		public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+
+			return Flux.from(body).collectList().flatMap(buffers -> {
+
+				if (buffers.isEmpty()) {
+					return super.writeWith(Flux.empty());
+				}
+
+				DataBuffer joined = bufferFactory().join(buffers);
+				byte[] bytes = new byte[joined.readableByteCount()];
+
+				joined.read(bytes);
+				DataBufferUtils.release(joined);
+
+				MediaType contentType = getHeaders().getContentType();
+				HttpStatus status = getStatusCode();
+
+				if (contentType != null && (status == null || status == HttpStatus.OK)) {
+					cache.put(key, contentType, bytes, getHeaders().getETag());
+				}
+
+				return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+			});
+		}
+	}
+}
@@ -29,6 +29,7 @@ import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.TemplateVariables;
 import org.springframework.hateoas.server.core.DummyInvocationUtils;
+import org.springframework.hateoas.server.core.LinkTemplate;
 import org.springframework.hateoas.server.core.TemplateVariableAwareLinkBuilderSupport;
 import org.springframework.hateoas.server.core.WebHandler;
 import org.springframework.hateoas.server.core.WebHandler.PreparedWebHandler;
@@ -49,6 +50,8 @@ import org.springframework.web.util.UriComponentsBuilder;
  */
 public class WebFluxLinkBuilder extends TemplateVariableAwareLinkBuilderSupport<WebFluxLinkBuilder> {
 
+	private static final String BASE_URI_CACHE_KEY = WebFluxLinkBuilder.class.getName() + "#BASE_URI_CACHE";
+
 	private WebFluxLinkBuilder(UriComponents components, TemplateVariables variables, List<Affordance> affordances) {
 		super(components, variables, affordances);
 	}
@@ -79,6 +82,66 @@ public class WebFluxLinkBuilder extends TemplateVariableAwareLinkBuilderSupport<
 		return new WebFluxBuilder(linkToInternal(invocation, Mono.just(getBuilder(exchange))));
 	}
 
+	/**
+	 * Creates a {@link WebFluxLinkBuilder} using an explicitly defined {@link ServerWebExchange} without going through a
+	 * reactive pipeline. Prefer this over {@link #linkTo(Object, ServerWebExchange)} in case the exchange is at hand
+	 * anyway and many links are built, as it avoids creating a {@link Mono} per link.
+	 *
+	 * <pre>
+	 * Link link = builderFor(methodOn(EmployeeController.class).findOne(id), exchange).withSelfRel();
+	 * </pre>
+	 *
+	 * @param invocation must not be {@literal null}.
+	 * @param exchange can be {@literal null}, in which case the link will be relative.
+	 * @return will never be {@literal null}.
+	 * @since 1.1
+	 */
+	public static WebFluxLinkBuilder builderFor(Object invocation, @Nullable ServerWebExchange exchange) {
+
+		Assert.notNull(invocation, "Invocation must not be null!");
+
+		return WebHandler.linkTo(invocation, WebFluxLinkBuilder::new) //
+				.conclude(getBuilderCreator(getBuilder(exchange)));
+	}
+
+	/**
+	 * Creates a {@link LinkTemplate} pointing to a controller method to cheaply create {@link Link}s to it for many
+	 * different values, e.g. for all elements of a collection. Uses the {@link ServerWebExchange} contained in the
+	 * Reactor Context to build full URIs, just like {@link #linkTo(Object)}. Path variables and required request
+	 * parameters handed into the dummy method invocation as {@literal null} are kept as variables to be expanded by the
+	 * template.
+	 *
+	 * @param invocation must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 1.1
+	 */
+	public static Mono<LinkTemplate> linkTemplate(Object invocation) {
+
+		Assert.notNull(invocation, "Invocation must not be null!");
+
+		return Mono.subscriberContext() //
+				.map(context -> getBuilder(context.getOrDefault(EXCHANGE_CONTEXT_ATTRIBUTE, null))) //
+				.map(builder -> WebHandler.linkTemplate(invocation, null, getBuilderCreator(builder)));
+	}
+
+	/**
+	 * Creates a {@link LinkTemplate} pointing to a controller method using an explicitly defined
+	 * {@link ServerWebExchange}.
+	 *
+	 * @param invocation must not be {@literal null}.
+	 * @param exchange must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 1.1
+	 * @see #linkTemplate(Object)
+	 */
+	public static LinkTemplate linkTemplate(Object invocation, ServerWebExchange exchange) {
+
+		Assert.notNull(invocation, "Invocation must not be null!");
+		Assert.notNull(exchange, "ServerWebExchange must not be null!");
+
+		return WebHandler.linkTemplate(invocation, null, getBuilderCreator(getBuilder(exchange)));
+	}
+
 	/**
 	 * Wrapper for {@link DummyInvocationUtils#methodOn(Class, Object...)} to be available in case you work with static
 	 * imports of {@link WebFluxLinkBuilder}.
@@ -241,7 +304,8 @@ public class WebFluxLinkBuilder extends TemplateVariableAwareLinkBuilderSupport<
 	}
 
 	/**
-	 * Returns a {@link UriComponentsBuilder} obtained from the {@link ServerWebExchange}.
+	 * Returns a {@link UriComponentsBuilder} obtained from the {@link ServerWebExchange}. The base URI is resolved once
+	 * per exchange and cached as exchange attribute.
 	 *
 	 * @param exchange
 	 */
@@ -251,12 +315,31 @@ public class WebFluxLinkBuilder extends TemplateVariableAwareLinkBuilderSupport<
 			return UriComponentsBuilder.fromPath("/");
 		}
 
-		ServerHttpRequest request = exchange.getRequest();
+		UriComponents baseUri = exchange.getAttribute(BASE_URI_CACHE_KEY);
+
+		if (baseUri == null) {
+			baseUri = getBaseUri(exchange.getRequest());
+			exchange.getAttributes().put(BASE_URI_CACHE_KEY, baseUri);
+		}
+
+		return UriComponentsBuilder.newInstance().uriComponents(baseUri);
+	}
+
+	/**
+	 * Returns the base URI of the given request, i.e. its context path resolved against the host, considering forwarded
+	 * headers.
+	 *
+	 * @param request must not be {@literal null}.
+	 * @return
+	 */
+	private static UriComponents getBaseUri(ServerHttpRequest request) {
+
 		PathContainer contextPath = request.getPath().contextPath();
 
 		return UriComponentsBuilder.fromHttpRequest(request) //
 				.replacePath(contextPath.toString()) //
-				.replaceQuery("");
+				.replaceQuery("") //
+				.build();
 	}
 
 	private static Mono<WebFluxLinkBuilder> linkToInternal(Object invocation) {
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.client.ExpectedCount.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Unit tests for {@link HopCache}.
+ *
+ * @author Oliver Drotbohm
+ */
+class HopCacheUnitTest {
+
+	static final String ROOT = "http://localhost/";
+	static final String REPRESENTATION = "{ \"_links\" : { \"movies\" : { \"href\" : \"http://localhost/movies\" } } }";
+	static final Link MOVIES = Link.of("http://localhost/movies", "movies");
+
+	MockRestServiceServer server;
+	TestClock clock;
+	Traverson traverson;
+
+	@BeforeEach
+	void setUp() {
+
+		RestTemplate template = new RestTemplate(Traverson.getDefaultMessageConverters(MediaTypes.HAL_JSON));
+
+		this.server = MockRestServiceServer.bindTo(template).build();
+		this.clock = new TestClock();
+		this.traverson = new Traverson(URI.create(ROOT), MediaTypes.HAL_JSON) //
+				.setRestOperations(template) //
+				.setHopCache(new HopCache(clock));
+	}
+
+	@Test
+	void usesCachedResponseWithinMaxAge() {
+
+		server.expect(once(), requestTo(ROOT)) //
+				.andRespond(withSuccess(REPRESENTATION, MediaTypes.HAL_JSON).headers(cacheControl("max-age=60")));
+
+		assertThat(traverson.follow("movies").asLink()).isEqualTo(MOVIES);
+
+		clock.advance(Duration.ofSeconds(59));
+
+		assertThat(traverson.follow("movies").asLink()).isEqualTo(MOVIES);
+
+		server.verify();
+	}
+
+	@Test
+	void refetchesResponseAfterMaxAgeExpired() {
+
+		server.expect(times(2), requestTo(ROOT)) //
+				.andRespond(withSuccess(REPRESENTATION, MediaTypes.HAL_JSON).headers(cacheControl("max-age=60")));
+
+		assertThat(traverson.follow("movies").asLink()).isEqualTo(MOVIES);
+
+		clock.advance(Duration.ofSeconds(60));
+
+		assertThat(traverson.follow("movies").asLink()).isEqualTo(MOVIES);
+
+		server.verify();
+	}
+
+	@Test
+	void revalidatesStaleResponseUsingETag() {
+
+		HttpHeaders headers = cacheControl("no-cache");
+		headers.setETag("\"v1\"");
+
+		server.expect(once(), requestTo(ROOT)) //
+				.andRespond(withSuccess(REPRESENTATION, MediaTypes.HAL_JSON).headers(headers));
+		server.expect(once(), requestTo(ROOT)) //
+				.andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\"")) //
+				.andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+		assertThat(traverson.follow("movies").asLink()).isEqualTo(MOVIES);
+		assertThat(traverson.follow("movies").asLink()).isEqualTo(MOVIES);
+
+		server.verify();
+	}
+
+	@Test
+	void doesNotCacheResponsesWithNoStore() {
+
+		server.expect(times(2), requestTo(ROOT)) //
+				.andRespond(withSuccess(REPRESENTATION, MediaTypes.HAL_JSON).headers(cacheControl("no-store, max-age=60")));
+
+		assertThat(traverson.follow("movies").asLink()).isEqualTo(MOVIES);
+		assertThat(traverson.follow("movies").asLink()).isEqualTo(MOVIES);
+
+		server.verify();
+	}
+
+	@Test
+	void doesNotCacheResponsesWithoutCachingHeaders() {
+
+		server.expect(times(2), requestTo(ROOT)) //
+				.andRespond(withSuccess(REPRESENTATION, MediaTypes.HAL_JSON));
+
+		assertThat(traverson.follow("movies").asLink()).isEqualTo(MOVIES);
+		assertThat(traverson.follow("movies").asLink()).isEqualTo(MOVIES);
+
+		server.verify();
+	}
+
+	@Test
+	void keysCachedResponsesByRequestHeaders() {
+
+		server.expect(times(2), requestTo(ROOT)) //
+				.andRespond(withSuccess(REPRESENTATION, MediaTypes.HAL_JSON).headers(cacheControl("max-age=60")));
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.add("X-Tenant", "foo");
+
+		assertThat(traverson.follow("movies").asLink()).isEqualTo(MOVIES);
+		assertThat(traverson.follow("movies").withHeaders(headers).asLink()).isEqualTo(MOVIES);
+		assertThat(traverson.follow("movies").withHeaders(headers).asLink()).isEqualTo(MOVIES);
+
+		server.verify();
+	}
+
+	private static HttpHeaders cacheControl(String value) {
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setCacheControl(value);
+
+		return headers;
+	}
+
+	static class TestClock extends Clock {
+
+		private Instant instant = Instant.now();
+
+		void advance(Duration duration) {
+			this.instant = instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+	}
+}
@@ -21,6 +21,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.hateoas.Link;
@@ -102,6 +103,30 @@ public abstract class LinkDiscovererUnitTest {
 		}
 	}
 
+	@Test
+	void findsAllLinksInSingleParse() throws IOException {
+
+		LinkDiscoverer discoverer = getDiscoverer();
+		Links links = discoverer.findLinks(getInputString());
+
+		assertThat(links).containsExactlyInAnyOrder(Link.of("selfHref"), Link.of("firstHref", "relation"),
+				Link.of("secondHref", "relation"), Link.of("fullRelHref", "http://www.foo.com/bar"));
+
+		Stream.of("self", "relation", "http://www.foo.com/bar").forEach(it -> {
+			assertThat(links.stream().filter(link -> link.hasRel(it))) //
+					.containsExactlyElementsOf(discoverer.findLinksWithRel(it, getInputString()));
+		});
+
+		try (InputStream stream = new ByteArrayInputStream(getInputString().getBytes(StandardCharsets.UTF_8))) {
+			assertThat(discoverer.findLinks(stream)).isEqualTo(links);
+		}
+	}
+
+	@Test
+	void findsNoLinksForNonExistingLinkContainer() {
+		assertThat(getDiscoverer().findLinks(getInputStringWithoutLinkContainer())).isEmpty();
+	}
+
 	/**
 	 * Return the {@link LinkDiscoverer} to be tested.
 	 *
@@ -49,6 +49,61 @@ class LinkDiscoverersUnitTest {
 		assertThat(registry.getRequiredPluginFor(MediaType.APPLICATION_JSON)).isEqualTo(high);
 	}
 
+	@Test
+	void cachesLinkDiscovererPerMediaTypeIncludingParameters() {
+
+		CountingLinkDiscoverer discoverer = new CountingLinkDiscoverer();
+		LinkDiscoverers discoverers = new LinkDiscoverers(PluginRegistry.of(discoverer));
+
+		assertThat(discoverers.getRequiredLinkDiscovererFor(MediaType.APPLICATION_JSON)).isEqualTo(discoverer);
+		assertThat(discoverers.getRequiredLinkDiscovererFor(MediaType.APPLICATION_JSON)).isEqualTo(discoverer);
+		assertThat(discoverer.lookups).isEqualTo(1);
+
+		MediaType withProfile = MediaType.parseMediaType("application/json;profile=foo");
+
+		assertThat(discoverers.getRequiredLinkDiscovererFor(withProfile)).isEqualTo(discoverer);
+		assertThat(discoverers.getRequiredLinkDiscovererFor(withProfile)).isEqualTo(discoverer);
+		assertThat(discoverer.lookups).isEqualTo(2);
+	}
+
+	@Test
+	void cachesLinkDiscovererPerMediaTypeString() {
+
+		CountingLinkDiscoverer discoverer = new CountingLinkDiscoverer();
+		LinkDiscoverers discoverers = new LinkDiscoverers(PluginRegistry.of(discoverer));
+
+		assertThat(discoverers.getRequiredLinkDiscovererFor("application/json;charset=UTF-8")).isEqualTo(discoverer);
+		assertThat(discoverers.getRequiredLinkDiscovererFor("application/json;charset=UTF-8")).isEqualTo(discoverer);
+		assertThat(discoverer.lookups).isEqualTo(1);
+	}
+
+	@Test
+	void rejectsUnsupportedMediaTypeForRequiredLookup() {
+
+		LinkDiscoverers discoverers = new LinkDiscoverers(PluginRegistry.of(new CountingLinkDiscoverer()));
+
+		assertThat(discoverers.getLinkDiscovererFor(MediaType.TEXT_PLAIN)).isEmpty();
+		assertThatIllegalArgumentException() //
+				.isThrownBy(() -> discoverers.getRequiredLinkDiscovererFor(MediaType.TEXT_PLAIN));
+	}
+
+	static class CountingLinkDiscoverer extends JsonPathLinkDiscoverer {
+
+		int lookups;
+
+		public CountingLinkDiscoverer() {
+			super("$.links.%s", MediaType.APPLICATION_JSON);
+		}
+
+		@Override
+		public boolean supports(MediaType delimiter) {
+
+			this.lookups++;
+
+			return super.supports(delimiter);
+		}
+	}
+
 	static class LowPriorityLinkDiscoverer extends JsonPathLinkDiscoverer implements Ordered {
 
 		@Override
@@ -21,6 +21,7 @@ import static org.hamcrest.Matchers.*;
 import java.io.Closeable;
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.UUID;
 
@@ -91,6 +92,18 @@ public class Server implements Closeable {
 				withBody("{ \"key\" : \"value\"}"). //
 				withContentType(MediaType.APPLICATION_JSON_VALUE);
 
+		onRequest(). //
+				havingPathEqualTo("/null-value"). //
+				respond(). //
+				withBody("{ \"key\" : null }"). //
+				withContentType(MediaTypes.HAL_JSON.toString());
+
+		onRequest(). //
+				havingPathEqualTo("/latin1"). //
+				respond(). //
+				withBody("{ \"name\" : \"J\u00fcrgen\" }".getBytes(StandardCharsets.ISO_8859_1)). //
+				withContentType(MediaTypes.HAL_JSON_VALUE + ";charset=ISO-8859-1");
+
 		// For templated link access
 
 		onRequest(). //
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.client.ExpectedCount.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.client.HopCacheUnitTest.TestClock;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Unit tests for {@link TraversalPlan}.
+ *
+ * @author Oliver Drotbohm
+ */
+class TraversalPlanUnitTest {
+
+	static final String ROOT = "http://localhost/";
+	static final String ROOT_REPRESENTATION = "{ \"_links\" : { \"movies\" : { \"href\" : \"http://localhost/movies\" } } }";
+	static final String MOVIES_REPRESENTATION = "{ \"_links\" : { \"search\" : { \"href\" : \"http://localhost/movies/search{?title}\", \"templated\" : true } } }";
+	static final String RESULT = "{ \"title\" : \"The Matrix\" }";
+
+	MockRestServiceServer server;
+	TestClock clock;
+	TraversalPlan plan;
+	Traverson traverson;
+
+	@BeforeEach
+	void setUp() {
+
+		RestTemplate template = new RestTemplate(Traverson.getDefaultMessageConverters(MediaTypes.HAL_JSON));
+
+		this.server = MockRestServiceServer.bindTo(template).build();
+		this.clock = new TestClock();
+		this.plan = TraversalPlan.of("movies", "search").withClock(clock);
+		this.traverson = new Traverson(URI.create(ROOT), MediaTypes.HAL_JSON).setRestOperations(template);
+	}
+
+	@Test
+	void skipsIntermediateRequestsForResolvedRoute() {
+
+		expectIntermediateRequests(once());
+		server.expect(once(), requestTo("http://localhost/movies/search?title=Matrix")) //
+				.andRespond(withSuccess(RESULT, MediaTypes.HAL_JSON));
+		server.expect(once(), requestTo("http://localhost/movies/search?title=Speed")) //
+				.andRespond(withSuccess(RESULT, MediaTypes.HAL_JSON));
+
+		assertThat(traverson.follow(plan) //
+				.withTemplateParameters(Collections.singletonMap("title", "Matrix")) //
+				.<String> toObject("$.title")).isEqualTo("The Matrix");
+		assertThat(traverson.follow(plan) //
+				.withTemplateParameters(Collections.singletonMap("title", "Speed")) //
+				.<String> toObject("$.title")).isEqualTo("The Matrix");
+
+		server.verify();
+	}
+
+	@Test
+	void returnsTemplatedLinkFromResolvedRoute() {
+
+		expectIntermediateRequests(once());
+
+		Link link = Link.of("http://localhost/movies/search{?title}", "search");
+
+		assertThat(traverson.follow(plan).asTemplatedLink()).isEqualTo(link);
+		assertThat(traverson.follow(plan).asTemplatedLink()).isEqualTo(link);
+
+		server.verify();
+	}
+
+	@Test
+	void resolvesRouteAgainAfterTimeToLiveExpired() {
+
+		expectIntermediateRequests(once());
+		expectIntermediateRequests(once());
+
+		traverson.follow(plan).asTemplatedLink();
+
+		clock.advance(Duration.ofMinutes(5));
+
+		traverson.follow(plan).asTemplatedLink();
+
+		server.verify();
+	}
+
+	@Test
+	void resolvesRouteAgainIfTargetIsGone() {
+
+		expectIntermediateRequests(once());
+		server.expect(once(), requestTo("http://localhost/movies/search")) //
+				.andRespond(withSuccess(RESULT, MediaTypes.HAL_JSON));
+		server.expect(once(), requestTo("http://localhost/movies/search")) //
+				.andRespond(withStatus(HttpStatus.GONE));
+		expectIntermediateRequests(once());
+		server.expect(once(), requestTo("http://localhost/movies/search")) //
+				.andRespond(withSuccess(RESULT, MediaTypes.HAL_JSON));
+
+		assertThat(traverson.follow(plan).<String> toObject("$.title")).isEqualTo("The Matrix");
+		assertThat(traverson.follow(plan).<String> toObject("$.title")).isEqualTo("The Matrix");
+
+		server.verify();
+	}
+
+	@Test
+	void rejectsAdditionalHopsForPlannedTraversal() {
+
+		assertThatIllegalStateException() //
+				.isThrownBy(() -> traverson.follow(plan).follow("actor"));
+	}
+
+	private void expectIntermediateRequests(ExpectedCount count) {
+
+		server.expect(count, requestTo(ROOT)) //
+				.andRespond(withSuccess(ROOT_REPRESENTATION, MediaTypes.HAL_JSON));
+		server.expect(count, requestTo("http://localhost/movies")) //
+				.andRespond(withSuccess(MOVIES_REPRESENTATION, MediaTypes.HAL_JSON));
+	}
+}
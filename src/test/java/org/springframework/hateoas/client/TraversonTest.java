@@ -27,6 +27,9 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -43,6 +46,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.client.ClientHttpRequestExecution;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
@@ -50,6 +54,8 @@ import org.springframework.test.context.event.annotation.AfterTestClass;
 import org.springframework.test.context.event.annotation.BeforeTestClass;
 import org.springframework.web.client.RestTemplate;
 
+import com.jayway.jsonpath.PathNotFoundException;
+
 /**
  * Integration tests for {@link Traverson}.
  *
@@ -212,6 +218,93 @@ class TraversonTest {
 		assertThat(interceptor.intercepted).isEqualTo(4);
 	}
 
+	@Test
+	void readsHopsAndJsonPathResultsWithoutStringMessageConverter() {
+
+		RestTemplate template = new RestTemplate(Collections.singletonList(new ByteArrayHttpMessageConverter()));
+
+		this.traverson = new Traverson(baseUri, MediaTypes.HAL_JSON).setRestOperations(template);
+
+		assertThat(traverson.follow("movies", "movie", "actor").<String> toObject("$.name")).isEqualTo("Keanu Reaves");
+		assertThat(traverson.follow("$._links.movies.href", "movie").asLink().getHref()).contains("/movies/");
+	}
+
+	@Test
+	void followsAllLinksWithRelationInDiscoveryOrder() {
+
+		this.traverson = new Traverson(URI.create(server.rootResource() + "/fan-out"), MediaTypes.HAL_JSON);
+
+		assertThat(traverson.follow().followAll("item").<String> toObject("$.name")) //
+				.containsExactly("first", "second", "third");
+	}
+
+	@Test
+	void followsAllLinksConcurrentlyOnExecutor() {
+
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		this.traverson = new Traverson(URI.create(server.rootResource() + "/fan-out"), MediaTypes.HAL_JSON);
+
+		try {
+
+			List<String> names = traverson.follow() //
+					.followAll("item") //
+					.withExecutor(executor) //
+					.<String> toObject("$.name");
+
+			assertThat(names).containsExactly("first", "second", "third");
+
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void limitsNumberOfConcurrentTasksToParallelism() {
+
+		AtomicInteger tasks = new AtomicInteger();
+		this.traverson = new Traverson(URI.create(server.rootResource() + "/fan-out"), MediaTypes.HAL_JSON);
+
+		List<String> names = traverson.follow() //
+				.followAll("item") //
+				.withExecutor(it -> {
+					tasks.incrementAndGet();
+					new Thread(it).start();
+				}) //
+				.withParallelism(2) //
+				.<String> toObject("$.name");
+
+		assertThat(names).containsExactly("first", "second", "third");
+		assertThat(tasks.get()).isEqualTo(2);
+	}
+
+	@Test
+	void returnsAllLinksFoundForFanOutRelation() {
+
+		this.traverson = new Traverson(URI.create(server.rootResource() + "/fan-out"), MediaTypes.HAL_JSON);
+
+		assertThat(traverson.follow().followAll("item").asLinks()) //
+				.extracting(Link::getHref) //
+				.containsExactly(server.rootResource() + "/fan-out/1", server.rootResource() + "/fan-out/2",
+						server.rootResource() + "/fan-out/3");
+		assertThat(traverson.follow().followAll("unknown").asLinks()).isEmpty();
+	}
+
+	@Test
+	void propagatesFailureOfConcurrentFanOutRequest() {
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		this.traverson = new Traverson(URI.create(server.rootResource() + "/fan-out"), MediaTypes.HAL_JSON);
+
+		try {
+
+			assertThatExceptionOfType(PathNotFoundException.class) //
+					.isThrownBy(() -> traverson.follow().followAll("item").withExecutor(executor).toObject("$.unknown"));
+
+		} finally {
+			executor.shutdown();
+		}
+	}
+
 	/**
 	 * @see #185
 	 */
@@ -237,6 +330,23 @@ class TraversonTest {
 		assertThat(result.hasRel("movies")).isTrue();
 	}
 
+	@Test
+	void reportsResponseBodyIfLinkCannotBeFound() {
+
+		assertThatIllegalStateException() //
+				.isThrownBy(() -> traverson.follow("movies", "unknown").asLink()) //
+				.withMessageContaining("'unknown'") //
+				.withMessageContaining("_links");
+	}
+
+	@Test
+	void readsJsonPathRelationUsingCharsetOfResponse() {
+
+		this.traverson = new Traverson(URI.create(server.rootResource() + "/latin1"), MediaTypes.HAL_JSON);
+
+		assertThat(traverson.follow("$.name").asLink().getHref()).isEqualTo("J\u00fcrgen");
+	}
+
 	/**
 	 * @see #307
 	 */
@@ -451,6 +561,24 @@ class TraversonTest {
 
 		server.mockResourceFor(resource);
 		server.finishMocking();
+
+		String root = server.rootResource();
+
+		onRequest() //
+				.havingPathEqualTo("/fan-out") //
+				.respond() //
+				.withBody(String.format("{ \"_links\" : { \"item\" : [ { \"href\" : \"%1$s/fan-out/1\" }, " //
+						+ "{ \"href\" : \"%1$s/fan-out/2\" }, { \"href\" : \"%1$s/fan-out/3\" } ] } }", root));
+
+		List<String> names = Arrays.asList("first", "second", "third");
+
+		for (int i = 0; i < names.size(); i++) {
+
+			onRequest() //
+					.havingPathEqualTo("/fan-out/" + (i + 1)) //
+					.respond() //
+					.withBody(String.format("{ \"name\" : \"%s\" }", names.get(i)));
+		}
 	}
 
 	static class CountingInterceptor implements ClientHttpRequestInterceptor {
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.client.ExpectedCount.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+import java.net.URI;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Unit tests for {@link Traverson} using a mocked server.
+ *
+ * @author Oliver Drotbohm
+ */
+class TraversonUnitTest {
+
+	static final String ROOT = "http://localhost/";
+	static final String ROOT_REPRESENTATION = "{ \"_links\" : { \"actor\" : { \"href\" : \"http://localhost/actors/1\" } }, " //
+			+ "\"_embedded\" : { \"actor\" : { \"name\" : \"Keanu Reaves\", " //
+			+ "\"_links\" : { \"movies\" : { \"href\" : \"http://localhost/actors/1/movies\" } } } } }";
+	static final String ACTOR_REPRESENTATION = "{ \"name\" : \"Keanu Reaves\" }";
+
+	MockRestServiceServer server;
+	Traverson traverson;
+
+	@BeforeEach
+	void setUp() {
+
+		RestTemplate template = new RestTemplate(Traverson.getDefaultMessageConverters(MediaTypes.HAL_JSON));
+
+		this.server = MockRestServiceServer.bindTo(template).build();
+		this.traverson = new Traverson(URI.create(ROOT), MediaTypes.HAL_JSON).setRestOperations(template);
+	}
+
+	@Test
+	void readsEmbeddedResourceInsteadOfFollowingLink() {
+
+		server.expect(once(), requestTo(ROOT)) //
+				.andRespond(withSuccess(ROOT_REPRESENTATION, MediaTypes.HAL_JSON));
+
+		assertThat(traverson.follow("actor").preferEmbedded().<String> toObject("$.name")).isEqualTo("Keanu Reaves");
+
+		server.verify();
+	}
+
+	@Test
+	void marshalsEmbeddedResourceIntoObject() {
+
+		server.expect(once(), requestTo(ROOT)) //
+				.andRespond(withSuccess(ROOT_REPRESENTATION, MediaTypes.HAL_JSON));
+
+		EntityModel<Actor> model = traverson.follow("actor") //
+				.preferEmbedded() //
+				.toObject(new ParameterizedTypeReference<EntityModel<Actor>>() {});
+
+		assertThat(model.getContent()).isEqualTo(new Actor("Keanu Reaves"));
+		assertThat(model.getRequiredLink("movies").getHref()).isEqualTo("http://localhost/actors/1/movies");
+
+		server.verify();
+	}
+
+	@Test
+	void followsLinksFoundInEmbeddedResource() {
+
+		server.expect(once(), requestTo(ROOT)) //
+				.andRespond(withSuccess(ROOT_REPRESENTATION, MediaTypes.HAL_JSON));
+		server.expect(once(), requestTo("http://localhost/actors/1/movies")) //
+				.andRespond(withSuccess("{ \"title\" : \"The Matrix\" }", MediaTypes.HAL_JSON));
+
+		assertThat(traverson.follow("actor", "movies").preferEmbedded().<String> toObject("$.title"))
+				.isEqualTo("The Matrix");
+
+		server.verify();
+	}
+
+	@Test
+	void followsLinkIfResourceIsNotEmbedded() {
+
+		server.expect(once(), requestTo(ROOT)) //
+				.andRespond(withSuccess("{ \"_links\" : { \"actor\" : { \"href\" : \"http://localhost/actors/1\" } } }",
+						MediaTypes.HAL_JSON));
+		server.expect(once(), requestTo("http://localhost/actors/1")) //
+				.andRespond(withSuccess(ACTOR_REPRESENTATION, MediaTypes.HAL_JSON));
+
+		assertThat(traverson.follow("actor").preferEmbedded().<String> toObject("$.name")).isEqualTo("Keanu Reaves");
+
+		server.verify();
+	}
+
+	@Test
+	void followsLinkByDefault() {
+
+		server.expect(once(), requestTo(ROOT)) //
+				.andRespond(withSuccess(ROOT_REPRESENTATION, MediaTypes.HAL_JSON));
+		server.expect(once(), requestTo("http://localhost/actors/1")) //
+				.andRespond(withSuccess(ACTOR_REPRESENTATION, MediaTypes.HAL_JSON));
+
+		assertThat(traverson.follow("actor").<String> toObject("$.name")).isEqualTo("Keanu Reaves");
+
+		server.verify();
+	}
+}
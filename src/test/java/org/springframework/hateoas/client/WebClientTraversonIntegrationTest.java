@@ -0,0 +1,211 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import static net.jadler.Jadler.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.hateoas.client.Hop.*;
+
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.net.URI;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Integration tests for {@link WebClientTraverson}.
+ *
+ * @author Oliver Drotbohm
+ */
+class WebClientTraversonIntegrationTest {
+
+	static URI baseUri;
+	static Server server;
+
+	WebClientTraverson traverson;
+
+	@BeforeAll
+	static void setUpClass() {
+
+		server = new Server();
+		baseUri = URI.create(server.rootResource());
+
+		EntityModel<Actor> actor = EntityModel.of(new Actor("Keanu Reaves"));
+		String actorUri = server.mockResourceFor(actor);
+
+		EntityModel<Movie> movie = EntityModel.of(new Movie("The Matrix"));
+		movie.add(Link.of(actorUri, "actor"));
+
+		server.mockResourceFor(movie);
+		server.finishMocking();
+	}
+
+	@BeforeEach
+	void setUp() {
+		this.traverson = new WebClientTraverson(createWebClient(), baseUri, MediaTypes.HAL_JSON);
+	}
+
+	@AfterAll
+	static void tearDown() throws IOException {
+
+		if (server != null) {
+			server.close();
+		}
+	}
+
+	@Test
+	void rejectsInvalidConstructorArguments() {
+
+		assertThatIllegalArgumentException() //
+				.isThrownBy(() -> new WebClientTraverson(null, baseUri, MediaTypes.HAL_JSON));
+		assertThatIllegalArgumentException() //
+				.isThrownBy(() -> new WebClientTraverson(createWebClient(), null, MediaTypes.HAL_JSON));
+		assertThatIllegalArgumentException() //
+				.isThrownBy(() -> new WebClientTraverson(createWebClient(), baseUri));
+	}
+
+	@Test
+	void readsTraversalIntoJsonPathExpression() {
+
+		traverson.follow("movies", "movie", "actor").<String> toObject("$.name") //
+				.as(StepVerifier::create) //
+				.expectNext("Keanu Reaves") //
+				.verifyComplete();
+
+		verifyThatRequest() //
+				.havingPathEqualTo("/") //
+				.havingHeader(HttpHeaders.ACCEPT, contains(MediaTypes.HAL_JSON_VALUE));
+	}
+
+	@Test
+	void completesEmptyForJsonPathExpressionEvaluatingToNull() {
+
+		new WebClientTraverson(createWebClient(), URI.create(server.rootResource().concat("/null-value")),
+				MediaTypes.HAL_JSON).follow() //
+						.<String> toObject("$.key") //
+						.as(StepVerifier::create) //
+						.verifyComplete();
+	}
+
+	@Test
+	void readsTraversalIntoResourceInstance() {
+
+		traverson.follow("movies", "movie", "actor") //
+				.toObject(new ParameterizedTypeReference<EntityModel<Actor>>() {}) //
+				.as(StepVerifier::create) //
+				.assertNext(it -> assertThat(it.getContent().name).isEqualTo("Keanu Reaves")) //
+				.verifyComplete();
+	}
+
+	@Test
+	void readsTraversalIntoResponseEntity() {
+
+		traverson.follow("movies", "movie", "actor") //
+				.toEntity(String.class) //
+				.as(StepVerifier::create) //
+				.assertNext(it -> {
+					assertThat(it.getHeaders().getContentType()).isEqualTo(MediaTypes.HAL_JSON);
+					assertThat(it.getBody()).contains("Keanu Reaves");
+				}) //
+				.verifyComplete();
+	}
+
+	@Test
+	void returnsLastLinkFound() {
+
+		traverson.follow("movies").asLink() //
+				.as(StepVerifier::create) //
+				.assertNext(it -> {
+					assertThat(it.getHref()).endsWith("/movies");
+					assertThat(it.hasRel("movies")).isTrue();
+				}) //
+				.verifyComplete();
+	}
+
+	@Test
+	void returnsTemplatedLinkIfRequested() {
+
+		WebClientTraverson.TraversalBuilder builder = new WebClientTraverson(createWebClient(),
+				URI.create(server.rootResource().concat("/link")), MediaTypes.HAL_JSON).follow("self");
+
+		builder.asTemplatedLink() //
+				.as(StepVerifier::create) //
+				.assertNext(it -> {
+					assertThat(it.isTemplated()).isTrue();
+					assertThat(it.getVariableNames()).contains("template");
+				}) //
+				.verifyComplete();
+
+		builder.asLink() //
+				.as(StepVerifier::create) //
+				.assertNext(it -> assertThat(it.isTemplated()).isFalse()) //
+				.verifyComplete();
+	}
+
+	@Test
+	void sendsHopSpecificHeaders() {
+
+		traverson.follow(rel("movies").header("X-Custom", "alpha")) //
+				.follow(rel("movie").header("X-Custom", "bravo")) //
+				.follow("actor") //
+				.<String> toObject("$.name") //
+				.as(StepVerifier::create) //
+				.expectNext("Keanu Reaves") //
+				.verifyComplete();
+
+		verifyThatRequest().havingPathEqualTo("/movies") //
+				.havingHeader(HttpHeaders.ACCEPT, contains(MediaTypes.HAL_JSON_VALUE)) //
+				.havingHeader("X-Custom", contains("alpha"));
+
+		verifyThatRequest().havingPath(startsWith("/movies/")) //
+				.havingHeader("X-Custom", contains("bravo"));
+	}
+
+	@Test
+	void signalsErrorForUnknownRelation() {
+
+		traverson.follow("movies", "unknown").asLink() //
+				.as(StepVerifier::create) //
+				.verifyError(IllegalStateException.class);
+	}
+
+	private static WebClient createWebClient() {
+
+		ObjectMapper mapper = new ObjectMapper();
+		mapper.registerModule(new Jackson2HalModule());
+		mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+		return WebClient.builder() //
+				.codecs(it -> it.customCodecs().registerWithDefaultConfig(new Jackson2JsonDecoder(mapper, MediaTypes.HAL_JSON)))
+				.build();
+	}
+}
@@ -564,7 +564,8 @@ class EnableHypermediaSupportIntegrationTest {
 
 			MessageResolver resolver = context.getBean(MessageResolver.class);
 
-			Object accessor = ReflectionTestUtils.getField(resolver, "accessor");
+			Object delegate = ReflectionTestUtils.getField(resolver, "delegate");
+			Object accessor = ReflectionTestUtils.getField(delegate, "accessor");
 			Object messageSource = ReflectionTestUtils.getField(accessor, "messageSource");
 
 			assertThat((String) ReflectionTestUtils.getField(messageSource, "defaultEncoding")).isEqualTo("UTF-8");
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.config;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
+import static org.springframework.hateoas.support.ContextTester.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.config.EnableHypermediaSupport.HypermediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+/**
+ * Integration tests for {@link HypermediaCacheWarmer}.
+ *
+ * @author Oliver Drotbohm
+ */
+class HypermediaCacheWarmerIntegrationTest {
+
+	@Test
+	void preparesCachesOnStartupWithoutFailingForControllersThatCannotBeProxied() {
+
+		withServletContext(Config.class, context -> {
+
+			assertThat(context.getBean(HypermediaCacheWarmer.class)).isNotNull();
+			assertThat(linkTo(methodOn(SampleController.class).sample()).withSelfRel().getHref()).endsWith("/sample");
+		});
+	}
+
+	@Configuration
+	@EnableWebMvc
+	@EnableHypermediaSupport(type = HypermediaType.HAL)
+	static class Config {
+
+		@Bean
+		HypermediaCacheWarmer hypermediaCacheWarmer() {
+			return new HypermediaCacheWarmer();
+		}
+
+		@Bean
+		SampleController sampleController() {
+			return new SampleController();
+		}
+
+		@Bean
+		FinalController finalController() {
+			return new FinalController();
+		}
+	}
+
+	@RestController
+	static class SampleController {
+
+		@GetMapping("/sample")
+		EntityModel<String> sample() {
+			return EntityModel.of("sample");
+		}
+	}
+
+	@RestController
+	static final class FinalController {
+
+		@GetMapping("/final")
+		EntityModel<String> sample() {
+			return EntityModel.of("final");
+		}
+	}
+}
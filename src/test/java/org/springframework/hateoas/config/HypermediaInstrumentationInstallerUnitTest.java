@@ -0,0 +1,106 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.instrumentation.HypermediaInstrumentation;
+import org.springframework.hateoas.instrumentation.Instrumentation;
+
+/**
+ * Unit tests for {@link HypermediaInstrumentationInstaller}.
+ *
+ * @author Oliver Drotbohm
+ */
+class HypermediaInstrumentationInstallerUnitTest {
+
+	HypermediaInstrumentation instrumentation = new HypermediaInstrumentation() {};
+
+	@AfterEach
+	void tearDown() {
+		Instrumentation.reset();
+	}
+
+	@Test
+	void installsAndResetsInstrumentation() {
+
+		HypermediaInstrumentationInstaller installer = new HypermediaInstrumentationInstaller(instrumentation);
+
+		installer.afterPropertiesSet();
+
+		assertThat(Instrumentation.get()).isSameAs(instrumentation);
+
+		installer.destroy();
+
+		assertThat(Instrumentation.get()).isSameAs(HypermediaInstrumentation.NONE);
+	}
+
+	@Test
+	void reinstatesInstrumentationOfOtherContextOnDestroy() {
+
+		HypermediaInstrumentation other = new HypermediaInstrumentation() {};
+
+		HypermediaInstrumentationInstaller first = new HypermediaInstrumentationInstaller(instrumentation);
+		HypermediaInstrumentationInstaller second = new HypermediaInstrumentationInstaller(other);
+
+		first.afterPropertiesSet();
+		second.afterPropertiesSet();
+
+		assertThat(Instrumentation.get()).isSameAs(other);
+
+		second.destroy();
+
+		assertThat(Instrumentation.get()).isSameAs(instrumentation);
+
+		first.destroy();
+
+		assertThat(Instrumentation.get()).isSameAs(HypermediaInstrumentation.NONE);
+	}
+
+	@Test
+	void keepsInstrumentationInUseIfOtherContextIsDestroyedFirst() {
+
+		HypermediaInstrumentation other = new HypermediaInstrumentation() {};
+
+		HypermediaInstrumentationInstaller first = new HypermediaInstrumentationInstaller(instrumentation);
+		HypermediaInstrumentationInstaller second = new HypermediaInstrumentationInstaller(other);
+
+		first.afterPropertiesSet();
+		second.afterPropertiesSet();
+		first.destroy();
+
+		assertThat(Instrumentation.get()).isSameAs(other);
+
+		second.destroy();
+
+		assertThat(Instrumentation.get()).isSameAs(HypermediaInstrumentation.NONE);
+	}
+
+	@Test
+	void leavesInstalledInstrumentationUntouchedWithoutBean() {
+
+		Instrumentation.install(instrumentation);
+
+		HypermediaInstrumentationInstaller installer = new HypermediaInstrumentationInstaller(null);
+
+		installer.afterPropertiesSet();
+		installer.destroy();
+
+		assertThat(Instrumentation.get()).isSameAs(instrumentation);
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+
+/**
+ * Unit tests for {@link HypermediaObjectMappers}.
+ *
+ * @author Oliver Drotbohm
+ */
+class HypermediaObjectMappersUnitTest {
+
+	CountingMappingInformation first = new CountingMappingInformation("application/first+json");
+	CountingMappingInformation second = new CountingMappingInformation("application/second+json");
+
+	@Test
+	void configuresObjectMapperOncePerHypermediaType() {
+
+		ObjectMapper source = new ObjectMapper();
+		HypermediaObjectMappers mappers = HypermediaObjectMappers.of(source, Arrays.asList(first, second));
+
+		ObjectMapper mapper = mappers.getObjectMapper(first);
+
+		assertThat(mapper).isNotSameAs(source);
+		assertThat(mappers.getObjectMapper(first)).isSameAs(mapper);
+		assertThat(mappers.getObjectMapper(second)).isNotSameAs(mapper);
+		assertThat(mappers.getMappingInformation()).containsExactly(first, second);
+		assertThat(first.invocations).isEqualTo(1);
+		assertThat(second.invocations).isEqualTo(1);
+	}
+
+	@Test
+	void sharesObjectMappersWithCodecsAndConverters() {
+
+		HypermediaObjectMappers mappers = HypermediaObjectMappers.of(new ObjectMapper(), Arrays.asList(first, second));
+
+		WebConverters.of(mappers);
+		new HypermediaWebClientConfigurer(mappers);
+
+		assertThat(first.invocations).isEqualTo(1);
+		assertThat(second.invocations).isEqualTo(1);
+	}
+
+	@Test
+	void rejectsUnknownMappingInformation() {
+
+		HypermediaObjectMappers mappers = HypermediaObjectMappers.of(new ObjectMapper(), Collections.singletonList(first));
+
+		assertThatIllegalArgumentException().isThrownBy(() -> mappers.getObjectMapper(second));
+	}
+
+	@Test
+	void warmsUpRegisteredModelTypes() {
+
+		HypermediaObjectMappers mappers = HypermediaObjectMappers.of(new ObjectMapper(), Collections.singletonList(first));
+		DefaultSerializerProvider provider = (DefaultSerializerProvider) mappers.getObjectMapper(first)
+				.getSerializerProvider();
+
+		mappers.registerModelTypes(ResolvableType.forClassWithGenerics(EntityModel.class, String.class));
+
+		int initial = provider.cachedSerializersCount();
+
+		mappers.afterSingletonsInstantiated();
+
+		int warmedUp = provider.cachedSerializersCount();
+
+		assertThat(warmedUp).isGreaterThan(initial);
+
+		mappers.registerModelTypes(ResolvableType.forClassWithGenerics(EntityModel.class, Integer.class));
+
+		assertThat(provider.cachedSerializersCount()).isGreaterThan(warmedUp);
+	}
+
+	static class CountingMappingInformation implements HypermediaMappingInformation {
+
+		private final MediaType mediaType;
+		int invocations = 0;
+
+		CountingMappingInformation(String mediaType) {
+			this.mediaType = MediaType.parseMediaType(mediaType);
+		}
+
+		@Override
+		public List<MediaType> getMediaTypes() {
+			return Collections.singletonList(mediaType);
+		}
+
+		@Override
+		public ObjectMapper configureObjectMapper(ObjectMapper mapper) {
+
+			invocations++;
+
+			return HypermediaMappingInformation.super.configureObjectMapper(mapper);
+		}
+	}
+}
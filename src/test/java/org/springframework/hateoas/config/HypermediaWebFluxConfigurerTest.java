@@ -24,6 +24,7 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
@@ -40,6 +41,7 @@ import org.springframework.hateoas.RepresentationModel;
 import org.springframework.hateoas.server.SimpleRepresentationModelAssembler;
 import org.springframework.hateoas.server.core.TypeReferences.CollectionModelType;
 import org.springframework.hateoas.server.core.TypeReferences.EntityModelType;
+import org.springframework.hateoas.server.reactive.ReactiveRepresentationModelProcessor;
 import org.springframework.hateoas.support.Employee;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
@@ -423,6 +425,29 @@ class HypermediaWebFluxConfigurerTest {
 				}).verifyComplete();
 	}
 
+	@Test
+	void invokesReactiveRepresentationModelProcessors() {
+
+		setUp(ProcessorWebFluxConfig.class);
+
+		for (String uri : Arrays.asList("/employees/1", "/reactive/employees/1")) {
+
+			this.testClient.get().uri(uri).accept(MediaTypes.HAL_JSON).exchange() //
+					.expectStatus().isOk() //
+					.returnResult(this.resourceEmployeeType).getResponseBody() //
+					.as(StepVerifier::create) //
+					.expectNextMatches(it -> it.hasLink("processed")) //
+					.verifyComplete();
+		}
+
+		this.testClient.get().uri("/reactive/employees").accept(MediaTypes.HAL_JSON).exchange() //
+				.expectStatus().isOk() //
+				.returnResult(this.resourcesEmployeeType).getResponseBody() //
+				.as(StepVerifier::create) //
+				.expectNextMatches(it -> it.getContent().stream().allMatch(element -> element.hasLink("processed"))) //
+				.verifyComplete();
+	}
+
 	@Configuration
 	@EnableWebFlux
 	static abstract class BaseConfig {
@@ -454,6 +479,15 @@ class HypermediaWebFluxConfigurerTest {
 	@EnableHypermediaSupport(type = { HAL, HAL_FORMS, COLLECTION_JSON, UBER })
 	static class AllHypermediaTypesWebFluxConfig extends BaseConfig {}
 
+	@EnableHypermediaSupport(type = HAL)
+	static class ProcessorWebFluxConfig extends BaseConfig {
+
+		@Bean
+		ReactiveRepresentationModelProcessor<EntityModel<Employee>> employeeProcessor() {
+			return new EmployeeProcessor();
+		}
+	}
+
 	@RestController
 	static class TestController {
 
@@ -540,6 +574,14 @@ class HypermediaWebFluxConfigurerTest {
 		}
 	}
 
+	static class EmployeeProcessor implements ReactiveRepresentationModelProcessor<EntityModel<Employee>> {
+
+		@Override
+		public Mono<EntityModel<Employee>> process(EntityModel<Employee> model) {
+			return Mono.fromSupplier(() -> model.add(Link.of("/processed", "processed")));
+		}
+	}
+
 	static class EmployeeResourceAssembler implements SimpleRepresentationModelAssembler<Employee> {
 
 		@Override
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.instrumentation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.instrumentation.HypermediaInstrumentation.Cache;
+import org.springframework.hateoas.instrumentation.HypermediaInstrumentation.Operation;
+import org.springframework.hateoas.instrumentation.HypermediaInstrumentation.Sample;
+import org.springframework.hateoas.server.core.UriTemplateFactory;
+import org.springframework.lang.Nullable;
+
+/**
+ * Unit tests for {@link Instrumentation}.
+ *
+ * @author Oliver Drotbohm
+ */
+class InstrumentationUnitTest {
+
+	RecordingInstrumentation recording = new RecordingInstrumentation();
+
+	@BeforeEach
+	void setUp() {
+		Instrumentation.install(recording);
+	}
+
+	@AfterEach
+	void tearDown() {
+		Instrumentation.reset();
+	}
+
+	@Test
+	void timesOperation() {
+
+		assertThat(Instrumentation.time(Operation.LINK_BUILDING, "method", () -> "value")).isEqualTo("value");
+
+		assertThat(recording.started).containsExactly("LINK_BUILDING:method");
+		assertThat(recording.stopped).isEqualTo(1);
+	}
+
+	@Test
+	void stopsSampleIfOperationFails() {
+
+		assertThatIllegalStateException().isThrownBy(() -> Instrumentation.time(Operation.SERIALIZATION, null, () -> {
+			throw new IllegalStateException();
+		}));
+
+		assertThat(recording.started).containsExactly("SERIALIZATION:null");
+		assertThat(recording.stopped).isEqualTo(1);
+	}
+
+	@Test
+	void startsSampleWithComputedQualifier() {
+
+		Instrumentation.start(Operation.SERIALIZATION, () -> "application/hal+json").stop();
+
+		assertThat(recording.started).containsExactly("SERIALIZATION:application/hal+json");
+		assertThat(recording.stopped).isEqualTo(1);
+	}
+
+	@Test
+	void doesNotComputeQualifierWithoutInstrumentation() {
+
+		Instrumentation.reset();
+
+		assertThat(Instrumentation.start(Operation.SERIALIZATION, () -> {
+			throw new IllegalStateException();
+		})).isSameAs(Sample.NONE);
+	}
+
+	@Test
+	void recordsCacheMissAndHit() {
+
+		Map<String, String> map = new HashMap<>();
+
+		assertThat(Instrumentation.computeIfAbsent(Cache.MAPPINGS, map, "key", it -> "value")).isEqualTo("value");
+		assertThat(Instrumentation.computeIfAbsent(Cache.MAPPINGS, map, "key", it -> "other")).isEqualTo("value");
+
+		assertThat(recording.accesses).containsExactly("MAPPINGS:false", "MAPPINGS:true");
+	}
+
+	@Test
+	void recordsAccessesToUriTemplateCache() {
+
+		String mapping = "/" + UUID.randomUUID().toString();
+
+		UriTemplateFactory.templateFor(mapping);
+		UriTemplateFactory.templateFor(mapping);
+
+		assertThat(recording.accesses).containsExactly("URI_TEMPLATES:false", "URI_TEMPLATES:true");
+	}
+
+	@Test
+	void doesNotRecordAnythingAfterReset() {
+
+		Instrumentation.reset();
+
+		Instrumentation.time(Operation.TRAVERSON_HOP, "rel", () -> "value");
+		Instrumentation.computeIfAbsent(Cache.AFFORDANCES, new HashMap<>(), "key", it -> "value");
+
+		assertThat(Instrumentation.get()).isSameAs(HypermediaInstrumentation.NONE);
+		assertThat(recording.started).isEmpty();
+		assertThat(recording.accesses).isEmpty();
+	}
+
+	static class RecordingInstrumentation implements HypermediaInstrumentation {
+
+		List<String> started = new ArrayList<>();
+		List<String> accesses = new ArrayList<>();
+		int stopped;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.instrumentation.HypermediaInstrumentation#start(org.springframework.hateoas.instrumentation.HypermediaInstrumentation.Operation, java.lang.String)
+		 */
+		@Override
+		public Sample start(Operation operation, @Nullable String qualifier) {
+
+			started.add(operation + ":" + qualifier);
+
+			return () -> stopped++;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.instrumentation.HypermediaInstrumentation#recordCacheAccess(org.springframework.hateoas.instrumentation.HypermediaInstrumentation.Cache, boolean)
+		 */
+		@Override
+		public void recordCacheAccess(Cache cache, boolean hit) {
+			accesses.add(cache + ":" + hit);
+		}
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mediatype;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Locale;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.context.support.StaticMessageSource;
+
+/**
+ * Unit tests for {@link CachingMessageResolver}.
+ *
+ * @author Oliver Drotbohm
+ */
+class CachingMessageResolverUnitTests {
+
+	@AfterEach
+	void tearDown() {
+		LocaleContextHolder.resetLocaleContext();
+	}
+
+	@Test
+	void cachesResolvedMessages() {
+
+		MessageResolver delegate = mock(MessageResolver.class);
+		doReturn("resolved").when(delegate).resolve(any());
+
+		MessageResolver resolver = new CachingMessageResolver(delegate);
+
+		assertThat(resolver.resolve(resolvable("code"))).isEqualTo("resolved");
+		assertThat(resolver.resolve(resolvable("code"))).isEqualTo("resolved");
+
+		verify(delegate, times(1)).resolve(any());
+	}
+
+	@Test
+	void cachesFailedLookups() {
+
+		MessageResolver delegate = mock(MessageResolver.class);
+		MessageResolver resolver = new CachingMessageResolver(delegate);
+
+		assertThat(resolver.resolve(resolvable("code"))).isNull();
+		assertThat(resolver.resolve(resolvable("code"))).isNull();
+
+		verify(delegate, times(1)).resolve(any());
+	}
+
+	@Test
+	void cachesMessagesPerLocale() {
+
+		StaticMessageSource source = new StaticMessageSource();
+		source.addMessage("code", Locale.ENGLISH, "english");
+		source.addMessage("code", Locale.GERMAN, "german");
+
+		MessageResolver resolver = MessageResolver.cached(source);
+
+		LocaleContextHolder.setLocale(Locale.ENGLISH);
+		assertThat(resolver.resolve(resolvable("code"))).isEqualTo("english");
+
+		LocaleContextHolder.setLocale(Locale.GERMAN);
+		assertThat(resolver.resolve(resolvable("code"))).isEqualTo("german");
+	}
+
+	@Test
+	void doesNotCacheResolvablesWithArguments() {
+
+		MessageResolver delegate = mock(MessageResolver.class);
+		MessageResolver resolver = new CachingMessageResolver(delegate);
+
+		MessageSourceResolvable resolvable = new DefaultMessageSourceResolvable(new String[] { "code" },
+				new Object[] { "argument" });
+
+		resolver.resolve(resolvable);
+		resolver.resolve(resolvable);
+
+		verify(delegate, times(2)).resolve(resolvable);
+	}
+
+	@Test
+	void stopsCachingForAdditionalLocalesOnceLimitIsReached() {
+
+		MessageResolver delegate = mock(MessageResolver.class);
+		MessageResolver resolver = new CachingMessageResolver(delegate);
+
+		for (int i = 0; i < CachingMessageResolver.MAX_LOCALES; i++) {
+			LocaleContextHolder.setLocale(new Locale("x" + i));
+			resolver.resolve(resolvable("code"));
+		}
+
+		LocaleContextHolder.setLocale(new Locale("overflow"));
+		resolver.resolve(resolvable("code"));
+		resolver.resolve(resolvable("code"));
+
+		verify(delegate, times(CachingMessageResolver.MAX_LOCALES + 2)).resolve(any());
+	}
+
+	@Test
+	void cachesOnlyIfExplicitlyRequested() {
+
+		assertThat(MessageResolver.cached(new StaticMessageSource())).isInstanceOf(CachingMessageResolver.class);
+		assertThat(MessageResolver.cached(null)).isNotInstanceOf(CachingMessageResolver.class);
+	}
+
+	@Test
+	void doesNotCacheByDefault() {
+		assertThat(MessageResolver.of(new StaticMessageSource())).isNotInstanceOf(CachingMessageResolver.class);
+	}
+
+	private static MessageSourceResolvable resolvable(String code) {
+		return new DefaultMessageSourceResolvable(new String[] { code }, "");
+	}
+}
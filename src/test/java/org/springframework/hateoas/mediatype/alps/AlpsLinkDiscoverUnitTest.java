@@ -48,6 +48,19 @@ class AlpsLinkDiscoverUnitTest extends LinkDiscovererUnitTest {
 				.hasValue("fullRelHref");
 	}
 
+	@Test
+	void skipsNestedDocumentationAndDescriptors() {
+
+		String source = "{ \"descriptors\" : [ { \"name\" : \"first\"," //
+				+ " \"doc\" : { \"value\" : \"Some docs\", \"href\" : \"/docs\" }," //
+				+ " \"descriptors\" : [ { \"name\" : \"nested\", \"href\" : \"/nested\" } ]," //
+				+ " \"href\" : \"/first\" }," //
+				+ " { \"name\" : \"second\", \"href\" : \"/second\" } ] }";
+
+		assertThat(getDiscoverer().findLinks(source)) //
+				.containsExactly(Link.of("/first", "first"), Link.of("/second", "second"));
+	}
+
 	/**
 	 * Return the {@link LinkDiscoverer} to be tested.
 	 *
@@ -19,11 +19,14 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.io.IOException;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Links;
 import org.springframework.hateoas.client.LinkDiscoverer;
 import org.springframework.hateoas.support.MappingUtils;
 
@@ -77,4 +80,36 @@ class CollectionJsonLinkDiscovererUnitTest {
 				.containsExactlyInAnyOrder("https://examples.org/images/jdoe", "https://examples.org/images/msmith",
 						"https://examples.org/images/rwilliams");
 	}
+
+	@Test
+	void skipsStructuredLinkExtensions() {
+
+		String source = "{ \"collection\" : { \"links\" : [" //
+				+ " { \"rel\" : \"self\", \"extension\" : { \"rel\" : \"other\", \"href\" : \"/other\" }," //
+				+ " \"href\" : \"/foo\" }," //
+				+ " { \"rel\" : \"next\", \"href\" : \"/next\" } ] } }";
+
+		assertThat(this.discoverer.findLinks(source)) //
+				.containsExactly(Link.of("/foo"), Link.of("/next", IanaLinkRelations.NEXT));
+	}
+
+	@Test
+	void findsAllLinksInSingleParse() throws IOException {
+
+		String specBasedJson = MappingUtils.read(new ClassPathResource("spec-part2.json", getClass()));
+
+		Links links = this.discoverer.findLinks(specBasedJson);
+
+		assertThat(links.getLink(IanaLinkRelations.SELF)) //
+				.map(Link::getHref) //
+				.hasValue("https://example.org/friends/");
+		assertThat(links.toList().get(0).hasRel(IanaLinkRelations.SELF)).isTrue();
+
+		Stream.of("self", "feed", "blog", "avatar").forEach(it -> {
+			assertThat(links.stream().filter(link -> link.hasRel(it))) //
+					.containsExactlyInAnyOrderElementsOf(this.discoverer.findLinksWithRel(it, specBasedJson));
+		});
+
+		assertThat(links).hasSize(8);
+	}
 }
@@ -70,6 +70,57 @@ class HalLinkDiscovererUnitTest extends LinkDiscovererUnitTest {
 				.hasValue(expected);
 	}
 
+	@Test
+	void ignoresLinksOfEmbeddedResources() {
+
+		String source = "{ \"_embedded\" : { \"foo\" : [ { \"_links\" : { \"self\" : { \"href\" : \"/bar\" } } } ] },"
+				+ " \"_links\" : { \"self\" : { \"href\" : \"/foo\" } } }";
+
+		assertThat(getDiscoverer().findLinksWithRel(IanaLinkRelations.SELF, source)).containsExactly(Link.of("/foo"));
+	}
+
+	@Test
+	void stopsParsingAfterLinksWereFound() {
+
+		String source = "{ \"_links\" : { \"self\" : { \"href\" : \"/foo\" }, \"next\" : [ { \"href\" : \"/next\" } ] },"
+				+ " \"_embedded\" : { \"foo\" : [ { \"truncated";
+
+		assertThat(getDiscoverer().findLinkWithRel(IanaLinkRelations.SELF, source)).hasValue(Link.of("/foo"));
+		assertThat(getDiscoverer().findLinksWithRel(IanaLinkRelations.NEXT, source))
+				.containsExactly(Link.of("/next", IanaLinkRelations.NEXT));
+	}
+
+	@Test
+	void skipsObjectValuedLinkAttributes() {
+
+		String source = "{ \"_links\" : { \"self\" : { \"href\" : \"/foo\"," //
+				+ " \"extension\" : { \"href\" : \"/bar\", \"title\" : [ \"nested\" ] }, \"title\" : \"Foo\" }," //
+				+ " \"next\" : { \"href\" : \"/next\" } } }";
+
+		assertThat(getDiscoverer().findLinks(source)) //
+				.containsExactly(Link.of("/foo").withTitle("Foo"), Link.of("/next", IanaLinkRelations.NEXT));
+	}
+
+	@Test
+	void matchesRelationsExactly() {
+
+		String source = "{ \"_links\" : { \"Self\" : { \"href\" : \"/foo\" } } }";
+
+		assertThat(getDiscoverer().findLinkWithRel(IanaLinkRelations.SELF, source)).isEmpty();
+		assertThat(getDiscoverer().findLinksWithRel(IanaLinkRelations.SELF, source)).isEmpty();
+		assertThat(getDiscoverer().findLinkWithRel("Self", source)).hasValue(Link.of("/foo", "Self"));
+	}
+
+	@Test
+	void usesRequestedRelationForLinksFound() {
+
+		String source = "{ \"_links\" : { \"self\" : { \"href\" : \"/foo\" } } }";
+
+		assertThat(getDiscoverer().findLinkWithRel(IanaLinkRelations.SELF, source)) //
+				.map(Link::getRel) //
+				.hasValueSatisfying(it -> assertThat(it).isSameAs(IanaLinkRelations.SELF));
+	}
+
 	@Override
 	protected LinkDiscoverer getDiscoverer() {
 		return discoverer;
@@ -16,6 +16,8 @@
 package org.springframework.hateoas.mediatype.hal;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -46,7 +48,10 @@ import org.springframework.hateoas.RepresentationModel;
 import org.springframework.hateoas.UriTemplate;
 import org.springframework.hateoas.mediatype.MessageResolver;
 import org.springframework.hateoas.mediatype.hal.HalConfiguration.RenderSingleLinks;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule.EmbeddedMapper;
 import org.springframework.hateoas.mediatype.hal.Jackson2HalModule.HalHandlerInstantiator;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule.HalLinkListSerializer;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule.HalResourcesSerializer;
 import org.springframework.hateoas.server.core.AnnotationLinkRelationProvider;
 import org.springframework.hateoas.server.core.EmbeddedWrappers;
 import org.springframework.hateoas.server.core.Relation;
@@ -55,9 +60,12 @@ import org.springframework.lang.Nullable;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.introspect.Annotated;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
@@ -545,6 +553,66 @@ class Jackson2HalIntegrationTest {
 				.containsKey(IanaLinkRelations.EDIT_FORM.value());
 	}
 
+	@Test
+	void rendersCuriesForCuriedEmbedsWithoutAlteringTheModel() throws Exception {
+
+		CollectionModel<Object> model = CollectionModel.of(Arrays.asList(new SimpleAnnotatedPojo("test1", 1)),
+				Link.of("foo"));
+
+		String result = getCuriedObjectMapper().writeValueAsString(model);
+
+		assertThat(JsonPath.compile("$._embedded").<Map<String, Object>> read(result)).containsKey("foo:pojos");
+		assertThat(JsonPath.compile("$._links").<Map<String, Object>> read(result)).containsKey("curies");
+		assertThat(model.getLinks()).containsExactly(Link.of("foo"));
+	}
+
+	@Test
+	void mapsEmbeddedContentOnlyOncePerModel() throws Exception {
+
+		CurieProvider curieProvider = new DefaultCurieProvider("foo", UriTemplate.of("http://localhost:8080/rels/{rel}"));
+		HalConfiguration configuration = new HalConfiguration();
+		MessageResolver resolver = MessageResolver.of(null);
+		EmbeddedMapper embeddedMapper = spy(new EmbeddedMapper(new AnnotationLinkRelationProvider(), curieProvider, false));
+
+		ObjectMapper mapper = new ObjectMapper();
+		mapper.registerModule(new Jackson2HalModule());
+		mapper.setHandlerInstantiator(new HalHandlerInstantiator(new AnnotationLinkRelationProvider(), curieProvider,
+				resolver, configuration) {
+
+			@Override
+			public JsonSerializer<?> serializerInstance(SerializationConfig config, Annotated annotated, Class<?> type) {
+
+				if (HalResourcesSerializer.class.equals(type)) {
+					return new HalResourcesSerializer(embeddedMapper, configuration);
+				}
+
+				if (HalLinkListSerializer.class.equals(type)) {
+					return new HalLinkListSerializer(curieProvider, embeddedMapper, resolver, configuration);
+				}
+
+				return super.serializerInstance(config, annotated, type);
+			}
+		});
+
+		CollectionModel<Object> model = CollectionModel.of(Arrays.asList(new SimpleAnnotatedPojo("test1", 1)),
+				Link.of("foo"));
+
+		String result = mapper.writeValueAsString(model);
+
+		assertThat(JsonPath.compile("$._links").<Map<String, Object>> read(result)).containsKey("curies");
+		verify(embeddedMapper, times(1)).map(any(Iterable.class));
+	}
+
+	@Test
+	void reusesEmbeddedMapperForPropertyNamingStrategy() {
+
+		EmbeddedMapper mapper = new EmbeddedMapper(new AnnotationLinkRelationProvider(), CurieProvider.NONE, false);
+
+		assertThat(mapper.with(PropertyNamingStrategy.SNAKE_CASE)).isSameAs(mapper.with(PropertyNamingStrategy.SNAKE_CASE));
+		assertThat(mapper.with(PropertyNamingStrategy.SNAKE_CASE).map(LinkRelation.of("someSample"))) //
+				.isEqualTo(HalLinkRelation.uncuried("some_sample"));
+	}
+
 	@Test // #1132
 	void doesNotApplyPropertyNamingStrategyToLinkRelationsIfConfigurationOptsOut() throws Exception {
 
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mediatype.hal;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.HalConfiguration.RenderSingleLinks;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule.HalHandlerInstantiator;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule.HalLink;
+import org.springframework.hateoas.server.core.AnnotationLinkRelationProvider;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Unit tests for {@link StreamingHalLinkWriter}.
+ *
+ * @author Oliver Drotbohm
+ */
+class StreamingHalLinkWriterUnitTest {
+
+	@Test
+	void supportsDefaultHalSetup() {
+
+		ObjectMapper mapper = halObjectMapper(new HalConfiguration());
+
+		assertThat(StreamingHalLinkWriter.INSTANCE.supports(mapper.getSerializerProviderInstance())).isTrue();
+	}
+
+	@Test
+	void rendersLinksLikeDatabindSerializers() throws Exception {
+
+		RepresentationModel<?> model = new RepresentationModel<>();
+		model.add(Link.of("/a{?x}", "foo") //
+				.withTitle("t\"itle") //
+				.withHreflang("en") //
+				.withType("type") //
+				.withDeprecation("deprecation") //
+				.withProfile("profile") //
+				.withName("name"));
+		model.add(Link.of("/b", "bar"));
+		model.add(Link.of("/c", "bar"));
+		model.add(Link.of("/d", "baz"));
+
+		HalConfiguration configuration = new HalConfiguration() //
+				.withRenderSingleLinksFor("baz", RenderSingleLinks.AS_ARRAY);
+
+		assertSameOutput(model, configuration, mapper -> mapper);
+		assertSameOutput(model, configuration, mapper -> mapper.enable(SerializationFeature.INDENT_OUTPUT));
+	}
+
+	@Test
+	void fallsBackToDatabindForCustomizedLinkRendering() throws Exception {
+
+		SimpleModule module = new SimpleModule();
+		module.addSerializer(Link.class, new StdSerializer<Link>(Link.class) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public void serialize(Link value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+				gen.writeString(value.getHref());
+			}
+		});
+
+		assertThat(StreamingHalLinkWriter.INSTANCE.supports( //
+				halObjectMapper(new HalConfiguration()).registerModule(module).getSerializerProviderInstance())).isFalse();
+		assertThat(StreamingHalLinkWriter.INSTANCE.supports( //
+				halObjectMapper(new HalConfiguration()).enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+						.getSerializerProviderInstance())).isFalse();
+		assertThat(StreamingHalLinkWriter.INSTANCE.supports( //
+				HalTestUtils.halObjectMapper().getSerializerProviderInstance())).isFalse();
+	}
+
+	@Test
+	void honorsCustomLinkRelationKeySerializer() throws Exception {
+
+		SimpleModule module = new SimpleModule();
+		module.addKeySerializer(LinkRelation.class, new StdSerializer<LinkRelation>(LinkRelation.class) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public void serialize(LinkRelation value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+				gen.writeFieldName(value.value().toUpperCase(Locale.US));
+			}
+		});
+
+		RepresentationModel<?> model = new RepresentationModel<>();
+		model.add(Link.of("/a", "foo"));
+
+		assertThat(halObjectMapper(new HalConfiguration()).registerModule(module).writeValueAsString(model)) //
+				.contains("\"FOO\"") //
+				.doesNotContain("\"foo\"");
+	}
+
+	private static void assertSameOutput(RepresentationModel<?> model, HalConfiguration configuration,
+			MapperCustomizer customizer) throws Exception {
+
+		ObjectMapper streaming = customizer.customize(halObjectMapper(configuration));
+		ObjectMapper databind = customizer.customize(halObjectMapper(configuration.withLinkWriter(HalLinkWriter.NONE)));
+
+		assertThat(StreamingHalLinkWriter.INSTANCE.supports(streaming.getSerializerProviderInstance())).isTrue();
+		assertThat(streaming.writeValueAsString(model)).isEqualTo(databind.writeValueAsString(model));
+	}
+
+	/**
+	 * Returns a HAL {@link ObjectMapper} with Jackson's default auto-detection settings as the one created by
+	 * {@link HalTestUtils} disables getter detection, which causes {@link HalLink#getTitle()} not to be rendered.
+	 */
+	private static ObjectMapper halObjectMapper(HalConfiguration configuration) {
+
+		ObjectMapper mapper = new ObjectMapper();
+		mapper.registerModule(new Jackson2HalModule());
+		mapper.setHandlerInstantiator(new HalHandlerInstantiator(new AnnotationLinkRelationProvider(), CurieProvider.NONE,
+				MessageResolver.DEFAULTS_ONLY, configuration));
+
+		return mapper;
+	}
+
+	interface MapperCustomizer {
+		ObjectMapper customize(ObjectMapper mapper);
+	}
+}
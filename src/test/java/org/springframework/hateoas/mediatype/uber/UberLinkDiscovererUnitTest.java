@@ -23,6 +23,8 @@ import java.io.IOException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.client.LinkDiscoverer;
 import org.springframework.hateoas.client.LinkDiscovererUnitTest;
 import org.springframework.hateoas.mediatype.hal.HalLinkDiscoverer;
@@ -52,6 +54,17 @@ class UberLinkDiscovererUnitTest extends LinkDiscovererUnitTest {
 		assertThat(getDiscoverer().findLinkWithRel("http://www.foo.com/bar", this.sample)).isNotNull();
 	}
 
+	@Test
+	void skipsStructuredRelationValues() {
+
+		String source = "{ \"uber\" : { \"data\" : [" //
+				+ " { \"rel\" : [ \"self\", { \"rel\" : \"other\" }, [ \"nested\" ] ], \"url\" : \"/foo\" }," //
+				+ " { \"rel\" : [ \"next\" ], \"url\" : \"/next\" } ] } }";
+
+		assertThat(getDiscoverer().findLinks(source)) //
+				.containsExactly(Link.of("/foo"), Link.of("/next", IanaLinkRelations.NEXT));
+	}
+
 	@Override
 	protected LinkDiscoverer getDiscoverer() {
 		return discoverer;
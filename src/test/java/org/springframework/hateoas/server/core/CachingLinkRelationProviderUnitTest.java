@@ -0,0 +1,73 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.server.LinkRelationProvider;
+import org.springframework.hateoas.server.LinkRelationProvider.LookupContext;
+
+/**
+ * Unit tests for {@link CachingLinkRelationProvider}.
+ *
+ * @author Oliver Drotbohm
+ */
+class CachingLinkRelationProviderUnitTest {
+
+	@Test
+	void cachesRelationsPerType() {
+
+		LinkRelationProvider delegate = spy(new EvoInflectorLinkRelationProvider());
+		LinkRelationProvider provider = new CachingLinkRelationProvider(delegate);
+
+		assertThat(provider.getItemResourceRelFor(Sample.class)).isEqualTo(LinkRelation.of("sample"));
+		assertThat(provider.getItemResourceRelFor(Sample.class)).isEqualTo(LinkRelation.of("sample"));
+		assertThat(provider.getCollectionResourceRelFor(Sample.class)).isEqualTo(LinkRelation.of("samples"));
+		assertThat(provider.getCollectionResourceRelFor(Sample.class)).isEqualTo(LinkRelation.of("samples"));
+
+		verify(delegate, times(1)).getCollectionResourceRelFor(Sample.class);
+	}
+
+	@Test
+	void cachesPluginSupport() {
+
+		LinkRelationProvider delegate = spy(new AnnotationLinkRelationProvider());
+		LinkRelationProvider provider = new CachingLinkRelationProvider(delegate);
+		LookupContext context = LookupContext.forItemResourceRelLookup(Sample.class);
+
+		assertThat(provider.supports(context)).isFalse();
+		assertThat(provider.supports(context)).isFalse();
+
+		verify(delegate, times(1)).supports(context);
+	}
+
+	@Test
+	void doesNotCacheFailedLookups() {
+
+		LinkRelationProvider delegate = spy(new AnnotationLinkRelationProvider());
+		LinkRelationProvider provider = new CachingLinkRelationProvider(delegate);
+
+		assertThatIllegalStateException().isThrownBy(() -> provider.getItemResourceRelFor(Sample.class));
+		assertThatIllegalStateException().isThrownBy(() -> provider.getItemResourceRelFor(Sample.class));
+
+		verify(delegate, times(2)).getItemResourceRelFor(Sample.class);
+	}
+
+	static class Sample {}
+}
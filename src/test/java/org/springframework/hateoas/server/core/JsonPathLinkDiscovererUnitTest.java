@@ -15,9 +15,15 @@
  */
 package org.springframework.hateoas.server.core;
 
-import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.client.JsonPathLinkDiscoverer;
 import org.springframework.http.MediaType;
 
@@ -35,4 +41,42 @@ class JsonPathLinkDiscovererUnitTest {
 			new JsonPathLinkDiscoverer(null, MediaType.ALL);
 		});
 	}
+
+	@Test
+	void findsLinksForCommonRelations() {
+
+		JsonPathLinkDiscoverer discoverer = new JsonPathLinkDiscoverer("$.links['%s']", MediaType.ALL);
+		String source = "{ \"links\" : { \"self\" : \"/self\", \"next\" : \"/next\" } }";
+
+		assertThat(discoverer.findLinkWithRel(IanaLinkRelations.SELF, source))
+				.hasValue(Link.of("/self", IanaLinkRelations.SELF));
+		assertThat(discoverer.findLinkWithRel(IanaLinkRelations.NEXT, source))
+				.hasValue(Link.of("/next", IanaLinkRelations.NEXT));
+	}
+
+	@Test
+	void findsSameLinksForRepeatedLookups() {
+
+		JsonPathLinkDiscoverer discoverer = new JsonPathLinkDiscoverer("$.links['%s']", MediaType.ALL);
+		String source = "{ \"links\" : { \"foo\" : \"/foo\" } }";
+
+		assertThat(discoverer.findLinkWithRel("foo", source)).hasValue(Link.of("/foo", "foo"));
+		assertThat(discoverer.findLinkWithRel("foo", source)).hasValue(Link.of("/foo", "foo"));
+		assertThat(discoverer.findLinkWithRel(LinkRelation.of("foo"),
+				new ByteArrayInputStream(source.getBytes(StandardCharsets.UTF_8)))).hasValue(Link.of("/foo", "foo"));
+	}
+
+	@Test
+	void findsLinksForMoreRelationsThanCached() {
+
+		JsonPathLinkDiscoverer discoverer = new JsonPathLinkDiscoverer("$.links['%s']", MediaType.ALL);
+
+		for (int i = 0; i < 1000; i++) {
+
+			String rel = "rel" + i;
+			String source = String.format("{ \"links\" : { \"%s\" : \"/%s\" } }", rel, rel);
+
+			assertThat(discoverer.findLinkWithRel(rel, source)).hasValue(Link.of("/" + rel, rel));
+		}
+	}
 }
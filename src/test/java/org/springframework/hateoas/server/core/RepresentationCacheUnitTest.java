@@ -0,0 +1,147 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.server.core.RepresentationCache.Key;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Unit tests for {@link RepresentationCache}.
+ *
+ * @author Oliver Drotbohm
+ */
+class RepresentationCacheUnitTest {
+
+	static final Method CACHEABLE = ReflectionUtils.findMethod(Sample.class, "cacheable");
+	static final Method OTHER = ReflectionUtils.findMethod(Sample.class, "other");
+
+	@Test
+	void detectsCacheableMethods() {
+
+		assertThat(RepresentationCache.isCacheable(CACHEABLE)).isTrue();
+		assertThat(RepresentationCache.isCacheable(OTHER)).isFalse();
+	}
+
+	@Test
+	void returnsCachedRepresentation() {
+
+		RepresentationCache cache = new RepresentationCache();
+		cache.put(key(CACHEABLE, "/"), MediaTypes.HAL_JSON, new byte[] { 1, 2 });
+
+		assertThat(cache.get(key(CACHEABLE, "/"))).satisfies(it -> {
+			assertThat(it.getContentType()).isEqualTo(MediaTypes.HAL_JSON);
+			assertThat(it.getBody()).containsExactly(1, 2);
+		});
+		assertThat(cache.get(key(CACHEABLE, "https://localhost/"))).isNull();
+	}
+
+	@Test
+	void doesNotExposeCachedBody() {
+
+		RepresentationCache cache = new RepresentationCache();
+		byte[] body = new byte[] { 1, 2 };
+
+		cache.put(key(CACHEABLE, "/"), MediaTypes.HAL_JSON, body);
+		body[0] = 0;
+		cache.get(key(CACHEABLE, "/")).getBody()[1] = 0;
+
+		assertThat(cache.get(key(CACHEABLE, "/")).getBody()).containsExactly(1, 2);
+	}
+
+	@Test
+	void keepsETagOfRepresentation() {
+
+		RepresentationCache cache = new RepresentationCache();
+		cache.put(key(CACHEABLE, "/first"), MediaTypes.HAL_JSON, new byte[] { 1, 2 });
+		cache.put(key(CACHEABLE, "/second"), MediaTypes.HAL_JSON, new byte[] { 1, 2 }, "\"42\"");
+
+		assertThat(cache.get(key(CACHEABLE, "/first")).getETag()).startsWith("\"");
+		assertThat(cache.get(key(CACHEABLE, "/second")).getETag()).isEqualTo("\"42\"");
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedEntryIfMaximumNumberOfEntriesExceeded() {
+
+		RepresentationCache cache = new RepresentationCache(2, 1024);
+
+		cache.put(key(CACHEABLE, "/first"), MediaTypes.HAL_JSON, new byte[1]);
+		cache.put(key(CACHEABLE, "/second"), MediaTypes.HAL_JSON, new byte[1]);
+		cache.get(key(CACHEABLE, "/first"));
+		cache.put(key(CACHEABLE, "/third"), MediaTypes.HAL_JSON, new byte[1]);
+
+		assertThat(cache.getNumberOfEntries()).isEqualTo(2);
+		assertThat(cache.get(key(CACHEABLE, "/first"))).isNotNull();
+		assertThat(cache.get(key(CACHEABLE, "/second"))).isNull();
+	}
+
+	@Test
+	void evictsEntriesIfMaximumSizeExceeded() {
+
+		RepresentationCache cache = new RepresentationCache(10, 10);
+
+		cache.put(key(CACHEABLE, "/first"), MediaTypes.HAL_JSON, new byte[6]);
+		cache.put(key(CACHEABLE, "/second"), MediaTypes.HAL_JSON, new byte[6]);
+
+		assertThat(cache.getSize()).isEqualTo(6);
+		assertThat(cache.get(key(CACHEABLE, "/first"))).isNull();
+
+		cache.put(key(CACHEABLE, "/third"), MediaTypes.HAL_JSON, new byte[11]);
+
+		assertThat(cache.get(key(CACHEABLE, "/third"))).isNull();
+		assertThat(cache.get(key(CACHEABLE, "/second"))).isNotNull();
+	}
+
+	@Test
+	void evictsEntriesByHandlerMethod() {
+
+		RepresentationCache cache = new RepresentationCache();
+
+		cache.put(key(CACHEABLE, "/first"), MediaTypes.HAL_JSON, new byte[1]);
+		cache.put(key(CACHEABLE, "/second"), MediaTypes.HAL_JSON, new byte[1]);
+		cache.put(key(OTHER, "/first"), MediaTypes.HAL_JSON, new byte[1]);
+
+		cache.evict(CACHEABLE);
+
+		assertThat(cache.getNumberOfEntries()).isEqualTo(1);
+		assertThat(cache.getSize()).isEqualTo(1);
+		assertThat(cache.get(key(OTHER, "/first"))).isNotNull();
+
+		cache.evictAll();
+
+		assertThat(cache.getNumberOfEntries()).isZero();
+		assertThat(cache.getSize()).isZero();
+	}
+
+	private static Key key(Method method, String baseUri) {
+		return Key.of(method, baseUri, Collections.singletonList(MediaTypes.HAL_JSON), Locale.US);
+	}
+
+	static class Sample {
+
+		@CacheableRepresentation
+		void cacheable() {}
+
+		void other() {}
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.mvc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.lang.Nullable;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests for {@link CompositeHypermediaHttpMessageConverter}.
+ *
+ * @author Oliver Drotbohm
+ */
+class CompositeHypermediaHttpMessageConverterUnitTest {
+
+	CountingConverter hal = new CountingConverter(MediaTypes.HAL_JSON, new ObjectMapper());
+	CountingConverter collectionJson = new CountingConverter(MediaTypes.COLLECTION_JSON,
+			new ObjectMapper().setSerializationInclusion(Include.NON_EMPTY));
+
+	CompositeHypermediaHttpMessageConverter converter = new CompositeHypermediaHttpMessageConverter(
+			Arrays.asList(hal, collectionJson));
+
+	@Test
+	void rejectsEmptyConverters() {
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new CompositeHypermediaHttpMessageConverter(Collections.emptyList()));
+	}
+
+	@Test
+	void exposesMediaTypesOfAllConverters() {
+		assertThat(converter.getSupportedMediaTypes()).containsExactly(MediaTypes.HAL_JSON, MediaTypes.COLLECTION_JSON);
+	}
+
+	@Test
+	void dispatchesOnTypeAndMediaType() {
+
+		assertThat(converter.canWrite(RepresentationModel.class, MediaTypes.HAL_JSON)).isTrue();
+		assertThat(converter.canWrite(RepresentationModel.class, MediaTypes.COLLECTION_JSON)).isTrue();
+		assertThat(converter.canWrite(RepresentationModel.class, MediaType.APPLICATION_XML)).isFalse();
+		assertThat(converter.canWrite(Object.class, MediaTypes.HAL_JSON)).isFalse();
+		assertThat(converter.canRead(RepresentationModel.class, MediaTypes.COLLECTION_JSON)).isTrue();
+		assertThat(converter.canRead(Object.class, MediaTypes.COLLECTION_JSON)).isFalse();
+	}
+
+	@Test
+	void cachesConverterLookups() {
+
+		converter.canWrite(RepresentationModel.class, MediaTypes.COLLECTION_JSON);
+		converter.canWrite(RepresentationModel.class, MediaTypes.COLLECTION_JSON);
+		converter.canWrite(null, RepresentationModel.class, MediaTypes.COLLECTION_JSON);
+
+		assertThat(hal.invocations).isEqualTo(1);
+		assertThat(collectionJson.invocations).isEqualTo(1);
+	}
+
+	@Test
+	void writesUsingConverterForContentType() throws Exception {
+
+		MockHttpOutputMessage message = new MockHttpOutputMessage();
+		converter.write(new RepresentationModel<>(), MediaTypes.COLLECTION_JSON, message);
+
+		assertThat(message.getHeaders().getContentType().isCompatibleWith(MediaTypes.COLLECTION_JSON)).isTrue();
+		assertThat(message.getBodyAsString()).isEqualTo("{}");
+
+		message = new MockHttpOutputMessage();
+		converter.write(new RepresentationModel<>(), MediaTypes.HAL_JSON, message);
+
+		assertThat(message.getBodyAsString()).contains("links");
+	}
+
+	@Test
+	void cachesConverterLookupsIgnoringMediaTypeParameters() {
+
+		converter.canWrite(RepresentationModel.class, MediaType.parseMediaType("application/hal+json;foo=bar"));
+		converter.canWrite(RepresentationModel.class, MediaType.parseMediaType("application/hal+json;foo=baz"));
+		converter.canWrite(RepresentationModel.class, MediaType.parseMediaType("application/hal+json;foo=baz;q=0.5"));
+
+		assertThat(hal.invocations).isEqualTo(1);
+	}
+
+	@Test
+	void writesJsonViewWrappedValue() throws Exception {
+
+		MappingJacksonValue value = new MappingJacksonValue(new ViewModel());
+		value.setSerializationView(Summary.class);
+
+		MockHttpOutputMessage message = new MockHttpOutputMessage();
+		converter.write(value, MediaTypes.HAL_JSON, message);
+
+		assertThat(message.getBodyAsString()).contains("summary").doesNotContain("detail");
+	}
+
+	interface Summary {}
+
+	interface Detail {}
+
+	static class ViewModel extends RepresentationModel<ViewModel> {
+
+		@JsonView(Summary.class) public String summary = "summary";
+		@JsonView(Detail.class) public String detail = "detail";
+	}
+
+	static class CountingConverter extends TypeConstrainedMappingJackson2HttpMessageConverter {
+
+		int invocations = 0;
+
+		CountingConverter(MediaType mediaType, ObjectMapper mapper) {
+			super(RepresentationModel.class, Collections.singletonList(mediaType), mapper);
+		}
+
+		@Override
+		public boolean canWrite(Class<?> clazz, @Nullable MediaType mediaType) {
+
+			invocations++;
+
+			return super.canWrite(clazz, mediaType);
+		}
+	}
+}
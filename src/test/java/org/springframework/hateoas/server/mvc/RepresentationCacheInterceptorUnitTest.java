@@ -0,0 +1,156 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.mvc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.server.core.CacheableRepresentation;
+import org.springframework.hateoas.server.core.RepresentationCache;
+import org.springframework.hateoas.server.core.RepresentationCache.Key;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.method.HandlerMethod;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests for {@link RepresentationCacheInterceptor} and the caching in
+ * {@link TypeConstrainedMappingJackson2HttpMessageConverter}.
+ *
+ * @author Oliver Drotbohm
+ */
+class RepresentationCacheInterceptorUnitTest {
+
+	RepresentationCache cache = new RepresentationCache();
+	RepresentationCacheInterceptor interceptor = new RepresentationCacheInterceptor(cache);
+
+	MockHttpServletRequest request;
+	MockHttpServletResponse response;
+
+	@BeforeEach
+	void setUp() {
+
+		this.request = new MockHttpServletRequest("GET", "/");
+		this.request.addHeader(HttpHeaders.ACCEPT, MediaTypes.HAL_JSON_VALUE);
+		this.response = new MockHttpServletResponse();
+
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+	}
+
+	@AfterEach
+	void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	void ignoresHandlersNotAnnotatedForCaching() throws Exception {
+
+		assertThat(interceptor.preHandle(request, response, handler("other"))).isTrue();
+		assertThat(request.getAttribute(RepresentationCacheInterceptor.KEY_ATTRIBUTE)).isNull();
+	}
+
+	@Test
+	void cachesRepresentationWrittenOnCacheMissAndAnswersSubsequentRequestFromCache() throws Exception {
+
+		assertThat(interceptor.preHandle(request, response, handler("cacheable"))).isTrue();
+		assertThat(request.getAttribute(RepresentationCacheInterceptor.KEY_ATTRIBUTE)).isInstanceOf(Key.class);
+
+		TypeConstrainedMappingJackson2HttpMessageConverter converter = new TypeConstrainedMappingJackson2HttpMessageConverter(
+				RepresentationModel.class, Collections.singletonList(MediaTypes.HAL_JSON), new ObjectMapper());
+		converter.setRepresentationCache(cache);
+		converter.write(new RepresentationModel<>(), MediaTypes.HAL_JSON, new ServletServerHttpResponse(response));
+
+		String body = response.getContentAsString();
+
+		assertThat(cache.getNumberOfEntries()).isEqualTo(1);
+
+		setUp();
+
+		assertThat(interceptor.preHandle(request, response, handler("cacheable"))).isFalse();
+		assertThat(response.getContentType()).startsWith(MediaTypes.HAL_JSON_VALUE);
+		assertThat(response.getContentAsString()).isEqualTo(body);
+	}
+
+	@Test
+	void answersConditionalRequestFromCacheWithNotModified() throws Exception {
+
+		assertThat(interceptor.preHandle(request, response, handler("cacheable"))).isTrue();
+
+		Key key = (Key) request.getAttribute(RepresentationCacheInterceptor.KEY_ATTRIBUTE);
+		cache.put(key, MediaTypes.HAL_JSON, new byte[] { 1, 2 });
+		String eTag = cache.get(key).getETag();
+
+		setUp();
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+
+		assertThat(interceptor.preHandle(request, response, handler("cacheable"))).isFalse();
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+		assertThat(response.getContentAsByteArray()).isEmpty();
+	}
+
+	@Test
+	void exposesETagForRepresentationAnsweredFromCache() throws Exception {
+
+		assertThat(interceptor.preHandle(request, response, handler("cacheable"))).isTrue();
+
+		Key key = (Key) request.getAttribute(RepresentationCacheInterceptor.KEY_ATTRIBUTE);
+		cache.put(key, MediaTypes.HAL_JSON, new byte[] { 1, 2 }, "\"42\"");
+
+		setUp();
+
+		assertThat(interceptor.preHandle(request, response, handler("cacheable"))).isFalse();
+		assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"42\"");
+		assertThat(response.getContentAsByteArray()).containsExactly(1, 2);
+	}
+
+	@Test
+	void skipsCachingForInvalidAcceptHeader() throws Exception {
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+		request.addHeader(HttpHeaders.ACCEPT, "invalid");
+
+		assertThat(interceptor.preHandle(request, response, handler("cacheable"))).isTrue();
+		assertThat(request.getAttribute(RepresentationCacheInterceptor.KEY_ATTRIBUTE)).isNull();
+	}
+
+	private static HandlerMethod handler(String name) throws Exception {
+		return new HandlerMethod(new SampleController(), name);
+	}
+
+	static class SampleController {
+
+		@CacheableRepresentation
+		public RepresentationModel<?> cacheable() {
+			return new RepresentationModel<>();
+		}
+
+		public RepresentationModel<?> other() {
+			return new RepresentationModel<>();
+		}
+	}
+}
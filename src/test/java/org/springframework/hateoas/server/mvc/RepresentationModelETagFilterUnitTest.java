@@ -0,0 +1,177 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.mvc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Unit tests for {@link RepresentationModelETagFilter}.
+ *
+ * @author Oliver Drotbohm
+ */
+class RepresentationModelETagFilterUnitTest {
+
+	static final String BODY = "{ \"_links\" : { \"self\" : { \"href\" : \"/\" } } }";
+
+	RepresentationModelETagFilter filter = new RepresentationModelETagFilter();
+
+	@Test
+	void addsETagToHypermediaResponse() throws Exception {
+
+		MockHttpServletResponse response = execute(new MockHttpServletRequest("GET", "/"), MediaTypes.HAL_JSON_VALUE);
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+		assertThat(response.getHeader(HttpHeaders.ETAG)).startsWith("\"");
+		assertThat(response.getContentAsString()).isEqualTo(BODY);
+		assertThat(response.getContentLength()).isEqualTo(BODY.getBytes(StandardCharsets.UTF_8).length);
+	}
+
+	@Test
+	void answersMatchingConditionalRequestWithNotModified() throws Exception {
+
+		String etag = execute(new MockHttpServletRequest("GET", "/"), MediaTypes.HAL_JSON_VALUE)
+				.getHeader(HttpHeaders.ETAG);
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+
+		MockHttpServletResponse response = execute(request, MediaTypes.HAL_JSON_VALUE);
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+		assertThat(response.getContentAsString()).isEmpty();
+	}
+
+	@Test
+	void doesNotTouchNonHypermediaResponses() throws Exception {
+
+		MockHttpServletResponse response = execute(new MockHttpServletRequest("GET", "/"),
+				MediaType.APPLICATION_JSON_VALUE);
+
+		assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+		assertThat(response.getContentAsString()).isEqualTo(BODY);
+	}
+
+	@Test
+	void doesNotTouchResponsesToNonGetRequests() throws Exception {
+
+		MockHttpServletResponse response = execute(new MockHttpServletRequest("POST", "/"), MediaTypes.HAL_JSON_VALUE);
+
+		assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+		assertThat(response.getContentAsString()).isEqualTo(BODY);
+	}
+
+	@Test
+	void delegatesWriteListenerToActualResponse() throws Exception {
+
+		ServletOutputStream stream = mock(ServletOutputStream.class);
+		WriteListener listener = mock(WriteListener.class);
+
+		HttpServletResponse response = new HttpServletResponseWrapper(new MockHttpServletResponse()) {
+
+			@Override
+			public ServletOutputStream getOutputStream() {
+				return stream;
+			}
+		};
+
+		HttpServlet servlet = new HttpServlet() {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+				response.setContentType(MediaTypes.HAL_JSON_VALUE);
+				response.getOutputStream().setWriteListener(listener);
+			}
+		};
+
+		filter.doFilter(new MockHttpServletRequest("GET", "/"), response, new MockFilterChain(servlet));
+
+		verify(stream).setWriteListener(listener);
+	}
+
+	@Test
+	void writesBufferedBodyIfRequestProcessingFails() throws Exception {
+
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		HttpServlet servlet = new HttpServlet() {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected void service(HttpServletRequest request, HttpServletResponse response)
+					throws IOException, ServletException {
+
+				response.setContentType(MediaTypes.HAL_JSON_VALUE);
+				response.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+
+				throw new ServletException("Failure!");
+			}
+		};
+
+		assertThatExceptionOfType(ServletException.class) //
+				.isThrownBy(() -> filter.doFilter(new MockHttpServletRequest("GET", "/"), response,
+						new MockFilterChain(servlet)));
+
+		assertThat(response.getContentAsString()).isEqualTo(BODY);
+	}
+
+	private MockHttpServletResponse execute(MockHttpServletRequest request, String contentType) throws Exception {
+
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		HttpServlet servlet = new HttpServlet() {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected void service(HttpServletRequest request, HttpServletResponse response)
+					throws IOException {
+
+				response.setContentType(contentType);
+				response.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+				response.flushBuffer();
+			}
+		};
+
+		filter.doFilter(request, response, new MockFilterChain(servlet));
+
+		return response;
+	}
+}
@@ -41,16 +41,23 @@ import org.springframework.core.ResolvableType;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.PagedModel.PageMetadata;
 import org.springframework.hateoas.server.RepresentationModelProcessor;
 import org.springframework.hateoas.server.core.EmbeddedWrappers;
 import org.springframework.hateoas.server.core.HeaderLinksResponseEntity;
+import org.springframework.hateoas.server.core.RepresentationModelETags;
 import org.springframework.hateoas.server.mvc.RepresentationModelProcessorInvoker.CollectionModelProcessorWrapper;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.ModelAndViewContainer;
 
 /**
  * Unit tests for {@link RepresentationModelProcessorHandlerMethodReturnValueHandler}.
@@ -314,6 +321,73 @@ class ResourceProcessorHandlerMethodReturnValueHandlerUnitTest {
 		invokeReturnValueHandler("wildcardedResources", FOOS, BARS);
 	}
 
+	@Test
+	void answersConditionalRequestForUnmodifiedVersionWithoutInvokingProcessors() throws Exception {
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+		request.addHeader(HttpHeaders.ACCEPT, MediaTypes.HAL_JSON_VALUE);
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, RepresentationModelETags.fromVersion(42, MediaTypes.HAL_JSON_VALUE));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		ModelAndViewContainer container = new ModelAndViewContainer();
+
+		RepresentationModelProcessorHandlerMethodReturnValueHandler handler = new RepresentationModelProcessorHandlerMethodReturnValueHandler(
+				delegate, () -> new RepresentationModelProcessorInvoker(resourceProcessors));
+		handler.setVersionResolver(model -> 42);
+		handler.handleReturnValue(FOO, METHOD_PARAMS.get("stringResourceEntity"), container,
+				new ServletWebRequest(request, response));
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+		assertThat(container.isRequestHandled()).isTrue();
+		verify(delegate, never()).handleReturnValue(any(), any(), any(), any());
+	}
+
+	@Test
+	void exposesETagForModifiedVersion() throws Exception {
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, RepresentationModelETags.fromVersion(41, null));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		ServletWebRequest webRequest = new ServletWebRequest(request, response);
+		MethodParameter parameter = METHOD_PARAMS.get("stringResourceEntity");
+
+		RepresentationModelProcessorHandlerMethodReturnValueHandler handler = new RepresentationModelProcessorHandlerMethodReturnValueHandler(
+				delegate, () -> new RepresentationModelProcessorInvoker(resourceProcessors));
+		handler.setVersionResolver(model -> 42);
+		handler.handleReturnValue(FOO, parameter, null, webRequest);
+
+		assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(RepresentationModelETags.fromVersion(42, null));
+		verify(delegate).handleReturnValue(FOO, parameter, null, webRequest);
+	}
+
+	@Test
+	void doesNotAnswerConditionalRequestForNonOkResponseEntity() throws Exception {
+		assertNoVersionETagFor(ResponseEntity.status(HttpStatus.CREATED).body(FOO));
+	}
+
+	@Test
+	void doesNotAnswerConditionalRequestForResponseEntityWithExplicitETag() throws Exception {
+		assertNoVersionETagFor(ResponseEntity.ok().eTag("\"explicit\"").body(FOO));
+	}
+
+	private void assertNoVersionETagFor(ResponseEntity<?> entity) throws Exception {
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, RepresentationModelETags.fromVersion(42, null));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		ModelAndViewContainer container = new ModelAndViewContainer();
+
+		RepresentationModelProcessorHandlerMethodReturnValueHandler handler = new RepresentationModelProcessorHandlerMethodReturnValueHandler(
+				delegate, () -> new RepresentationModelProcessorInvoker(resourceProcessors));
+		handler.setVersionResolver(model -> 42);
+		handler.handleReturnValue(entity, METHOD_PARAMS.get("stringResourceEntity"), container,
+				new ServletWebRequest(request, response));
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+		assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+		assertThat(container.isRequestHandled()).isFalse();
+		verify(delegate).handleReturnValue(any(), any(), any(), any());
+	}
+
 	private void invokeReturnValueHandler(String method, Object returnValue, Object expected) throws Exception {
 
 		MethodParameter methodParam = METHOD_PARAMS.get(method);
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.mvc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.TestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.util.UriComponents;
+
+/**
+ * Unit tests for {@link UriComponentsBuilderFactory}.
+ *
+ * @author Oliver Drotbohm
+ */
+class UriComponentsBuilderFactoryUnitTest extends TestUtils {
+
+	@AfterEach
+	void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	void resolvesBaseUriOncePerRequest() {
+
+		request.setContextPath("/context");
+
+		UriComponents components = UriComponentsBuilderFactory.getComponents();
+
+		assertThat(components.toUriString()).isEqualTo("http://localhost/context");
+		assertThat(UriComponentsBuilderFactory.getComponents()).isSameAs(components);
+		assertThat(UriComponentsBuilderFactory.getComponents(request)).isSameAs(components);
+	}
+
+	@Test
+	void buildersDoNotAffectCachedBaseUri() {
+
+		UriComponentsBuilderFactory.getBuilder().path("/foo").build();
+
+		assertThat(UriComponentsBuilderFactory.getBuilder().path("/bar").build().toUriString())
+				.isEqualTo("http://localhost/bar");
+		assertThat(UriComponentsBuilderFactory.getComponents().toUriString()).isEqualTo("http://localhost");
+	}
+
+	@Test
+	void fallsBackToRelativeUrisOutsideOfRequest() {
+
+		RequestContextHolder.resetRequestAttributes();
+
+		assertThat(UriComponentsBuilderFactory.getComponents().toUriString()).isEqualTo("/");
+		assertThat(UriComponentsBuilderFactory.getBuilder().path("/foo").build().toUriString()).isEqualTo("/foo");
+	}
+}
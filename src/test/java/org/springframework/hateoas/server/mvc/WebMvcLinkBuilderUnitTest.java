@@ -20,15 +20,20 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
 
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.TemplateVariable;
 import org.springframework.hateoas.TemplateVariable.VariableType;
 import org.springframework.hateoas.TestUtils;
+import org.springframework.hateoas.server.core.LinkTemplate;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.MultiValueMap;
@@ -625,6 +630,66 @@ class WebMvcLinkBuilderUnitTest extends TestUtils {
 		assertThat(link.getHref()).endsWith("/api?view=short");
 	}
 
+	@Test
+	void expandsLinkTemplateForPathVariables() {
+
+		LinkTemplate template = linkTemplate(methodOn(ControllerWithMethods.class).methodWithPathVariable(null));
+
+		assertThat(template.getVariableNames()).containsExactly("id");
+
+		Link link = template.expand("with blank");
+		Link reference = linkTo(methodOn(ControllerWithMethods.class).methodWithPathVariable("with blank")).withSelfRel();
+
+		assertThat(link.getRel()).isEqualTo(IanaLinkRelations.SELF);
+		assertThat(link.getHref()).isEqualTo(reference.getHref());
+		assertThat(link.getAffordances()).hasSameSizeAs(reference.getAffordances());
+		assertThat(getUri(link)).isEqualTo(getUri(reference));
+	}
+
+	@Test
+	void expandsLinkTemplateForRequestParametersKeepingOptionalOnesAsTemplateVariables() {
+
+		LinkTemplate template = linkTemplate(methodOn(ControllerWithMethods.class).methodForNextPage(null, null, null));
+
+		assertThat(template.getVariableNames()).containsExactly("id", "limit");
+		assertThat(template.expand("1", 5).getHref()).endsWith("/something/1/foo?limit=5{&offset}");
+
+		Map<String, Object> values = new HashMap<>();
+		values.put("id", "2");
+		values.put("limit", 10);
+
+		assertThat(template.expand(values).getHref()).endsWith("/something/2/foo?limit=10{&offset}");
+	}
+
+	@Test
+	void stripsRegularExpressionsFromLinkTemplateVariables() {
+
+		LinkTemplate template = linkTemplate(
+				methodOn(ControllerWithMethods.class).methodWithRegexPathVariables(null, null));
+
+		assertThat(template.getVariableNames()).containsExactly("id", "name");
+
+		Link reference = linkTo(methodOn(ControllerWithMethods.class).methodWithRegexPathVariables("123", "abc"))
+				.withSelfRel();
+
+		assertThat(template.expand("123", "abc").getHref()) //
+				.endsWith("/something/123/abc") //
+				.isEqualTo(reference.getHref());
+	}
+
+	@Test
+	void rejectsMissingValuesForLinkTemplate() {
+
+		LinkTemplate template = linkTemplate(methodOn(ControllerWithMethods.class).methodWithPathVariable(null));
+
+		assertThatIllegalArgumentException().isThrownBy(() -> template.expand());
+		assertThatIllegalArgumentException().isThrownBy(() -> template.expand(Collections.emptyMap()));
+	}
+
+	private static String getUri(Link link) {
+		return link.getAffordances().get(0).getAffordanceModel(MediaTypes.HAL_FORMS_JSON).getURI();
+	}
+
 	private static UriComponents toComponents(Link link) {
 		return UriComponentsBuilder.fromUriString(link.expand().getHref()).build();
 	}
@@ -669,6 +734,11 @@ class WebMvcLinkBuilderUnitTest extends TestUtils {
 			return null;
 		}
 
+		@RequestMapping("/{id:\\d{3}}/{name:[a-z]+}")
+		HttpEntity<Void> methodWithRegexPathVariables(@PathVariable String id, @PathVariable String name) {
+			return null;
+		}
+
 		@RequestMapping("/foo")
 		HttpEntity<Void> methodWithRequestParam(@RequestParam String id) {
 			return null;
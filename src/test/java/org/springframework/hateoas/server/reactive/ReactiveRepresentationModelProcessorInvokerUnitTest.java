@@ -0,0 +1,153 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.reactive;
+
+import static org.assertj.core.api.Assertions.*;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.support.Employee;
+
+/**
+ * Unit tests for {@link ReactiveRepresentationModelProcessorInvoker}.
+ *
+ * @author Oliver Drotbohm
+ */
+class ReactiveRepresentationModelProcessorInvokerUnitTest {
+
+	@Test
+	void invokesProcessorForMatchingEntityModel() {
+
+		ReactiveRepresentationModelProcessorInvoker invoker = new ReactiveRepresentationModelProcessorInvoker(
+				Collections.singletonList(new EmployeeProcessor()));
+
+		invoker.invokeProcessorsFor(EntityModel.of(new Employee("Frodo", "ring bearer"))) //
+				.as(StepVerifier::create) //
+				.expectNextMatches(it -> it.hasLink("employee-processor")) //
+				.verifyComplete();
+
+		invoker.invokeProcessorsFor(EntityModel.of("Frodo")) //
+				.as(StepVerifier::create) //
+				.expectNextMatches(it -> !it.hasLink("employee-processor")) //
+				.verifyComplete();
+	}
+
+	@Test
+	void processesElementsBeforeCollectionModel() {
+
+		ReactiveRepresentationModelProcessorInvoker invoker = new ReactiveRepresentationModelProcessorInvoker(
+				Arrays.asList(new EmployeeProcessor(), new EmployeesProcessor()), 1);
+
+		CollectionModel<EntityModel<Employee>> model = CollectionModel.of(Arrays.asList( //
+				EntityModel.of(new Employee("Frodo", "ring bearer")), //
+				EntityModel.of(new Employee("Sam", "gardener"))));
+
+		invoker.invokeProcessorsFor(model) //
+				.as(StepVerifier::create) //
+				.expectNextMatches(it -> {
+
+					assertThat(it.hasLink("employees-processor")).isTrue();
+					assertThat(it.getContent()).allMatch(element -> element.hasLink("employee-processor"));
+
+					return true;
+				}) //
+				.verifyComplete();
+	}
+
+	@Test
+	void doesNotInvokeCollectionModelProcessorForEmptyCollectionModel() {
+
+		ReactiveRepresentationModelProcessorInvoker invoker = new ReactiveRepresentationModelProcessorInvoker(
+				Collections.singletonList(new EmployeesProcessor()));
+
+		invoker.invokeProcessorsFor(CollectionModel.<EntityModel<Employee>> empty()) //
+				.as(StepVerifier::create) //
+				.expectNextMatches(it -> !it.hasLink("employees-processor")) //
+				.verifyComplete();
+	}
+
+	@Test
+	void usesElementsReturnedByProcessors() {
+
+		ReactiveRepresentationModelProcessorInvoker invoker = new ReactiveRepresentationModelProcessorInvoker(
+				Collections.singletonList(new ReplacingEmployeeProcessor()));
+
+		CollectionModel<EntityModel<Employee>> model = CollectionModel.of( //
+				Collections.singletonList(EntityModel.of(new Employee("Frodo", "ring bearer"))), //
+				Link.of("/employees"));
+
+		invoker.invokeProcessorsFor(model) //
+				.as(StepVerifier::create) //
+				.expectNextMatches(it -> {
+
+					assertThat(it.getContent()).allMatch(element -> element.hasLink("replaced"));
+					assertThat(it.hasLink("self")).isTrue();
+
+					return true;
+				}) //
+				.verifyComplete();
+	}
+
+	@Test
+	void rejectsProcessorWithUnresolvableModelType() {
+
+		ReactiveRepresentationModelProcessor<EntityModel<Employee>> processor = Mono::just;
+
+		assertThatIllegalArgumentException() //
+				.isThrownBy(() -> new ReactiveRepresentationModelProcessorInvoker(Collections.singletonList(processor))) //
+				.withMessageContaining(processor.getClass().getName());
+	}
+
+	@Test
+	void rejectsInvalidConcurrency() {
+
+		assertThatIllegalArgumentException() //
+				.isThrownBy(() -> new ReactiveRepresentationModelProcessorInvoker(Collections.emptyList(), 0));
+	}
+
+	static class EmployeeProcessor implements ReactiveRepresentationModelProcessor<EntityModel<Employee>> {
+
+		@Override
+		public Mono<EntityModel<Employee>> process(EntityModel<Employee> model) {
+			return Mono.fromSupplier(() -> model.add(Link.of("/processed", "employee-processor")));
+		}
+	}
+
+	static class EmployeesProcessor
+			implements ReactiveRepresentationModelProcessor<CollectionModel<EntityModel<Employee>>> {
+
+		@Override
+		public Mono<CollectionModel<EntityModel<Employee>>> process(CollectionModel<EntityModel<Employee>> model) {
+			return Mono.fromSupplier(() -> model.add(Link.of("/processed", "employees-processor")));
+		}
+	}
+
+	static class ReplacingEmployeeProcessor implements ReactiveRepresentationModelProcessor<EntityModel<Employee>> {
+
+		@Override
+		public Mono<EntityModel<Employee>> process(EntityModel<Employee> model) {
+			return Mono.just(EntityModel.of(model.getContent(), Link.of("/replaced", "replaced")));
+		}
+	}
+}
@@ -36,11 +36,13 @@ import org.springframework.hateoas.server.reactive.WebFluxLinkBuilder.WebFluxLin
 import org.springframework.http.HttpEntity;
 import org.springframework.lang.Nullable;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponents;
 
 /**
  * Unit tests for {@link WebFluxLinkBuilder}.
@@ -239,6 +241,34 @@ class WebFluxLinkBuilderTest {
 		});
 	}
 
+	@Test
+	void buildsLinkSynchronouslyForExplicitServerExchange() {
+
+		MockServerWebExchange serverExchange = MockServerWebExchange.from(MockServerHttpRequest //
+				.get("http://localhost:8080/context/api?some=parameter") //
+				.contextPath("/context"));
+
+		Link link = builderFor(methodOn(TestController.class).deep(), serverExchange).withSelfRel();
+
+		assertThat(link.getRel()).isEqualTo(IanaLinkRelations.SELF);
+		assertThat(link.getHref()).isEqualTo("http://localhost:8080/context/api/employees");
+	}
+
+	@Test
+	void cachesBaseUriPerServerExchange() {
+
+		MockServerWebExchange serverExchange = MockServerWebExchange
+				.from(MockServerHttpRequest.get("http://localhost:8080/api"));
+
+		assertThat(builderFor(methodOn(TestController.class).root(), serverExchange).withSelfRel().getHref())
+				.isEqualTo("http://localhost:8080/api");
+		assertThat(serverExchange.getAttributes().values()) //
+				.filteredOn(UriComponents.class::isInstance) //
+				.hasSize(1);
+		assertThat(builderFor(methodOn(TestController.class).deep(), serverExchange).withSelfRel().getHref())
+				.isEqualTo("http://localhost:8080/api/employees");
+	}
+
 	private void verify(@Nullable MockServerHttpRequest request, WebFluxLink link, Consumer<Link> verifications) {
 
 		Mono<Link> mono = link.toMono();